@@ -0,0 +1,461 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Сравнение всех операций {@link ArrayList} с {@link java.util.ArrayList} на размерах от 16 до 10 млн элементов.
+ * Методы {@code custom*} измеряют {@link ArrayList}, методы {@code jdk*} - эталонный {@link java.util.ArrayList}.
+ * <p>
+ * Операции, меняющие длину списка ({@code add(int, T)}, {@code remove(int)}, {@code remove(T)}), выполняются парой
+ * с дешевой обратной операцией в конце списка, чтобы размер оставался постоянным между вызовами.
+ * Разрушающие операции ({@code sort}, {@code removeIf}, {@code removeRange}) получают свежую копию данных
+ * перед каждым вызовом. Диапазон {@code subList} у обоих списков - представление, копия снимается через {@code toArray()},
+ * снимку {@code snapshot} соответствует копирующий конструктор. {@code containsAll} ищет 64 элемента из конца списка.
+ * {@code equalsLastDiffers} сравнивает список с копией, отличающейся последним элементом, хеш-коды обоих списков уже вычислены.
+ *
+ * @see <a href="https://github.com/openjdk/jmh">JMH</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayListBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576", "10000000"})
+    private int size;
+
+    private final Comparator<Integer> comparator = Integer::compareTo;
+    private final Predicate<Integer> evenFilter = x -> (x & 1) == 0;
+    private final UnaryOperator<Integer> negate = x -> -x;
+
+    private Integer[] source;
+    private Integer middleValue;
+    private Integer lastValue;
+    private List<Integer> probe;
+
+    private ArrayList<Integer> custom;
+    private java.util.ArrayList<Integer> jdk;
+    private ArrayList<Integer> customOther;
+    private java.util.ArrayList<Integer> jdkOther;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        middleValue = source[size / 2];
+        lastValue = source[size - 1];
+        probe = java.util.Arrays.asList(source).subList(Math.max(0, size - 64), size);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        custom = new ArrayList<>(source.clone());
+        jdk = new java.util.ArrayList<>(java.util.Arrays.asList(source));
+        Integer[] other = source.clone();
+        other[size - 1] = ~lastValue;
+        customOther = new ArrayList<>(other);
+        jdkOther = new java.util.ArrayList<>(java.util.Arrays.asList(other));
+        custom.hashCode();
+        customOther.hashCode();
+    }
+
+    /**
+     * Свежие копии для разрушающих операций. Для малых размеров накладные расходы
+     * {@link Level#Invocation} сопоставимы с самой операцией, поэтому сравнивать следует только
+     * {@code custom*} и {@code jdk*} между собой
+     */
+    @State(Scope.Thread)
+    public static class Fresh {
+        ArrayList<Integer> custom;
+        java.util.ArrayList<Integer> jdk;
+
+        @Setup(Level.Invocation)
+        public void setUp(ArrayListBenchmark benchmark) {
+            custom = new ArrayList<>(benchmark.source.clone());
+            jdk = new java.util.ArrayList<>(java.util.Arrays.asList(benchmark.source));
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customAdd() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkAdd() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customAddReserved() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkAddReserved() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customAddGeometric2() {
+        ArrayList<Integer> list = new ArrayList<>(16, GrowthPolicy.geometric(2));
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Integer customAddAtIndex() {
+        custom.add(size / 2, middleValue);
+        return custom.remove(custom.length() - 1);
+    }
+
+    @Benchmark
+    public Integer jdkAddAtIndex() {
+        jdk.add(size / 2, middleValue);
+        return jdk.remove(jdk.size() - 1);
+    }
+
+    @Benchmark
+    public Integer customAddAtFront() {
+        custom.add(0, middleValue);
+        return custom.remove(custom.length() - 1);
+    }
+
+    @Benchmark
+    public Integer jdkAddAtFront() {
+        jdk.add(0, middleValue);
+        return jdk.remove(jdk.size() - 1);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customAddAll() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(custom);
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkAddAll() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        list.addAll(jdk);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customAddAllAtIndex() {
+        ArrayList<Integer> list = new ArrayList<>(source.clone());
+        list.addAll(size / 2, custom);
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkAddAllAtIndex() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>(java.util.Arrays.asList(source));
+        list.addAll(size / 2, jdk);
+        return list;
+    }
+
+    @Benchmark
+    public void customRemoveRange(Fresh fresh, Blackhole blackhole) {
+        fresh.custom.removeRange(size / 4, size / 2);
+        blackhole.consume(fresh.custom);
+    }
+
+    @Benchmark
+    public void jdkRemoveRange(Fresh fresh, Blackhole blackhole) {
+        fresh.jdk.subList(size / 4, size / 2).clear();
+        blackhole.consume(fresh.jdk);
+    }
+
+    @Benchmark
+    public Object[] customSubList() {
+        return custom.subList(size / 4, size / 2).toArray();
+    }
+
+    @Benchmark
+    public Object[] jdkSubList() {
+        return jdk.subList(size / 4, size / 2).toArray();
+    }
+
+    @Benchmark
+    public boolean customContainsAll() {
+        return custom.containsAll(probe);
+    }
+
+    @Benchmark
+    public boolean jdkContainsAll() {
+        return jdk.containsAll(probe);
+    }
+
+    @Benchmark
+    public void customReplaceAll(Blackhole blackhole) {
+        custom.replaceAll(negate);
+        blackhole.consume(custom);
+    }
+
+    @Benchmark
+    public void jdkReplaceAll(Blackhole blackhole) {
+        jdk.replaceAll(negate);
+        blackhole.consume(jdk);
+    }
+
+    @Benchmark
+    public int customHashCode() {
+        return custom.hashCode();
+    }
+
+    @Benchmark
+    public int jdkHashCode() {
+        return jdk.hashCode();
+    }
+
+    @Benchmark
+    public boolean customEqualsLastDiffers() {
+        return custom.equals(customOther);
+    }
+
+    @Benchmark
+    public boolean jdkEqualsLastDiffers() {
+        return jdk.equals(jdkOther);
+    }
+
+    @Benchmark
+    public Integer[] customToTypedArray() {
+        return custom.toArray(new Integer[0]);
+    }
+
+    @Benchmark
+    public Integer[] jdkToTypedArray() {
+        return jdk.toArray(new Integer[0]);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customSnapshot() {
+        return custom.snapshot();
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkCopy() {
+        return new java.util.ArrayList<>(jdk);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> customSnapshotThenSet() {
+        ArrayList<Integer> snapshot = custom.snapshot();
+        snapshot.set(0, middleValue);
+        return snapshot;
+    }
+
+    @Benchmark
+    public long customGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += custom.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += jdk.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long customIterator() {
+        long sum = 0;
+        for (Integer element : custom) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkIterator() {
+        long sum = 0;
+        for (Integer element : jdk) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void customForEach(Blackhole blackhole) {
+        custom.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jdkForEach(Blackhole blackhole) {
+        jdk.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long customStreamSum() {
+        return custom.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkStreamSum() {
+        return jdk.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long customParallelStreamSum() {
+        return custom.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkParallelStreamSum() {
+        return jdk.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public Integer customSet() {
+        return custom.set(size / 2, middleValue);
+    }
+
+    @Benchmark
+    public Integer jdkSet() {
+        return jdk.set(size / 2, middleValue);
+    }
+
+    @Benchmark
+    public Integer customRemoveAtIndex() {
+        Integer removed = custom.remove(size / 2);
+        custom.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public Integer jdkRemoveAtIndex() {
+        Integer removed = jdk.remove(size / 2);
+        jdk.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean customRemoveElement() {
+        Integer element = custom.get(size / 2);
+        boolean removed = custom.remove(element);
+        custom.add(element);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean jdkRemoveElement() {
+        Integer element = jdk.get(size / 2);
+        boolean removed = jdk.remove(element);
+        jdk.add(element);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean customRemoveIf(Fresh fresh) {
+        return fresh.custom.removeIf(evenFilter);
+    }
+
+    @Benchmark
+    public boolean customRemoveIfAllOrNothing(Fresh fresh) {
+        return fresh.custom.removeIfAllOrNothing(evenFilter);
+    }
+
+    @Benchmark
+    public boolean jdkRemoveIf(Fresh fresh) {
+        return fresh.jdk.removeIf(evenFilter);
+    }
+
+    @Benchmark
+    public int customIndexOf() {
+        return custom.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public int jdkIndexOf() {
+        return jdk.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public void customSort(Fresh fresh, Blackhole blackhole) {
+        fresh.custom.sort(comparator);
+        blackhole.consume(fresh.custom);
+    }
+
+    @Benchmark
+    public void customStableSort(Fresh fresh, Blackhole blackhole) {
+        fresh.custom.stableSort(comparator);
+        blackhole.consume(fresh.custom);
+    }
+
+    @Benchmark
+    public void jdkSort(Fresh fresh, Blackhole blackhole) {
+        fresh.jdk.sort(comparator);
+        blackhole.consume(fresh.jdk);
+    }
+
+    @Benchmark
+    public Object[] customToArray() {
+        return custom.toArray();
+    }
+
+    @Benchmark
+    public Object[] jdkToArray() {
+        return jdk.toArray();
+    }
+
+    @Benchmark
+    public String customToString() {
+        return custom.toString();
+    }
+
+    @Benchmark
+    public String jdkToString() {
+        return jdk.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link CircularArrayList} со сдвигающей реализацией {@link ArrayList} на операциях в начале
+ * и вблизи начала списка. Методы {@code shifting*} измеряют {@link ArrayList}, методы {@code circular*} -
+ * кольцевой буфер. Каждая операция выполняется парой с обратной, чтобы длина оставалась постоянной
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircularArrayListBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+
+    private ArrayList<Integer> shifting;
+    private CircularArrayList<Integer> circular;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        shifting = new ArrayList<>(size + 1);
+        circular = new CircularArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            shifting.add(i);
+            circular.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer shiftingQueue() {
+        shifting.add(size);
+        return shifting.remove(0);
+    }
+
+    @Benchmark
+    public Integer circularQueue() {
+        circular.add(size);
+        return circular.remove(0);
+    }
+
+    @Benchmark
+    public Integer shiftingAddAtFront() {
+        shifting.add(0, size);
+        return shifting.remove(shifting.length() - 1);
+    }
+
+    @Benchmark
+    public Integer circularAddAtFront() {
+        circular.add(0, size);
+        return circular.remove(circular.length() - 1);
+    }
+
+    @Benchmark
+    public Integer shiftingAddNearFront() {
+        shifting.add(size / 8, size);
+        return shifting.remove(size / 8);
+    }
+
+    @Benchmark
+    public Integer circularAddNearFront() {
+        circular.add(size / 8, size);
+        return circular.remove(size / 8);
+    }
+
+    @Benchmark
+    public long shiftingGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += shifting.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long circularGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += circular.get(i);
+        }
+        return sum;
+    }
+}
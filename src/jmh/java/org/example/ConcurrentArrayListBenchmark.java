@@ -0,0 +1,84 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность чтения при смешанной нагрузке: {@link ConcurrentArrayList} против {@link ArrayList}
+ * под глобальной блокировкой. В каждой группе три читателя и один писатель, добавляющий в конец.
+ * Масштабирование по числу ядер измеряется параметром JMH {@code -tg}, например {@code -tg 7,1}
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentArrayListBenchmark {
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private final Integer element = 42;
+
+    private ConcurrentArrayList<Integer> concurrent;
+    private ArrayList<Integer> locked;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        concurrent = new ConcurrentArrayList<>();
+        locked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            concurrent.add(i);
+            locked.add(i);
+        }
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(3)
+    public Integer concurrentGet() {
+        return concurrent.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(1)
+    public void concurrentAdd() {
+        concurrent.add(element);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public Integer lockedGet() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (locked) {
+            return locked.get(index);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public void lockedAdd() {
+        synchronized (locked) {
+            locked.add(element);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Выгрузка {@link ArrayList} строк в канал, отбрасывающий байты. Методы {@code string*} сначала собирают
+ * весь текст в строку через {@link ArrayList#toString()} или {@link StringBuilder} и только потом кодируют его,
+ * методы {@code export*} пишут участками через буфер ограниченного размера. Методы {@code parallel*}
+ * вызываются в пуле из {@code parallelism} потоков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private final WritableByteChannel sink = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer source) {
+            int length = source.remaining();
+            source.position(source.limit());
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private ArrayList<String> list;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add("item-" + random.nextInt());
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int stringToString() throws IOException {
+        return sink.write(ByteBuffer.wrap(list.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public int stringJson() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            TextFormat.JSON.append(list.get(i), json);
+        }
+        return sink.write(ByteBuffer.wrap(json.append(']').toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public void exportJson() throws IOException {
+        list.exportTo(sink, TextFormat.JSON);
+    }
+
+    @Benchmark
+    public void parallelExportJson() {
+        pool.submit(() -> {
+            list.parallelExportTo(sink, TextFormat.JSON);
+            return null;
+        }).join();
+    }
+
+    @Benchmark
+    public void exportBinary() throws IOException {
+        list.exportTo(sink, ElementCodec.STRING);
+    }
+
+    @Benchmark
+    public void parallelExportBinary() {
+        pool.submit(() -> {
+            list.parallelExportTo(sink, ElementCodec.STRING);
+            return null;
+        }).join();
+    }
+}
@@ -0,0 +1,131 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение индексированного режима {@link ArrayList} (см. {@link ArrayList#enableIndex()}) с обычным списком.
+ * Методы {@code plain*} измеряют обычный список, методы {@code indexed*} - список с хеш-индексом.
+ * <p>
+ * Поиск выполняется по значениям из середины списка. Стоимость обновления измеряется парами операций,
+ * сохраняющими длину: {@code set} двух позиций, вставка в середину с удалением из конца, добавление
+ * в конец с удалением из конца. Объем памяти индекса показывает {@code buildIndex} с {@code -prof gc}
+ * (метрика {@code gc.alloc.rate.norm})
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedArrayListBenchmark {
+
+    @Param({"1024", "131072", "1048576"})
+    private int size;
+
+    private Integer[] source;
+    private Integer middleValue;
+    private Integer missingValue;
+    private int cursor;
+
+    private ArrayList<Integer> plain;
+    private ArrayList<Integer> indexed;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        middleValue = source[size / 2];
+        missingValue = -1;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        plain = new ArrayList<>(source.clone());
+        indexed = new ArrayList<>(source.clone());
+        indexed.enableIndex();
+    }
+
+    @Benchmark
+    public int plainIndexOf() {
+        return plain.indexOf(middleValue);
+    }
+
+    @Benchmark
+    public int indexedIndexOf() {
+        return indexed.indexOf(middleValue);
+    }
+
+    @Benchmark
+    public boolean plainContainsMissing() {
+        return plain.contains(missingValue);
+    }
+
+    @Benchmark
+    public boolean indexedContainsMissing() {
+        return indexed.contains(missingValue);
+    }
+
+    @Benchmark
+    public Integer plainAddRemoveLast() {
+        plain.add(middleValue);
+        return plain.remove(size);
+    }
+
+    @Benchmark
+    public Integer indexedAddRemoveLast() {
+        indexed.add(middleValue);
+        return indexed.remove(size);
+    }
+
+    @Benchmark
+    public Integer plainSet() {
+        int position = cursor++ & (size - 1);
+        plain.set(position, source[size - 1 - position]);
+        plain.set(position, source[position]);
+        return position;
+    }
+
+    @Benchmark
+    public Integer indexedSet() {
+        int position = cursor++ & (size - 1);
+        indexed.set(position, source[size - 1 - position]);
+        indexed.set(position, source[position]);
+        return position;
+    }
+
+    @Benchmark
+    public Integer plainAddAtMiddle() {
+        plain.add(size / 2, middleValue);
+        return plain.remove(size);
+    }
+
+    @Benchmark
+    public Integer indexedAddAtMiddle() {
+        indexed.add(size / 2, middleValue);
+        return indexed.remove(size);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> buildIndex() {
+        ArrayList<Integer> list = new ArrayList<>(source);
+        list.enableIndex();
+        return list;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность загрузки {@value ELEMENTS} элементов в {@link ArrayList} в элементах в секунду.
+ * Методы {@code *Add*} и {@code collector} сравнивают способы пакетного добавления готовых элементов,
+ * методы {@code *Parse} разбирают строки и добавляют результат в одном потоке или через {@link IngestPipeline}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IngestBenchmark.ELEMENTS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IngestBenchmark {
+    static final int ELEMENTS = 10_000_000;
+
+    private Integer[] source;
+    private String[] text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new Integer[ELEMENTS];
+        text = new String[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            source[i] = i;
+            text[i] = Integer.toString(i);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> perElementAdd() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer element : source) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayAddAll() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(source, 0, source.length);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> iteratorAddAll() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(Arrays.asList(source).iterator());
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> collector() {
+        return Arrays.stream(source).collect(ArrayList.collector());
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkAddAll() {
+        java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        list.addAll(Arrays.asList(source));
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialParse() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (String line : text) {
+            list.add(Integer.valueOf(line));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> pipelinedParse() {
+        ArrayList<Integer> list = new ArrayList<>();
+        try (IngestPipeline<Integer> pipeline = list.pipeline(4096, 16)) {
+            for (String line : text) {
+                pipeline.accept(Integer.valueOf(line));
+            }
+        }
+        return list;
+    }
+}
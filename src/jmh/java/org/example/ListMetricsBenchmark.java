@@ -0,0 +1,95 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость {@link ListMetrics}. Методы {@code plain*} работают в JVM без {@code -Dorg.example.metrics=true},
+ * где проверки удаляются JIT, методы {@code metered*} - в JVM с флагом и включенными метриками списка
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListMetricsBenchmark {
+
+    @Param({"1024"})
+    private int size;
+
+    private final Integer element = 42;
+    private final Integer missing = -1;
+
+    private ArrayList<Integer> list;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        if (ListMetrics.ENABLED) {
+            list.enableMetrics("ListMetricsBenchmark");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        list.disableMetrics();
+    }
+
+    private ArrayList<Integer> addThenTrim() {
+        list.add(element);
+        list.removeRange(size, size + 1);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> plainAdd() {
+        return addThenTrim();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.example.metrics=true")
+    public ArrayList<Integer> meteredAdd() {
+        return addThenTrim();
+    }
+
+    @Benchmark
+    public Integer plainInsert() {
+        list.add(size / 2, element);
+        return list.remove(size / 2);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.example.metrics=true")
+    public Integer meteredInsert() {
+        list.add(size / 2, element);
+        return list.remove(size / 2);
+    }
+
+    @Benchmark
+    public int plainIndexOf() {
+        return list.indexOf(missing);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.example.metrics=true")
+    public int meteredIndexOf() {
+        return list.indexOf(missing);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Временные списки обработчика запросов: {@code fresh*} создают новый {@link ArrayList} на каждый вызов,
+ * {@code pooled*} берут его из {@link ListPool#local()}, {@code arena} берет два списка одной областью.
+ * {@code freshEmpty} создает список, в который ничего не добавляется, и показывает отложенное выделение массива.
+ * Выделение памяти на операцию смотрится профилировщиком {@code -prof gc} (метрика {@code gc.alloc.rate.norm})
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListPoolBenchmark {
+
+    @Param({"8", "100"})
+    private int size;
+
+    private final ListPool pool = ListPool.local();
+    private final Integer element = 1_000;
+
+    @Benchmark
+    public int freshEmpty() {
+        return new ArrayList<Integer>().size();
+    }
+
+    @Benchmark
+    public int fresh() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(element);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int pooled() {
+        try (ListPool.Lease<Integer> lease = pool.acquire()) {
+            ArrayList<Integer> list = lease.list();
+            for (int i = 0; i < size; i++) {
+                list.add(element);
+            }
+            return list.size();
+        }
+    }
+
+    @Benchmark
+    public int freshTwo() {
+        ArrayList<Integer> first = new ArrayList<>();
+        ArrayList<Integer> second = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            first.add(element);
+            second.add(0, element);
+        }
+        return first.size() + second.size();
+    }
+
+    @Benchmark
+    public int arena() {
+        try (ListPool.Arena arena = pool.arena()) {
+            ArrayList<Integer> first = arena.list();
+            ArrayList<Integer> second = arena.list();
+            for (int i = 0; i < size; i++) {
+                first.add(element);
+                second.add(0, element);
+            }
+            return first.size() + second.size();
+        }
+    }
+}
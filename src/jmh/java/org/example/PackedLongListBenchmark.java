@@ -0,0 +1,124 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проходы и выборки по {@link PackedLongList} в сравнении с {@link ArrayList} упакованных {@link Long}
+ * ({@code boxed*}) и {@link LongArrayList} ({@code primitive*}). Данные: {@code ids} - возрастающие
+ * идентификаторы с небольшими промежутками, {@code timestamps} - метки времени с дрожанием
+ * в обе стороны, {@code random} - случайные значения, которые не сжимаются. Занимаемая память
+ * сжатым списком выводится методом {@link PackedLongList#sizeInBytes()}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PackedLongListBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"ids", "timestamps", "random"})
+    private String data;
+
+    private ArrayList<Long> boxed;
+    private LongArrayList primitive;
+    private PackedLongList packed;
+    private int[] indices;
+    private long from;
+    private long to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        long[] values = new long[size];
+        long value = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            values[i] = switch (data) {
+                case "ids" -> value += 1 + random.nextInt(4);
+                case "timestamps" -> value += 10 + random.nextInt(21) - 10;
+                default -> random.nextLong();
+            };
+        }
+        boxed = new ArrayList<>();
+        for (long v : values) {
+            boxed.add(v);
+        }
+        primitive = new LongArrayList(values);
+        packed = PackedLongList.pack(values);
+        indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        from = values[size / 4];
+        to = values[size / 4 + size / 100];
+        if (from > to) {
+            long swap = from;
+            from = to;
+            to = swap;
+        }
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (int i = 0; i < boxed.size(); i++) {
+            sum += boxed.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveSum() {
+        return primitive.sum();
+    }
+
+    @Benchmark
+    public long packedSum() {
+        return packed.sum();
+    }
+
+    @Benchmark
+    public long boxedGet() {
+        long sum = 0;
+        for (int index : indices) {
+            sum += boxed.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long packedGet() {
+        long sum = 0;
+        for (int index : indices) {
+            sum += packed.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int primitiveCountBetween() {
+        return primitive.countBetween(from, to);
+    }
+
+    @Benchmark
+    public int packedCountBetween() {
+        return packed.countBetween(from, to);
+    }
+}
@@ -0,0 +1,127 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Масштабируемость параллельных массовых операций {@link ArrayList} по числу потоков {@link ForkJoinPool}.
+ * Методы {@code parallel*} вызываются в пуле из {@code parallelism} потоков, методы {@code sequential*} выполняют
+ * ту же работу циклом по {@link ArrayList#get(int)} в одном потоке, свертка в обоих случаях упаковывает
+ * промежуточные суммы в {@link Long}. При {@code parallelism = 1} параллельные
+ * методы тоже идут одним участком, поэтому ускорение считается относительно него
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelBulkBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private final Predicate<Integer> filter = x -> (x & 3) == 0;
+    private final UnaryOperator<Integer> operator = x -> x ^ 0x5bd1e995;
+    private final BiFunction<Long, Integer, Long> accumulator = (total, x) -> total + x;
+
+    private ArrayList<Integer> list;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        Integer[] source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        list = new ArrayList<>(source);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelFilter() {
+        return pool.submit(() -> list.parallelFilter(filter)).join();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialFilter() {
+        ArrayList<Integer> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Integer element = list.get(i);
+            if (filter.test(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void parallelReplaceAll(Blackhole blackhole) {
+        pool.submit(() -> list.parallelReplaceAll(operator)).join();
+        blackhole.consume(list);
+    }
+
+    @Benchmark
+    public void sequentialReplaceAll(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            list.set(i, operator.apply(list.get(i)));
+        }
+        blackhole.consume(list);
+    }
+
+    @Benchmark
+    public long parallelReduce() {
+        return pool.submit(() -> list.parallelReduce(0L, accumulator, Long::sum)).join();
+    }
+
+    @Benchmark
+    public long sequentialReduce() {
+        Long total = 0L;
+        for (int i = 0; i < size; i++) {
+            total = accumulator.apply(total, list.get(i));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public ArrayList<String> parallelMap() {
+        return pool.submit(() -> list.parallelMap(String::valueOf)).join();
+    }
+
+    @Benchmark
+    public ArrayList<String> sequentialMap() {
+        ArrayList<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(String.valueOf(list.get(i)));
+        }
+        return result;
+    }
+}
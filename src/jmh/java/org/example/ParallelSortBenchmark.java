@@ -0,0 +1,77 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабируемость {@link ArrayList#parallelSort(Comparator)} по числу потоков {@link ForkJoinPool}.
+ * При {@code parallelism = 1} сортировка идет последовательно, поэтому ускорение считается относительно него
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelSortBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private final Comparator<Integer> comparator = Integer::compareTo;
+
+    private Integer[] source;
+    private ArrayList<Integer> list;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        list = new ArrayList<>(source.clone());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelSort() {
+        pool.submit(() -> list.parallelSort(comparator)).join();
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialSort() {
+        list.sort(comparator);
+        return list;
+    }
+}
@@ -0,0 +1,113 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link ScalarKernels} с реализацией {@link PrimitiveKernels#ACTIVE}, которая при сборке
+ * {@code mvn -P jmh,vector package} использует Vector API. Методы {@code scalar*} измеряют поэлементные циклы,
+ * методы {@code vector*} - активную реализацию. Ширина вектора ограничивается ключом JVM, например
+ * {@code -jvmArgsAppend -XX:MaxVectorSize=16} для 128-битных, {@code 32} для 256-битных и {@code 64} для 512-битных линий
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsPrepend = "--add-modules=jdk.incubator.vector")
+public class PrimitiveKernelsBenchmark {
+    private static final PrimitiveKernels SCALAR = ScalarKernels.INSTANCE;
+    private static final PrimitiveKernels VECTOR = PrimitiveKernels.ACTIVE;
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private int[] ints;
+    private int[] target;
+    private double[] doubles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ints = new int[size];
+        target = new int[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextInt(1_000);
+            doubles[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        return SCALAR.indexOf(ints, size, -1);
+    }
+
+    @Benchmark
+    public int vectorIndexOf() {
+        return VECTOR.indexOf(ints, size, -1);
+    }
+
+    @Benchmark
+    public long scalarSum() {
+        return SCALAR.sum(ints, size);
+    }
+
+    @Benchmark
+    public long vectorSum() {
+        return VECTOR.sum(ints, size);
+    }
+
+    @Benchmark
+    public int scalarMax() {
+        return SCALAR.max(ints, size);
+    }
+
+    @Benchmark
+    public int vectorMax() {
+        return VECTOR.max(ints, size);
+    }
+
+    @Benchmark
+    public int scalarCountBetween() {
+        return SCALAR.countBetween(ints, size, 250, 749);
+    }
+
+    @Benchmark
+    public int vectorCountBetween() {
+        return VECTOR.countBetween(ints, size, 250, 749);
+    }
+
+    @Benchmark
+    public int scalarFilterBetween() {
+        return SCALAR.filterBetween(ints, size, 250, 749, target);
+    }
+
+    @Benchmark
+    public int vectorFilterBetween() {
+        return VECTOR.filterBetween(ints, size, 250, 749, target);
+    }
+
+    @Benchmark
+    public double scalarDoubleSum() {
+        return SCALAR.sum(doubles, size);
+    }
+
+    @Benchmark
+    public double vectorDoubleSum() {
+        return VECTOR.sum(doubles, size);
+    }
+}
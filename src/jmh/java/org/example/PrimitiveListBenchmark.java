@@ -0,0 +1,114 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link IntArrayList} с {@link ArrayList ArrayList&lt;Integer&gt;} на добавлении, чтении,
+ * поиске и сортировке. Запуск с {@code -prof gc} показывает разницу в объеме выделяемой памяти
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListBenchmark {
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    private int[] source;
+    private int lastValue;
+    private ArrayList<Integer> boxed;
+    private IntArrayList primitive;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        source = new int[size];
+        boxed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+            boxed.add(source[i]);
+        }
+        primitive = new IntArrayList(source);
+        lastValue = source[size - 1];
+    }
+
+    @Benchmark
+    public ArrayList<Integer> boxedAdd() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList primitiveAdd() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long boxedGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxed.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveGet() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += primitive.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int boxedIndexOf() {
+        return boxed.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public int primitiveIndexOf() {
+        return primitive.indexOf(lastValue);
+    }
+
+    @Benchmark
+    public IntArrayList primitiveSort() {
+        IntArrayList list = new IntArrayList(source);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> boxedSort() {
+        ArrayList<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(source[i]);
+        }
+        list.sort(Integer::compareTo);
+        return list;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение блочного {@link SegmentedArrayList} с непрерывным {@link ArrayList}.
+ * Методы {@code *Add} измеряют задержку одного {@code add} в режиме {@link Mode#SampleTime}:
+ * JMH выводит перцентили, включая p0.999, в которых видны паузы на копирование массива при росте.
+ * Список пересоздается, когда достигает {@code limit} элементов, поэтому в выборку попадают все этапы роста.
+ * Методы {@code *GetSum} сравнивают последовательное чтение через {@code get}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SegmentedArrayListBenchmark {
+
+    @Param({"1048576", "16777216"})
+    private int limit;
+
+    private final Integer element = 42;
+
+    private ArrayList<Integer> contiguous;
+    private SegmentedArrayList<Integer> segmented;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        contiguous = new ArrayList<>();
+        segmented = new SegmentedArrayList<>();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> contiguousAdd() {
+        if (contiguous.length() == limit) {
+            contiguous = new ArrayList<>();
+        }
+        contiguous.add(element);
+        return contiguous;
+    }
+
+    @Benchmark
+    public SegmentedArrayList<Integer> segmentedAdd() {
+        if (segmented.length() == limit) {
+            segmented = new SegmentedArrayList<>();
+        }
+        segmented.add(element);
+        return segmented;
+    }
+
+    /**
+     * Списки длины {@code limit} для сравнения чтения
+     */
+    @State(Scope.Thread)
+    public static class Filled {
+        ArrayList<Integer> contiguous;
+        SegmentedArrayList<Integer> segmented;
+
+        @Setup(Level.Trial)
+        public void setUp(SegmentedArrayListBenchmark benchmark) {
+            contiguous = new ArrayList<>(benchmark.limit);
+            segmented = new SegmentedArrayList<>();
+            for (int i = 0; i < benchmark.limit; i++) {
+                contiguous.add(i);
+                segmented.add(i);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long contiguousGetSum(Filled filled) {
+        long sum = 0;
+        for (int i = 0; i < limit; i++) {
+            sum += filled.contiguous.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long segmentedGetSum(Filled filled) {
+        long sum = 0;
+        for (int i = 0; i < limit; i++) {
+            sum += filled.segmented.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение сортированного режима {@link ArrayList} (см. {@link ArrayList#enableSorted(java.util.Comparator)})
+ * с {@link TreeMap}, который он заменяет. Методы {@code sorted*} измеряют список, методы {@code tree*} - дерево
+ * с теми же ключами.
+ * <p>
+ * Поиск выполняется по случайным ключам, вставка одного элемента измеряется парой с удалением того же ключа.
+ * {@code *MergeBatch} добавляет упорядоченную пачку из {@value BATCH} элементов в свежую копию данных
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedArrayListBenchmark {
+    static final int BATCH = 4096;
+
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+
+    private Integer[] source;
+    private Integer[] keys;
+    private Integer[] batch;
+    private int cursor;
+
+    private ArrayList<Integer> sorted;
+    private TreeMap<Integer, Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt(Integer.MAX_VALUE) & ~1;
+        }
+        keys = new Integer[1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE) | 1;
+        }
+        batch = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = random.nextInt(Integer.MAX_VALUE) | 1;
+        }
+        Arrays.sort(batch);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        sorted = new ArrayList<>(source.clone());
+        sorted.enableSorted(null);
+        tree = new TreeMap<>();
+        for (Integer element : source) {
+            tree.put(element, element);
+        }
+    }
+
+    /**
+     * Свежие копии для добавления пачки
+     */
+    @State(Scope.Thread)
+    public static class Fresh {
+        ArrayList<Integer> sorted;
+        TreeMap<Integer, Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void setUp(SortedArrayListBenchmark benchmark) {
+            sorted = benchmark.sorted.snapshot();
+            sorted.setCapacity(benchmark.size + BATCH);
+            tree = new TreeMap<>(benchmark.tree);
+        }
+    }
+
+    private Integer nextKey() {
+        return keys[cursor++ & (keys.length - 1)];
+    }
+
+    @Benchmark
+    public int sortedBinarySearch() {
+        return sorted.binarySearch(nextKey());
+    }
+
+    @Benchmark
+    public Integer sortedFloor() {
+        return sorted.floor(nextKey());
+    }
+
+    @Benchmark
+    public Integer treeFloor() {
+        return tree.floorKey(nextKey());
+    }
+
+    @Benchmark
+    public int sortedRange() {
+        Integer from = nextKey();
+        return sorted.range(from, rangeEnd(from)).size();
+    }
+
+    @Benchmark
+    public int treeRange() {
+        Integer from = nextKey();
+        return tree.subMap(from, rangeEnd(from)).size();
+    }
+
+    /**
+     * @return граница диапазона, в который в среднем попадает 16 элементов
+     */
+    private Integer rangeEnd(Integer from) {
+        return (int) Math.min(Integer.MAX_VALUE, from + (long) Integer.MAX_VALUE / size * 16);
+    }
+
+    @Benchmark
+    public boolean sortedInsertRemove() {
+        Integer key = nextKey();
+        sorted.add(key);
+        return sorted.remove(sorted.binarySearch(key)) != null;
+    }
+
+    @Benchmark
+    public boolean treeInsertRemove() {
+        Integer key = nextKey();
+        tree.put(key, key);
+        return tree.remove(key) != null;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sortedMergeBatch(Fresh fresh) {
+        fresh.sorted.addAll(batch);
+        return fresh.sorted;
+    }
+
+    @Benchmark
+    public TreeMap<Integer, Integer> treeMergeBatch(Fresh fresh) {
+        for (Integer element : batch) {
+            fresh.tree.put(element, element);
+        }
+        return fresh.tree;
+    }
+}
@@ -0,0 +1,2297 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Пользовательская реализация динамического массива (не потокобезопасна). Реализует {@link List}
+ * и {@link RandomAccess}, поэтому список передается в API JDK и библиотек без копирования.
+ * Элементы могут быть {@code null}
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see java.util.ArrayList
+ */
+public class ArrayList<T> implements List<T>, RandomAccess {
+    /**
+     * Вместимость, с которой выделяется массив при первом добавлении в список, созданный конструктором по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Общий пустой массив списка, созданного конструктором по умолчанию, до первого добавления
+     */
+    private static final Object[] DEFAULT_CAPACITY_EMPTY = {};
+    /**
+     * @param array - основная единица класса ArrayList,
+     * хранящая массив типа Object
+     */
+    private Object[] array = DEFAULT_CAPACITY_EMPTY;
+    /**
+     * @param size длина индексируемой части массива
+     */
+    private int size = 0;
+    /**
+     * @param growthPolicy стратегия увеличения вместимости массива {@link ArrayList#array}
+     */
+    private GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    /**
+     * @param resizeCount число перевыделений массива {@link ArrayList#array}
+     */
+    private int resizeCount = 0;
+    /**
+     * @param copiedElementCount число элементов, скопированных при перевыделениях
+     */
+    private long copiedElementCount = 0;
+    /**
+     * @param positionIndex хеш-индекс позиций элементов или {@code null}, если индексированный режим выключен
+     */
+    private PositionIndex positionIndex;
+    /**
+     * @param modCount число структурных изменений списка, по которому итераторы обнаруживают
+     *                 одновременное изменение
+     */
+    private int modCount = 0;
+    /**
+     * @param owners число списков, разделяющих массив {@link ArrayList#array} после {@link ArrayList#snapshot()},
+     *               общее для всех этих списков, или {@code null}, если массив принадлежит только этому списку.
+     *               Перед записью список копирует массив, только если тот еще используется другими списками,
+     *               поэтому последний владелец пишет в массив без копирования. Счетчик атомарный, так как
+     *               снимки обычно передаются другим потокам
+     */
+    private AtomicInteger owners;
+    /**
+     * @param sortOrder порядок сортированного режима или {@code null}, если режим выключен
+     *                  (см. {@link ArrayList#enableSorted(Comparator)})
+     */
+    private Comparator<? super T> sortOrder;
+    /**
+     * @param hash кешированный хеш-код содержимого или {@code 0}, если он не вычислен
+     *             (см. {@link ArrayList#hashCode()})
+     */
+    private int hash;
+    /**
+     * @param hashIsZero {@code true}, если вычисленный хеш-код равен {@code 0}, чтобы не пересчитывать его
+     */
+    private boolean hashIsZero;
+    /**
+     * Размер коллекции, начиная с которого {@link ArrayList#containsAll(Collection)} строит {@link HashSet}
+     */
+    private static final int CONTAINS_ALL_SCAN_LIMIT = 16;
+    /**
+     * @param metrics счетчики операций или {@code null}, если сбор метрик для списка не включен
+     *                (см. {@link ArrayList#enableMetrics(String)})
+     */
+    private ListMetrics metrics;
+
+    /**
+     * Конструктор умолчанию создает объект класса {@link ArrayList} без массива {@link ArrayList#array}:
+     * массив вместимостью 16 элементов выделяется при первом добавлении, поэтому пустые временные списки
+     * ничего не выделяют
+     *
+     * @return {@link ArrayList}
+     */
+    public ArrayList() {
+    }
+
+    /**
+     * Конструктор создает объект класса {@link ArrayList} с указанной вместимостью массива {@link ArrayList#array}
+     *
+     * @param initialCapacity изначальная вместимость массива {@link ArrayList#array}
+     * @return {@link ArrayList}
+     */
+    public ArrayList(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity have to be a positive number");
+        }
+        this.array = new Object[initialCapacity];
+    }
+
+    /**
+     * Конструктор создает объект класса {@link ArrayList} с указанной вместимостью массива {@link ArrayList#array}
+     * и стратегией ее увеличения
+     *
+     * @param initialCapacity изначальная вместимость массива {@link ArrayList#array}
+     * @param growthPolicy    стратегия увеличения вместимости, например {@link GrowthPolicy#additive(int)}
+     * @return {@link ArrayList}
+     * @throws NullPointerException в случае, если {@code growthPolicy} неинициализирована
+     */
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this(initialCapacity);
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Конструктор создает независимую копию другого экземпляра {@link ArrayList} за O(1):
+     * оба списка разделяют массив {@link ArrayList#array}, пока один из них не начнет запись
+     * (см. {@link ArrayList#snapshot()}). Стратегия увеличения вместимости наследуется
+     *
+     * @param initialArrayList экземпляр класса {@link ArrayList} для инициализации
+     * @return {@link ArrayList}
+     */
+    public ArrayList(ArrayList<T> initialArrayList) {
+        this.size = initialArrayList.size;
+        this.array = initialArrayList.array;
+        this.growthPolicy = initialArrayList.growthPolicy;
+        this.sortOrder = initialArrayList.sortOrder;
+        this.hash = initialArrayList.hash;
+        this.hashIsZero = initialArrayList.hashIsZero;
+        if (initialArrayList.owners == null) {
+            initialArrayList.owners = new AtomicInteger(1);
+        }
+        initialArrayList.owners.incrementAndGet();
+        this.owners = initialArrayList.owners;
+    }
+
+    /**
+     * Оборачивает заполненный массив без копирования, используется для результатов массовых операций
+     */
+    private ArrayList(Object[] array, GrowthPolicy growthPolicy) {
+        this.array = array;
+        this.size = array.length;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Конструктор создает объект класса {@link ArrayList} с копией переданного массива,
+     * поэтому последующие изменения массива на список не влияют
+     *
+     * @param initialArray массив объектов для инициализации {@link ArrayList#array}
+     * @return {@link ArrayList}
+     */
+    public ArrayList(T[] initialArray) {
+        this.array = Arrays.copyOf(initialArray, initialArray.length, Object[].class);
+        this.size = initialArray.length;
+    }
+
+    /**
+     * Сортирует элементы интроспективной сортировкой (см. {@link Sorter#introSort}):
+     * O(n log n) в худшем случае, в том числе на упорядоченных и содержащих много повторов данных.
+     * Сортировка неустойчива, для сохранения порядка равных элементов используйте
+     * {@link ArrayList#stableSort(Comparator)}
+     *
+     * @param comparator экземпляр функционального интерфейса {@link Comparator} или {@code null}
+     *                   для естественного порядка элементов
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        if (checkSortOrder(comparator)) {
+            return;
+        }
+        unshare();
+        Sorter.introSort(this.array, 0, this.size, orNatural(comparator));
+        modCount++;
+        rebuildIndex();
+    }
+
+    /**
+     * Устойчиво сортирует элементы слиянием естественных серий (см. {@link Sorter#mergeSort}):
+     * равные элементы сохраняют взаимный порядок, частично упорядоченные данные сортируются быстрее
+     *
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     */
+    public void stableSort(Comparator<? super T> comparator) {
+        if (checkSortOrder(comparator)) {
+            return;
+        }
+        unshare();
+        Sorter.mergeSort(this.array, 0, this.size, orNatural(comparator));
+        modCount++;
+        rebuildIndex();
+    }
+
+    /**
+     * Сортирует элементы параллельно в {@link java.util.concurrent.ForkJoinPool} (см. {@link Sorter#parallelSort})
+     * с порогом по умолчанию {@value Sorter#PARALLEL_THRESHOLD} элементов. Сортировка неустойчива
+     *
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     * @see ArrayList#parallelSort(Comparator, int)
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, Sorter.PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Сортирует элементы параллельно в {@link java.util.concurrent.ForkJoinPool}, разбивая индексируемую часть
+     * массива {@link ArrayList#array} на участки не длиннее {@code threshold}. Если элементов не больше
+     * {@code threshold}, выполняется обычная {@link ArrayList#sort(Comparator)}
+     *
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     * @param threshold  длина участка, ниже которой сортировка не делится между потоками
+     * @throws IllegalArgumentException в случае если {@code threshold} меньше 1
+     */
+    public void parallelSort(Comparator<? super T> comparator, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold have to be a positive number");
+        }
+        if (checkSortOrder(comparator)) {
+            return;
+        }
+        unshare();
+        Sorter.parallelSort(this.array, 0, this.size, orNatural(comparator), threshold);
+        modCount++;
+        rebuildIndex();
+    }
+
+    /**
+     * Параллельно заменяет каждый элемент результатом {@code operator} (см. {@link ParallelBulk}): участки
+     * массива {@link ArrayList#array} обрабатываются в {@link java.util.concurrent.ForkJoinPool}, списки не длиннее
+     * {@value ParallelBulk#PARALLEL_THRESHOLD} элементов - в вызывающем потоке. Порядок вызовов {@code operator}
+     * не определен, поэтому он не должен зависеть от других элементов и изменять список.
+     * В сортированном режиме элементы после замены заново упорядочиваются
+     *
+     * @param operator функция замены элемента
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время замены
+     * @throws NullPointerException            в случае, если {@code operator} неинициализирован
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        if (operator == null) {
+            throw new NullPointerException("Cannot invoke method parallelReplaceAll(UnaryOperator<T> operator) because the operator is null");
+        }
+        unshare();
+        int expectedModCount = modCount;
+        try {
+            ParallelBulk.replaceAll(array, size, operator, ParallelBulk.PARALLEL_THRESHOLD);
+        } finally {
+            if (sortOrder != null) {
+                Sorter.mergeSort(array, 0, size, sortOrder);
+            }
+            invalidateHash();
+            rebuildIndex();
+        }
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Параллельно отбирает элементы, удовлетворяющие {@code filter}, в новый список с сохранением порядка.
+     * Предикат вызывается для каждого элемента один раз, результат копируется в массив точной длины
+     * без промежуточных списков (см. {@link ParallelBulk#filter}). Новый список наследует сортированный режим
+     *
+     * @param filter экземпляр функционального интерфейса {@link Predicate}
+     * @return новый {@link ArrayList} с подходящими элементами
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время фильтрации
+     * @throws NullPointerException            в случае, если {@code filter} неинициализирован
+     */
+    public ArrayList<T> parallelFilter(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Cannot invoke method parallelFilter(Predicate<? super T> filter) because the filter is null");
+        }
+        int expectedModCount = modCount;
+        Object[] result = ParallelBulk.filter(array, size, filter, ParallelBulk.PARALLEL_THRESHOLD);
+        checkForComodification(expectedModCount);
+        ArrayList<T> filtered = new ArrayList<>(result, growthPolicy);
+        filtered.sortOrder = sortOrder;
+        return filtered;
+    }
+
+    /**
+     * Параллельно преобразует элементы в новый список той же длины, результаты пишутся прямо в его массив
+     *
+     * @param mapper функция преобразования элемента
+     * @param <R>    тип элементов нового списка
+     * @return новый {@link ArrayList} с результатами {@code mapper} в том же порядке
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время преобразования
+     * @throws NullPointerException            в случае, если {@code mapper} неинициализирован
+     */
+    public <R> ArrayList<R> parallelMap(Function<? super T, ? extends R> mapper) {
+        if (mapper == null) {
+            throw new NullPointerException("Cannot invoke method parallelMap(Function<? super T, ? extends R> mapper) because the mapper is null");
+        }
+        int expectedModCount = modCount;
+        Object[] result = new Object[size];
+        ParallelBulk.map(array, result, size, mapper, ParallelBulk.PARALLEL_THRESHOLD);
+        checkForComodification(expectedModCount);
+        return new ArrayList<>(result, growthPolicy);
+    }
+
+    /**
+     * Параллельно сворачивает элементы: участки сворачиваются от {@code identity}, а их результаты попарно
+     * объединяются тем же {@code accumulator}. Операция должна быть ассоциативной, а {@code identity} - ее
+     * нейтральным элементом, иначе результат зависит от разбиения
+     *
+     * @param identity    нейтральный элемент
+     * @param accumulator ассоциативная операция
+     * @return результат свертки или {@code identity} для пустого списка
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время свертки
+     * @throws NullPointerException            в случае, если {@code accumulator} неинициализирован
+     */
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator) {
+        return parallelReduce(identity, accumulator, accumulator);
+    }
+
+    /**
+     * Параллельно сворачивает элементы в значение другого типа: каждый участок накапливает результат
+     * функцией {@code accumulator} от {@code identity}, результаты участков объединяются {@code combiner}
+     *
+     * @param identity    нейтральный элемент {@code combiner}
+     * @param accumulator добавление элемента к результату участка
+     * @param combiner    ассоциативное объединение результатов участков
+     * @param <R>         тип результата
+     * @return результат свертки или {@code identity} для пустого списка
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время свертки
+     * @throws NullPointerException            в случае, если {@code accumulator} или {@code combiner} неинициализирован
+     */
+    public <R> R parallelReduce(R identity, BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+        if (accumulator == null || combiner == null) {
+            throw new NullPointerException("Cannot invoke method parallelReduce because the accumulator or the combiner is null");
+        }
+        int expectedModCount = modCount;
+        R result = ParallelBulk.reduce(array, size, identity, accumulator, combiner, ParallelBulk.PARALLEL_THRESHOLD);
+        checkForComodification(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Параллельно выполняет {@code action} для каждого элемента в неопределенном порядке и из разных потоков,
+     * поэтому {@code action} должен быть потокобезопасным
+     *
+     * @param action экземпляр функционального интерфейса {@link Consumer}
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время обхода
+     * @throws NullPointerException            в случае, если {@code action} неинициализирован
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Cannot invoke method parallelForEach(Consumer<? super T> action) because the action is null");
+        }
+        int expectedModCount = modCount;
+        ParallelBulk.forEach(array, size, action, ParallelBulk.PARALLEL_THRESHOLD);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Добавляет передаваемый элемент в {@link ArrayList#array} в том случае, если позволяет вместимость массива,
+     * в противном случае копирует данные в новый массив, вместимость которого задает {@link GrowthPolicy}
+     * (по умолчанию в 1,5 раза больше, см. {@link ArrayList#grow(int)}),
+     * после добавления элемента индексируемость {@link ArrayList} инкрементируется
+     *
+     * В сортированном режиме элемент вставляется на свое место за равными ему (см. {@link ArrayList#enableSorted(Comparator)})
+     *
+     * @param element добавляемый элемент в динамический массив
+     * @return всегда {@code true}
+     */
+    @Override
+    public boolean add(T element) {
+        if (sortOrder != null) {
+            insert(upperBound(element), element);
+            return true;
+        }
+        ensureWritable(size + 1);
+        if (positionIndex != null) {
+            positionIndex.add(element, size);
+        }
+        array[size] = element;
+        size++;
+        modCount++;
+        if (metered()) {
+            metrics.recordAdd(1);
+        }
+        return true;
+    }
+
+    /**
+     * Добавляет передаваемый элемент в {@link ArrayList#array} на указанный {@code index},
+     * сдвигая все последующие элементы вправо одним копированием {@link System#arraycopy}
+     *
+     * @param element добавляемый элемент в динамический массив
+     * @param index   место вставки элемента
+     * @throws IndexOutOfBoundsException в случае если передаваемый {@code index}
+     *                                   выходит за пределы индексации {@link ArrayList}
+     * @throws IllegalArgumentException  в случае если в сортированном режиме элемент нарушает порядок на месте {@code index}
+     * @see ArrayList#add(Object) ArrayList.add(T element)
+     */
+    @Override
+    public void add(int index, T element) {
+        checkPositionIndex(index);
+        if (sortOrder != null) {
+            checkOrder(element, index, index);
+        }
+        insert(index, element);
+    }
+
+    /**
+     * Вставляет элемент на проверенную позицию, сдвигая хвост одним копированием
+     */
+    private void insert(int index, T element) {
+        long start = metricsStart();
+        ensureWritable(size + 1);
+        if (positionIndex != null) {
+            positionIndex.shift(array, index, size, 1);
+            positionIndex.add(element, index);
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+        modCount++;
+        if (metered()) {
+            metrics.recordInsert(size - 1 - index, start);
+        }
+    }
+
+    /**
+     * Добавляет все элементы передаваемой коллекции в конец массива изначального {@link ArrayList},
+     * увеличивая вместимость не более одного раза и копируя элементы одним {@link System#arraycopy}.
+     * Из другого {@link ArrayList} элементы копируются прямо из его массива, из остальных коллекций -
+     * из результата {@link Collection#toArray()}. В сортированном режиме элементы сливаются с
+     * упорядоченным списком за один проход (см. {@link ArrayList#enableSorted(Comparator)})
+     *
+     * @param collection коллекция добавляемых элементов
+     * @return {@code true}, если список изменился
+     * @throws NullPointerException в случае, если {@code collection} неинициализирована
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        if (collection == null) {
+            throw new NullPointerException("Cannot invoke method addAll(Collection<? extends T> collection) because the collection is null");
+        }
+        if (collection instanceof ArrayList<?> other) {
+            int secondSize = other.size;
+            appendAll(other.array, 0, secondSize);
+            return secondSize != 0;
+        }
+        Object[] elements = collection.toArray();
+        appendAll(elements, 0, elements.length);
+        return elements.length != 0;
+    }
+
+    /**
+     * Вставляет все элементы передаваемой коллекции на указанный {@code index},
+     * сдвигая последующие элементы вправо один раз на длину коллекции
+     *
+     * @param index      место вставки первого элемента
+     * @param collection коллекция вставляемых элементов
+     * @return {@code true}, если список изменился
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     * @throws IllegalArgumentException  в случае если в сортированном режиме элементы коллекции не упорядочены
+     *                                   или не помещаются на место {@code index}
+     * @throws NullPointerException      в случае, если {@code collection} неинициализирована
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        if (collection == null) {
+            throw new NullPointerException("Cannot invoke method addAll(int index, Collection<? extends T> collection) because the collection is null");
+        }
+        checkPositionIndex(index);
+        long start = metricsStart();
+        Object[] source;
+        int secondSize;
+        if (collection instanceof ArrayList<?> other && other != this) {
+            source = other.array;
+            secondSize = other.size;
+        } else {
+            source = collection.toArray();
+            secondSize = source.length;
+        }
+        if (sortOrder != null) {
+            checkOrder(source, secondSize, index, index);
+        }
+        ensureWritable(size + secondSize);
+        if (positionIndex != null) {
+            positionIndex.shift(array, index, size, secondSize);
+            for (int i = 0; i < secondSize; i++) {
+                positionIndex.add(source[i], index + i);
+            }
+        }
+        System.arraycopy(array, index, array, index + secondSize, size - index);
+        System.arraycopy(source, 0, array, index, secondSize);
+        size += secondSize;
+        modCount++;
+        if (metered()) {
+            metrics.recordInsert(size - secondSize - index, start);
+        }
+        return secondSize != 0;
+    }
+
+    /**
+     * Добавляет все элементы массива в конец списка
+     *
+     * @param source массив добавляемых элементов
+     * @throws NullPointerException в случае, если {@code source} неинициализирован
+     * @see ArrayList#addAll(Object[], int, int) ArrayList.addAll(T[] source, int offset, int length)
+     */
+    public void addAll(T[] source) {
+        if (source == null) {
+            throw new NullPointerException("Cannot invoke method addAll(T[] source) because the source is null");
+        }
+        appendAll(source, 0, source.length);
+    }
+
+    /**
+     * Добавляет {@code length} элементов массива, начиная с {@code offset}, в конец списка:
+     * вместимость увеличивается не более одного раза, элементы копируются одним {@link System#arraycopy}
+     *
+     * @param source массив добавляемых элементов
+     * @param offset индекс первого добавляемого элемента в {@code source}
+     * @param length число добавляемых элементов
+     * @throws IndexOutOfBoundsException в случае если диапазон {@code [offset, offset + length)}
+     *                                   выходит за пределы {@code source}
+     * @throws NullPointerException      в случае, если {@code source} неинициализирован
+     */
+    public void addAll(T[] source, int offset, int length) {
+        if (source == null) {
+            throw new NullPointerException("Cannot invoke method addAll(T[] source, int offset, int length) because the source is null");
+        }
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + source.length);
+        }
+        appendAll(source, offset, length);
+    }
+
+    /**
+     * Добавляет в конец списка все оставшиеся элементы итератора. Элементы пишутся прямо в массив
+     * {@link ArrayList#array}, вместимость проверяется только при его заполнении. Если итератор выбросит
+     * исключение, уже полученные элементы остаются в списке
+     *
+     * @param iterator источник элементов
+     * @throws NullPointerException в случае, если {@code iterator} неинициализирован
+     */
+    public void addAll(Iterator<? extends T> iterator) {
+        if (iterator == null) {
+            throw new NullPointerException("Cannot invoke method addAll(Iterator<? extends T> iterator) because the iterator is null");
+        }
+        if (!iterator.hasNext()) {
+            return;
+        }
+        if (sortOrder != null) {
+            ArrayList<T> batch = new ArrayList<>();
+            batch.addAll(iterator);
+            mergeSorted(batch.array, 0, batch.size);
+            return;
+        }
+        int oldSize = size;
+        ensureWritable(size + 1);
+        Object[] elements = array;
+        int length = size;
+        try {
+            do {
+                if (length == elements.length) {
+                    size = length;
+                    grow(length + 1);
+                    elements = array;
+                }
+                elements[length++] = iterator.next();
+            } while (iterator.hasNext());
+        } finally {
+            size = length;
+            if (positionIndex != null) {
+                for (int i = oldSize; i < size; i++) {
+                    positionIndex.add(array[i], i);
+                }
+            }
+            modCount++;
+            if (metered()) {
+                metrics.recordAdd(size - oldSize);
+            }
+        }
+    }
+
+    /**
+     * Возвращает {@link Collector}, который собирает поток в {@link ArrayList}. Параллельные части
+     * объединяются через {@link ArrayList#addAll(Collection)} одним копированием
+     *
+     * @param <T> тип элементов
+     * @return коллектор в новый {@link ArrayList}
+     */
+    public static <T> Collector<T, ?, ArrayList<T>> collector() {
+        return Collector.of(ArrayList::new, ArrayList::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * Создает конвейер загрузки: поток-производитель передает элементы в {@link IngestPipeline#accept(Object)},
+     * а отдельный поток добавляет их в список пачками по {@code batchSize} через
+     * {@link ArrayList#addAll(Object[], int, int)}, так что разбор данных и добавление идут одновременно.
+     * До {@link IngestPipeline#close()} список нельзя использовать из других потоков
+     *
+     * @param batchSize         число элементов в пачке
+     * @param maxPendingBatches сколько заполненных пачек может ждать добавления, прежде чем производитель
+     *                          будет остановлен
+     * @return открытый конвейер, который нужно закрыть, например в {@code try}-with-resources
+     * @throws IllegalArgumentException в случае если {@code batchSize} или {@code maxPendingBatches} меньше 1
+     */
+    public IngestPipeline<T> pipeline(int batchSize, int maxPendingBatches) {
+        return new IngestPipeline<>(this, batchSize, maxPendingBatches);
+    }
+
+    /**
+     * Метод возвращает элемент массива {@link ArrayList#array} на указанной позиции
+     *
+     * @param index индекс требуемого элемента массива {@link ArrayList#array}
+     * @return элемент массива {@link ArrayList#array} на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если передаваемый {@code index}
+     *                                   выходит за пределы индексации {@link ArrayList}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) array[index];
+    }
+
+    /**
+     * Изменяет значение элемента в массиве {@link ArrayList#array} на указанной позиции
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element значение элемента, на который требуется заменить
+     * @return предыдущее значение элемента
+     * @throws IndexOutOfBoundsException в случае если передаваемый {@code index}
+     *                                   выходит за пределы индексации {@link ArrayList}
+     * @throws IllegalArgumentException  в случае если в сортированном режиме элемент нарушает порядок на месте {@code index}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        checkIndex(index);
+        if (sortOrder != null) {
+            checkOrder(element, index, index + 1);
+        }
+        unshare();
+        T oldElement = (T) array[index];
+        if (positionIndex != null) {
+            positionIndex.remove(oldElement, index);
+            positionIndex.add(element, index);
+        }
+        array[index] = element;
+        return oldElement;
+    }
+
+    /**
+     * Удаляет из массива {@link ArrayList#array} элемент по индексу,
+     * сдвигая все элементы влево, при этом декрементируя индексируемость {@link ArrayList}
+     *
+     * @param index индекс элемента для удаления
+     * @return значение удаленного элемента
+     * @throws IndexOutOfBoundsException в случае если передаваемый {@code index}
+     *                                   выходит за пределы индексации {@link ArrayList}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index);
+        T deletedElement = (T) array[index];
+        fastRemove(index);
+        return deletedElement;
+    }
+
+    /**
+     * Удаляет из массива {@link ArrayList#array} элемент по его значению,
+     * сдвигая все элементы влево, при этом декрементируя индексируемость {@link ArrayList}.
+     * Если в массиве {@link ArrayList#array} элемент отсутствует, то ничего не происходит
+     *
+     * @param element значение элемента для удаления
+     * @return {@code true}, если элемент был найден и удален, в противном случае {@code false}
+     */
+    @Override
+    public boolean remove(Object element) {
+        int position = indexOf(element);
+        if (position >= 0) {
+            fastRemove(position);
+        }
+        return position >= 0;
+    }
+
+    /**
+     * Удаляет из массива {@link ArrayList#array} все элементы,
+     * удовлетворяющие фильтру передаваемого экземпляра {@code Predicate}, за один проход без выделения памяти:
+     * оставшиеся элементы уплотняются к началу массива, а освободившийся хвост обнуляется.
+     * Если фильтр выбросит исключение, уже удаленные элементы остаются удаленными,
+     * а непроверенные элементы сохраняются; для отката в таком случае используйте
+     * {@link ArrayList#removeIfAllOrNothing(Predicate)}
+     *
+     * @param filter экземпляр функционального интерфейса {@link Predicate}
+     * @return {@code true}, если элемент(ы) был(и) найден(ы) и удален(ы), в противном случае {@code false}
+     * @throws NullPointerException в случае, если {@code filter} неинициализирован
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Cannot invoke method removeIf(Predicate<? super T> filter) because the filter is null");
+        }
+        return removeMatching(filter);
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие фильтру, в две фазы: сначала фильтр проверяет все элементы
+     * и отмечает удаляемые в битовой карте, затем массив уплотняется за один проход.
+     * Если фильтр выбросит исключение, список остается без изменений
+     *
+     * @param filter экземпляр функционального интерфейса {@link Predicate}
+     * @return {@code true}, если элемент(ы) был(и) найден(ы) и удален(ы), в противном случае {@code false}
+     * @throws NullPointerException в случае, если {@code filter} неинициализирован
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeIfAllOrNothing(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Cannot invoke method removeIfAllOrNothing(Predicate<? super T> filter) because the filter is null");
+        }
+        long[] removed = new long[(size + 63) >>> 6];
+        int removedCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test((T) array[i])) {
+                removed[i >>> 6] |= 1L << i;
+                removedCount++;
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        unshare();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & (1L << i)) == 0) {
+                array[kept++] = array[i];
+            }
+        }
+        Arrays.fill(array, kept, size, null);
+        size = kept;
+        modCount++;
+        rebuildIndex();
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы, содержащиеся в передаваемой коллекции, за один проход.
+     * Время работы определяется {@link java.util.Collection#contains(Object)}, поэтому для больших
+     * коллекций выгоднее передавать {@link java.util.HashSet}
+     *
+     * @param collection коллекция удаляемых элементов
+     * @return {@code true}, если хотя бы один элемент был удален
+     * @throws NullPointerException в случае, если {@code collection} неинициализирована
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new NullPointerException("Cannot invoke method removeAll(Collection<?> collection) because the collection is null");
+        }
+        return removeMatching(collection::contains);
+    }
+
+    /**
+     * Оставляет только элементы, содержащиеся в передаваемой коллекции, за один проход
+     *
+     * @param collection коллекция сохраняемых элементов
+     * @return {@code true}, если хотя бы один элемент был удален
+     * @throws NullPointerException в случае, если {@code collection} неинициализирована
+     * @see ArrayList#removeAll(Collection)
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new NullPointerException("Cannot invoke method retainAll(Collection<?> collection) because the collection is null");
+        }
+        return removeMatching(x -> !collection.contains(x));
+    }
+
+    /**
+     * Возвращает индекс первого найденного передаваемого элемента в массиве {@link ArrayList#array},
+     * или {@code -1} если такого элемента нет
+     *
+     * @param element элемент, индекс которого требуется получить
+     * @return индекс элемента, если он содержится в массиве {@link ArrayList#array}, в противном случае {@code -1}
+     */
+    @Override
+    public int indexOf(Object element) {
+        long start = metricsStart();
+        int position = positionIndex != null ? positionIndex.first(element) : indexOfRange(element, 0, size);
+        if (metered()) {
+            metrics.recordSearch(positionIndex != null ? 0 : position < 0 ? size : position + 1, start);
+        }
+        return position;
+    }
+
+    /**
+     * Возвращает индекс последнего найденного передаваемого элемента в массиве {@link ArrayList#array},
+     * или {@code -1} если такого элемента нет
+     *
+     * @param element элемент, индекс которого требуется получить
+     * @return индекс элемента, если он содержится в массиве {@link ArrayList#array}, в противном случае {@code -1}
+     */
+    @Override
+    public int lastIndexOf(Object element) {
+        long start = metricsStart();
+        int position = positionIndex != null ? positionIndex.last(element) : lastIndexOfRange(element, 0, size);
+        if (metered()) {
+            metrics.recordSearch(positionIndex != null ? 0 : position < 0 ? size : size - position, start);
+        }
+        return position;
+    }
+
+    /**
+     * @param element искомый элемент
+     * @return {@code true}, если элемент содержится в массиве {@link ArrayList#array}
+     */
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Проверяет вхождение всех элементов коллекции. Без индексированного режима для коллекций больше
+     * {@value CONTAINS_ALL_SCAN_LIMIT} элементов искомые элементы складываются во временный {@link HashSet},
+     * который вычеркивается за один проход по массиву, поэтому проверка занимает O(n + m) вместо O(n * m)
+     *
+     * @param collection коллекция искомых элементов
+     * @return {@code true}, если список содержит все элементы коллекции
+     * @throws NullPointerException в случае, если {@code collection} неинициализирована
+     */
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new NullPointerException("Cannot invoke method containsAll(Collection<?> collection) because the collection is null");
+        }
+        if (positionIndex == null && collection.size() > CONTAINS_ALL_SCAN_LIMIT) {
+            Set<Object> remaining = new HashSet<>(collection);
+            for (int i = 0; i < size && !remaining.isEmpty(); i++) {
+                remaining.remove(array[i]);
+            }
+            return remaining.isEmpty();
+        }
+        for (Object element : collection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Заменяет каждый элемент результатом {@code operator} за один проход по массиву {@link ArrayList#array}.
+     * Замена не считается структурным изменением, но изменение списка из {@code operator} прерывает проход.
+     * В сортированном режиме элементы после замены заново упорядочиваются
+     *
+     * @param operator функция замены элемента
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время прохода
+     * @throws NullPointerException            в случае, если {@code operator} неинициализирован
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        if (operator == null) {
+            throw new NullPointerException("Cannot invoke method replaceAll(UnaryOperator<T> operator) because the operator is null");
+        }
+        unshare();
+        int expectedModCount = modCount;
+        Object[] elements = array;
+        try {
+            for (int i = 0; modCount == expectedModCount && i < size; i++) {
+                elements[i] = operator.apply((T) elements[i]);
+            }
+        } finally {
+            if (sortOrder != null) {
+                Sorter.mergeSort(array, 0, size, sortOrder);
+            }
+            invalidateHash();
+            rebuildIndex();
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Включает индексированный режим: рядом с массивом {@link ArrayList#array} строится хеш-индекс
+     * значение → позиции, и {@link ArrayList#indexOf(Object)}, {@link ArrayList#lastIndexOf(Object)},
+     * {@link ArrayList#contains(Object)} и {@link ArrayList#remove(Object)} находят элемент за ожидаемое O(1)
+     * вместо линейного поиска.
+     * <p>
+     * Добавление в конец и {@link ArrayList#set(int, Object)} обновляют индекс за O(1), операции со сдвигом
+     * обновляют позиции только сдвинутых элементов, сортировка и {@code removeIf} перестраивают индекс
+     * за один проход. Элементы сравниваются через {@code equals} и {@code hashCode} и не должны меняться,
+     * пока находятся в списке. Индекс занимает около 90 байт на каждое различное значение.
+     * Повторный вызов ничего не делает
+     */
+    public void enableIndex() {
+        if (positionIndex == null) {
+            positionIndex = new PositionIndex(array, size);
+        }
+    }
+
+    /**
+     * Выключает индексированный режим и освобождает индекс
+     */
+    public void disableIndex() {
+        positionIndex = null;
+    }
+
+    /**
+     * @return {@code true}, если включен индексированный режим (см. {@link ArrayList#enableIndex()})
+     */
+    public boolean isIndexed() {
+        return positionIndex != null;
+    }
+
+    /**
+     * Включает сортированный режим: элементы устойчиво сортируются по {@code comparator}, и дальше список
+     * поддерживает этот порядок. {@link ArrayList#add(Object)} вставляет элемент на свое место за равными ему,
+     * сдвигая хвост одним копированием, а {@code addAll} сортирует пачку (уже упорядоченная пачка проверяется
+     * за один проход) и сливает ее со списком с конца за один проход, не трогая элементы до места вставки первого.
+     * Поиск {@link ArrayList#binarySearch(Object)}, {@link ArrayList#floor(Object)}, {@link ArrayList#ceiling(Object)}
+     * и {@link ArrayList#range(Object, Object)} выполняется за O(log n).
+     * <p>
+     * Вставка и замена по индексу ({@code add(int, T)}, {@code set}, {@code addAll(int, Collection)},
+     * а также через итераторы и {@code subList}) разрешены, только если не нарушают порядок.
+     * Сортировка другим компаратором в этом режиме запрещена. Повторный вызов пересортировывает список
+     *
+     * @param comparator порядок элементов или {@code null} для естественного порядка
+     */
+    public void enableSorted(Comparator<? super T> comparator) {
+        sortOrder = null;
+        stableSort(comparator);
+        sortOrder = orNatural(comparator);
+    }
+
+    /**
+     * Выключает сортированный режим, элементы остаются на своих местах
+     */
+    public void disableSorted() {
+        sortOrder = null;
+    }
+
+    /**
+     * @return {@code true}, если включен сортированный режим (см. {@link ArrayList#enableSorted(Comparator)})
+     */
+    public boolean isSorted() {
+        return sortOrder != null;
+    }
+
+    /**
+     * Ищет элемент двоичным поиском в сортированном режиме. Среди равных элементов возвращается первый
+     *
+     * @param key искомый элемент
+     * @return индекс первого элемента, равного {@code key} по компаратору, иначе {@code -(точка вставки) - 1}
+     * @throws IllegalStateException в случае если сортированный режим не включен
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearch(T key) {
+        checkSorted();
+        int index = lowerBound(key);
+        return index < size && sortOrder.compare((T) array[index], key) == 0 ? index : -(index + 1);
+    }
+
+    /**
+     * @param key граница поиска
+     * @return наибольший элемент, не больший {@code key}, или {@code null}, если такого нет
+     * @throws IllegalStateException в случае если сортированный режим не включен
+     */
+    @SuppressWarnings("unchecked")
+    public T floor(T key) {
+        checkSorted();
+        int index = upperBound(key) - 1;
+        return index >= 0 ? (T) array[index] : null;
+    }
+
+    /**
+     * @param key граница поиска
+     * @return наименьший элемент, не меньший {@code key}, или {@code null}, если такого нет
+     * @throws IllegalStateException в случае если сортированный режим не включен
+     */
+    @SuppressWarnings("unchecked")
+    public T ceiling(T key) {
+        checkSorted();
+        int index = lowerBound(key);
+        return index < size ? (T) array[index] : null;
+    }
+
+    /**
+     * Возвращает представление элементов из полуинтервала {@code [from, to)} по компаратору сортированного режима.
+     * Границы находятся двоичным поиском, дальше представление ведет себя как {@link ArrayList#subList(int, int)}
+     *
+     * @param from нижняя граница, включается
+     * @param to   верхняя граница, не включается
+     * @return представление диапазона списка
+     * @throws IllegalArgumentException в случае если {@code from} больше {@code to}
+     * @throws IllegalStateException    в случае если сортированный режим не включен
+     */
+    public List<T> range(T from, T to) {
+        checkSorted();
+        if (sortOrder.compare(from, to) > 0) {
+            throw new IllegalArgumentException("The range start is greater than the range end");
+        }
+        return subList(lowerBound(from), lowerBound(to));
+    }
+
+    /**
+     * @return значение длины индексируемой части массива {@link ArrayList#array}
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * @return значение длины индексируемой части массива {@link ArrayList#array}, то же, что {@link ArrayList#length()}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true}, если список не содержит элементов
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Присваивает всем элементам массива {@link ArrayList#array} значение {@code null}
+     */
+    @Override
+    public void clear() {
+        invalidateHash();
+        if (owners != null) {
+            array = array.length == 0 ? DEFAULT_CAPACITY_EMPTY : new Object[array.length];
+            release();
+        } else {
+            Arrays.fill(array, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+        if (positionIndex != null) {
+            positionIndex.clear();
+        }
+    }
+
+    /**
+     * @return {@code true} если длина индексируемой части массива {@link ArrayList#array} меньше вместимости массива,
+     * В противном случае вернет {@code false}
+     */
+    public boolean ensureCapacity() {
+        return (array.length > size);
+    }
+
+    /**
+     * Заранее резервирует вместимость массива {@link ArrayList#array} ровно {@code minCapacity}
+     * одним перевыделением, чтобы последующие добавления не копировали данные.
+     * Если вместимости уже достаточно, ничего не происходит
+     *
+     * @param minCapacity требуемая вместимость
+     * @throws OutOfMemoryError в случае если {@code minCapacity} превышает {@link GrowthPolicy#MAX_CAPACITY}
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+            }
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * @return текущая вместимость массива {@link ArrayList#array}, {@code 0} до первого добавления
+     * в список, созданный конструктором по умолчанию
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * @return стратегия увеличения вместимости массива {@link ArrayList#array}
+     */
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * @return число перевыделений массива {@link ArrayList#array} за время жизни списка,
+     * включая {@link ArrayList#trimToSize()} и {@link ArrayList#setCapacity(int)}
+     */
+    public int resizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * @return суммарное число элементов, скопированных при перевыделениях массива {@link ArrayList#array}
+     */
+    public long copiedElementCount() {
+        return copiedElementCount;
+    }
+
+    /**
+     * Включает сбор метрик списка: счетчики операций, число сдвинутых, просмотренных и скопированных элементов,
+     * гистограммы задержек операций со сдвигом, поиска и перевыделений. Метрики регистрируются в JMX
+     * под именем {@code org.example:type=ArrayList,name=<name>} и остаются там до {@link ArrayList#disableMetrics()}.
+     * Если метрики уже включены, прежние снимаются с регистрации. Копии и снимки списка метрики не наследуют
+     *
+     * @param name имя списка в JMX
+     * @return метрики списка
+     * @throws IllegalStateException    в случае если JVM запущена без {@code -Dorg.example.metrics=true}
+     * @throws IllegalArgumentException в случае если метрики с таким именем уже зарегистрированы
+     * @throws NullPointerException     в случае, если {@code name} неинициализировано
+     */
+    public ListMetrics enableMetrics(String name) {
+        if (!ListMetrics.ENABLED) {
+            throw new IllegalStateException("Metrics are disabled, start the JVM with -Dorg.example.metrics=true");
+        }
+        if (name == null) {
+            throw new NullPointerException("The metrics name cannot be null");
+        }
+        disableMetrics();
+        ListMetrics created = new ListMetrics(name);
+        created.register();
+        metrics = created;
+        return created;
+    }
+
+    /**
+     * Выключает сбор метрик и снимает их с регистрации в JMX
+     */
+    public void disableMetrics() {
+        if (metrics != null) {
+            metrics.unregister();
+            metrics = null;
+        }
+    }
+
+    /**
+     * @return метрики списка или {@code null}, если сбор не включен
+     */
+    public ListMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Обрезает длину массива {@link ArrayList#array} до размера индексируемой части
+     * {@link ArrayList#size} путем его перезаписи
+     */
+    public void trimToSize() {
+        resize(size);
+    }
+
+    /**
+     * Устанавливает вместимость массива {@link ArrayList#array} указанному значению путем его перезаписи,
+     * при этом если {@code capacity} меньше индексируемой части массива {@link ArrayList#array},
+     * то значения за ее пределами теряются, а длина уменьшается до {@code capacity}
+     *
+     * @param capacity новое значение вместимости массива {@link ArrayList#array}
+     * @throws IllegalArgumentException в случае если {@code capacity} меньше 1
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be greater or equal to 1");
+        }
+        if (capacity < size) {
+            invalidateHash();
+            this.size = capacity;
+            modCount++;
+            rebuildIndex();
+        }
+        resize(capacity);
+    }
+
+    /**
+     * @return {@code String} в квадратных скобках со значениями элементов индексируемой части
+     * массива {@link ArrayList#array}, перечисленных через запятую
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder result = new StringBuilder(2 + 8 * size).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(array[i] == this ? "(this Collection)" : String.valueOf(array[i]));
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * Выгружает список в текстовом формате через буфер ограниченного размера, не собирая весь текст
+     * в одну строку, в отличие от {@link ArrayList#toString()}. {@link java.io.Writer} получает символы
+     * без промежуточных строк. Элементы {@code null} допускаются
+     *
+     * @param target получатель текста, например {@link java.io.Writer} или {@link StringBuilder}
+     * @param format формат выгрузки, например {@link TextFormat#JSON} или {@link TextFormat#CSV}
+     * @throws IOException                     в случае ошибки записи
+     * @throws NullPointerException            в случае, если {@code target} или {@code format} неинициализированы
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время выгрузки
+     */
+    public void exportTo(Appendable target, TextFormat<? super T> format) throws IOException {
+        checkExportArguments(target, format);
+        int expectedModCount = modCount;
+        ListExport.write(this.array, this.size, target, format);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Выгружает список в текстовом формате в кодировке UTF-8, передавая в канал блоки до 64 КБ
+     *
+     * @param target канал, например {@link java.nio.channels.FileChannel}
+     * @param format формат выгрузки, например {@link TextFormat#JSON} или {@link TextFormat#CSV}
+     * @throws IOException                     в случае ошибки записи
+     * @throws NullPointerException            в случае, если {@code target} или {@code format} неинициализированы
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время выгрузки
+     * @see ArrayList#parallelExportTo(WritableByteChannel, TextFormat)
+     */
+    public void exportTo(WritableByteChannel target, TextFormat<? super T> format) throws IOException {
+        checkExportArguments(target, format);
+        int expectedModCount = modCount;
+        ListExport.write(this.array, this.size, target, format);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Выгружает список в двоичном формате с префиксами длины (см. {@link ListExport}): число элементов,
+     * затем длина и байты каждого элемента, {@code null} записывается длиной {@code -1}
+     *
+     * @param target канал, например {@link java.nio.channels.FileChannel}
+     * @param codec  кодек элементов, например {@link ElementCodec#INT} или {@link ElementCodec#STRING}
+     * @throws IOException                     в случае ошибки записи
+     * @throws NullPointerException            в случае, если {@code target} или {@code codec} неинициализированы
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время выгрузки
+     * @see ArrayList#parallelExportTo(WritableByteChannel, ElementCodec)
+     */
+    public void exportTo(WritableByteChannel target, ElementCodec<? super T> codec) throws IOException {
+        checkExportArguments(target, codec);
+        int expectedModCount = modCount;
+        ListExport.write(this.array, this.size, target, codec);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * То же, что {@link ArrayList#exportTo(WritableByteChannel, TextFormat)}, но участки кодируются параллельно
+     * в {@link java.util.concurrent.ForkJoinPool} и записываются в канал по порядку. В памяти одновременно
+     * находится не больше двух закодированных участков на поток. Формат должен допускать вызовы из разных потоков
+     *
+     * @param target канал, например {@link java.nio.channels.FileChannel}
+     * @param format формат выгрузки
+     * @throws IOException                     в случае ошибки записи
+     * @throws NullPointerException            в случае, если {@code target} или {@code format} неинициализированы
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время выгрузки
+     */
+    public void parallelExportTo(WritableByteChannel target, TextFormat<? super T> format) throws IOException {
+        checkExportArguments(target, format);
+        int expectedModCount = modCount;
+        ListExport.parallelWrite(this.array, this.size, target, format);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * То же, что {@link ArrayList#exportTo(WritableByteChannel, ElementCodec)}, но участки кодируются параллельно
+     * в {@link java.util.concurrent.ForkJoinPool} и записываются в канал по порядку
+     *
+     * @param target канал, например {@link java.nio.channels.FileChannel}
+     * @param codec  кодек элементов
+     * @throws IOException                     в случае ошибки записи
+     * @throws NullPointerException            в случае, если {@code target} или {@code codec} неинициализированы
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время выгрузки
+     */
+    public void parallelExportTo(WritableByteChannel target, ElementCodec<? super T> codec) throws IOException {
+        checkExportArguments(target, codec);
+        int expectedModCount = modCount;
+        ListExport.parallelWrite(this.array, this.size, target, codec);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * @return массив {@code Object[]} с элементами индексируемой части массива {@link ArrayList#array}
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Копирует элементы в переданный массив одним {@link System#arraycopy}, если он достаточно длинный,
+     * иначе создает новый массив того же типа. Элемент сразу за последним скопированным обнуляется
+     *
+     * @param target массив для элементов списка
+     * @return {@code target} или новый массив длины {@link ArrayList#length()}
+     * @throws ArrayStoreException  в случае если тип {@code target} не может хранить элементы списка
+     * @throws NullPointerException в случае, если {@code target} неинициализирован
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A> A[] toArray(A[] target) {
+        if (target.length < size) {
+            return (A[]) Arrays.copyOf(array, size, target.getClass());
+        }
+        System.arraycopy(array, 0, target, 0, size);
+        if (target.length > size) {
+            target[size] = null;
+        }
+        return target;
+    }
+
+    /**
+     * Удаляет элементы в диапазоне {@code [fromIndex, toIndex)}, сдвигая хвост массива одним копированием
+     *
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex   индекс, следующий за последним удаляемым элементом
+     * @throws IndexOutOfBoundsException в случае если диапазон выходит за пределы индексации
+     *                                   или {@code fromIndex > toIndex}
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        long start = metricsStart();
+        unshare();
+        if (positionIndex != null) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                positionIndex.remove(array[i], i);
+            }
+            positionIndex.shift(array, toIndex, size, fromIndex - toIndex);
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+        if (metered()) {
+            metrics.recordRemove(size - fromIndex, start);
+        }
+    }
+
+    /**
+     * Возвращает представление диапазона {@code [fromIndex, toIndex)} без копирования: чтение и запись
+     * через него идут прямо в массив {@link ArrayList#array}, например {@code subList(from, to).clear()}
+     * удаляет диапазон одним сдвигом. После структурного изменения списка в обход представления
+     * его методы выбрасывают {@link ConcurrentModificationException}. Для независимой копии используйте
+     * {@code new ArrayList<>(list.subList(from, to))}
+     *
+     * @param fromIndex индекс первого элемента
+     * @param toIndex   индекс, следующий за последним элементом
+     * @return представление диапазона списка
+     * @throws IndexOutOfBoundsException в случае если диапазон выходит за пределы индексации
+     *                                   или {@code fromIndex > toIndex}
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Возвращает снимок списка за O(1) без копирования элементов. Снимок и исходный список разделяют
+     * массив {@link ArrayList#array}, пока один из них не выполнит запись: тогда записывающий список
+     * копирует массив целиком и дальше изменяется независимо, а последний оставшийся владелец массива
+     * пишет в него без копирования. Читатели снимков ничего не копируют,
+     * поэтому один большой список можно раздать многим обработчикам.
+     * Сортированный режим переносится на снимок, индексированный (см. {@link ArrayList#enableIndex()}) - нет
+     *
+     * @return новый экземпляр {@link ArrayList} с теми же элементами
+     */
+    public ArrayList<T> snapshot() {
+        return new ArrayList<>(this);
+    }
+
+    /**
+     * Записывает индексируемую часть массива {@link ArrayList#array} в файл в двоичном формате
+     * {@link MappedArrayList}, из которого список открывается отображением в память без поэлементной десериализации
+     *
+     * @param file  путь к файлу, существующий файл перезаписывается
+     * @param codec кодек элементов, например {@link ElementCodec#INT} или {@link ElementCodec#STRING}
+     * @throws IOException          в случае ошибки записи или если файл превысит 2 ГБ
+     * @throws NullPointerException в случае если кодек фиксированной ширины встречает элемент {@code null}
+     * @see MappedArrayList#open(Path, ElementCodec)
+     */
+    public void writeTo(Path file, ElementCodec<? super T> codec) throws IOException {
+        MappedArrayList.write(this.array, this.size, file, codec);
+    }
+
+    /**
+     * Возвращает итератор, который обнаруживает структурное изменение списка в обход самого итератора
+     * и в таком случае выбрасывает {@link ConcurrentModificationException}. Замена элементов через
+     * {@link ArrayList#set(int, Object)} структурным изменением не считается
+     *
+     * @return итератор по элементам индексируемой части массива {@link ArrayList#array}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator(0);
+    }
+
+    /**
+     * @return двунаправленный итератор с той же проверкой структурных изменений, что у {@link ArrayList#iterator()}
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ArrayIterator(0);
+    }
+
+    /**
+     * @param index индекс элемента, который вернет первый вызов {@link ListIterator#next()}
+     * @return двунаправленный итератор, начинающий с позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ArrayIterator(index);
+    }
+
+    /**
+     * Обходит элементы прямо по массиву {@link ArrayList#array} без выделения памяти и без проверки
+     * индекса на каждом шаге. Структурное изменение списка из {@code action} прерывает обход
+     *
+     * @param action действие над каждым элементом
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время обхода
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException("Cannot invoke method forEach(Consumer<? super T> action) because the action is null");
+        }
+        int expectedModCount = modCount;
+        Object[] elements = array;
+        int length = size;
+        for (int i = 0; modCount == expectedModCount && i < length; i++) {
+            action.accept((T) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Возвращает {@link Spliterator} с характеристиками {@code ORDERED}, {@code SIZED} и {@code SUBSIZED},
+     * который делит индексируемую часть массива {@link ArrayList#array} пополам без копирования.
+     * Длина фиксируется при первом обращении, а не при создании
+     *
+     * @return {@link Spliterator} по элементам списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * @return последовательный {@link Stream} по элементам списка
+     */
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return параллельный {@link Stream}, который делит массив {@link ArrayList#array} на равные части
+     * без копирования (см. {@link ArrayList#spliterator()})
+     */
+    @Override
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Возвращает хеш-код по контракту {@link List#hashCode()}: он зависит только от элементов и их порядка.
+     * Значение вычисляется при первом вызове и кешируется до следующего изменения списка,
+     * поэтому повторные обращения к списку как к ключу {@link java.util.HashMap} выполняются за O(1).
+     * Как и для ключей любых хеш-таблиц, элементы не должны меняться, пока список используется как ключ
+     *
+     * @return хеш-код содержимого списка
+     */
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0 && !hashIsZero) {
+            result = 1;
+            for (int i = 0; i < size; i++) {
+                Object element = array[i];
+                result = 31 * result + (element == null ? 0 : element.hashCode());
+            }
+            if (result == 0) {
+                hashIsZero = true;
+            } else {
+                hash = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Сравнивает список с любым {@link List} по контракту {@link List#equals(Object)}: списки равны,
+     * если содержат равные элементы в одинаковом порядке, {@code null} равен только {@code null}.
+     * Вместимость массива не учитывается. Списки разной длины и {@link ArrayList} с разными
+     * уже вычисленными хеш-кодами различаются без поэлементного сравнения
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если {@code o} - список с теми же элементами
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof ArrayList<?> other) {
+            if (this.size != other.size || hashMismatch(other)) {
+                return false;
+            }
+            return Arrays.equals(this.array, 0, this.size, other.array, 0, other.size);
+        }
+        if (!(o instanceof List<?> other) || other.size() != size) {
+            return false;
+        }
+        int i = 0;
+        for (Object element : other) {
+            if (i == size || !Objects.equals(array[i], element)) {
+                return false;
+            }
+            i++;
+        }
+        return i == size;
+    }
+
+    /**
+     * @return {@code true}, если хеш-коды обоих списков уже вычислены и различаются
+     */
+    private boolean hashMismatch(ArrayList<?> other) {
+        int thisHash = this.hash;
+        int otherHash = other.hash;
+        return (thisHash != 0 || this.hashIsZero) && (otherHash != 0 || other.hashIsZero) && thisHash != otherHash;
+    }
+
+    /**
+     * Сбрасывает кешированный хеш-код перед изменением элементов
+     */
+    private void invalidateHash() {
+        hash = 0;
+        hashIsZero = false;
+    }
+
+    /**
+     * Добавляет диапазон массива без проверок аргументов, общая часть {@code addAll} для массивов
+     * и {@link IngestPipeline}
+     */
+    void appendAll(Object[] source, int offset, int length) {
+        if (sortOrder != null) {
+            mergeSorted(source, offset, length);
+            return;
+        }
+        ensureWritable(size + length);
+        System.arraycopy(source, offset, array, size, length);
+        if (positionIndex != null) {
+            for (int i = size; i < size + length; i++) {
+                positionIndex.add(array[i], i);
+            }
+        }
+        size += length;
+        modCount++;
+        if (metered()) {
+            metrics.recordAdd(length);
+        }
+    }
+
+    int indexOfRange(Object element, int from, int to) {
+        if (element == null) {
+            for (int i = from; i < to; i++) {
+                if (array[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                if (element.equals(array[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    int lastIndexOfRange(Object element, int from, int to) {
+        if (element == null) {
+            for (int i = to - 1; i >= from; i--) {
+                if (array[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = to - 1; i >= from; i--) {
+                if (element.equals(array[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return индекс первого элемента, не меньшего {@code key}
+     */
+    @SuppressWarnings("unchecked")
+    private int lowerBound(T key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortOrder.compare((T) array[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return индекс первого элемента, большего {@code key}
+     */
+    @SuppressWarnings("unchecked")
+    private int upperBound(T key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortOrder.compare((T) array[middle], key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Сливает диапазон массива с упорядоченным списком. Копия пачки сортируется, затем элементы раскладываются
+     * с конца массива, поэтому элементы до места вставки первого элемента пачки не перемещаются. Если компаратор
+     * выбросит исключение, нераспределенная часть пачки записывается в оставшийся промежуток, и все элементы
+     * остаются в списке
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeSorted(Object[] source, int offset, int length) {
+        Object[] batch = Arrays.copyOfRange(source, offset, offset + length);
+        Sorter.mergeSort(batch, 0, length, sortOrder);
+        ensureWritable(size + length);
+        Object[] elements = array;
+        int i = size - 1;
+        int j = length - 1;
+        int k = size + length - 1;
+        try {
+            while (j >= 0 && i >= 0) {
+                if (sortOrder.compare((T) elements[i], (T) batch[j]) > 0) {
+                    elements[k--] = elements[i--];
+                } else {
+                    elements[k--] = batch[j--];
+                }
+            }
+        } finally {
+            System.arraycopy(batch, 0, elements, i + 1, j + 1);
+            size += length;
+            modCount++;
+            rebuildIndex();
+            if (metered()) {
+                metrics.recordAdd(length);
+            }
+        }
+    }
+
+    /**
+     * Проверяет без выделения памяти, что элемент помещается между элементами с индексами {@code index - 1}
+     * и {@code next} сортированного списка
+     */
+    @SuppressWarnings("unchecked")
+    private void checkOrder(T element, int index, int next) {
+        if (index > 0 && sortOrder.compare((T) array[index - 1], element) > 0
+                || next < size && sortOrder.compare(element, (T) array[next]) > 0) {
+            throw new IllegalArgumentException("The element violates the sort order at index " + index);
+        }
+    }
+
+    /**
+     * Проверяет, что элементы {@code batch[0, length)} упорядочены и помещаются между элементами
+     * с индексами {@code index - 1} и {@code next} сортированного списка
+     */
+    @SuppressWarnings("unchecked")
+    private void checkOrder(Object[] batch, int length, int index, int next) {
+        for (int i = -1; i < length; i++) {
+            boolean hasLeft = i >= 0 || index > 0;
+            boolean hasRight = i + 1 < length || next < size;
+            if (hasLeft && hasRight) {
+                T left = (T) (i >= 0 ? batch[i] : array[index - 1]);
+                T right = (T) (i + 1 < length ? batch[i + 1] : array[next]);
+                if (sortOrder.compare(left, right) > 0) {
+                    throw new IllegalArgumentException("The element violates the sort order at index " + (index + Math.max(i, 0)));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true}, если включен сортированный режим с тем же порядком и сортировать не нужно
+     * @throws IllegalStateException в случае если включен сортированный режим с другим порядком
+     */
+    private boolean checkSortOrder(Comparator<? super T> comparator) {
+        if (sortOrder == null) {
+            return false;
+        }
+        if (!sortOrder.equals(orNatural(comparator))) {
+            throw new IllegalStateException("The list is kept in a different sort order");
+        }
+        return true;
+    }
+
+    /**
+     * Оборачивает заполненный массив без копирования, список становится его владельцем
+     */
+    static <T> ArrayList<T> wrap(Object[] array) {
+        return new ArrayList<>(array, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * @return массив {@link ArrayList#array} без копирования, элементы занимают {@code [0, size())}
+     */
+    Object[] elements() {
+        return array;
+    }
+
+    /**
+     * Готовит список к повторной выдаче из {@link ListPool}: очищает его с сохранением вместимости
+     * и выключает индексированный и сортированный режимы и метрики
+     */
+    void resetForReuse() {
+        clear();
+        positionIndex = null;
+        sortOrder = null;
+        disableMetrics();
+    }
+
+    private static void checkExportArguments(Object target, Object format) {
+        if (target == null || format == null) {
+            throw new NullPointerException("Cannot export the list because the target or the format is null");
+        }
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void checkSorted() {
+        if (sortOrder == null) {
+            throw new IllegalStateException("The sorted mode is disabled");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> orNatural(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    private void rebuildIndex() {
+        if (positionIndex != null) {
+            positionIndex.rebuild(array, size);
+        }
+    }
+
+    /**
+     * Копирует элементы в новый массив вместимостью, выбранной {@link ArrayList#growthPolicy},
+     * но не меньше {@code minCapacity}. Отрицательный {@code minCapacity} означает переполнение длины
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + Integer.toUnsignedString(minCapacity) + " is too large");
+        }
+        if (array == DEFAULT_CAPACITY_EMPTY) {
+            // Первое выделение отложенного массива не считается перевыделением
+            this.array = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+            release();
+            return;
+        }
+        int newCapacity = growthPolicy.newCapacity(array.length, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("The growth policy returned capacity " + newCapacity
+                    + " which is less than the required " + minCapacity);
+        }
+        resize(newCapacity);
+    }
+
+    /**
+     * Перевыделяет массив {@link ArrayList#array} с указанной вместимостью, учитывая копирование в счетчиках
+     */
+    private void resize(int capacity) {
+        long start = metricsStart();
+        this.array = Arrays.copyOf(this.array, capacity);
+        release();
+        resizeCount++;
+        copiedElementCount += size;
+        if (metered()) {
+            metrics.recordResize(size, start);
+        }
+    }
+
+    /**
+     * Готовит массив {@link ArrayList#array} к записи: увеличивает вместимость до {@code minCapacity}
+     * или, если вместимости достаточно, копирует разделяемый массив
+     */
+    private void ensureWritable(int minCapacity) {
+        invalidateHash();
+        if (minCapacity > array.length || minCapacity < 0) {
+            grow(minCapacity);
+        } else {
+            unshare();
+        }
+    }
+
+    /**
+     * Готовит массив {@link ArrayList#array} к записи без изменения вместимости: сбрасывает кешированный хеш-код
+     * и копирует массив, если им еще пользуется другой список после {@link ArrayList#snapshot()}
+     */
+    private void unshare() {
+        invalidateHash();
+        if (owners == null) {
+            return;
+        }
+        if (owners.get() == 1) {
+            // Остальные владельцы уже отказались от массива
+            owners = null;
+            return;
+        }
+        this.array = Arrays.copyOf(this.array, this.array.length);
+        release();
+        copiedElementCount += size;
+        if (metered()) {
+            metrics.recordCopy(size);
+        }
+    }
+
+    /**
+     * Отказывается от разделяемого массива после того, как список перестал его читать
+     */
+    private void release() {
+        if (owners != null) {
+            owners.decrementAndGet();
+            owners = null;
+        }
+    }
+
+    /**
+     * Уплотняет массив, пропуская элементы, удовлетворяющие фильтру. Префикс без совпадений не перезаписывается.
+     * Если фильтр выбросит исключение, непроверенный хвост сдвигается вслед за оставленными элементами
+     */
+    @SuppressWarnings("unchecked")
+    private boolean removeMatching(Predicate<? super T> filter) {
+        int oldSize = size;
+        int i = 0;
+        while (i < oldSize && !filter.test((T) array[i])) {
+            i++;
+        }
+        if (i == oldSize) {
+            return false;
+        }
+        unshare();
+        int kept = i++;
+        try {
+            for (; i < oldSize; i++) {
+                Object element = array[i];
+                if (!filter.test((T) element)) {
+                    array[kept++] = element;
+                }
+            }
+        } finally {
+            if (i < oldSize) {
+                System.arraycopy(array, i, array, kept, oldSize - i);
+                kept += oldSize - i;
+            }
+            Arrays.fill(array, kept, oldSize, null);
+            size = kept;
+            modCount++;
+            invalidateHash();
+            rebuildIndex();
+        }
+        return true;
+    }
+
+    /**
+     * Сдвигает хвост массива влево на место удаленного элемента и обнуляет освободившуюся ячейку
+     */
+    private void fastRemove(int index) {
+        long start = metricsStart();
+        unshare();
+        if (positionIndex != null) {
+            positionIndex.remove(array[index], index);
+            positionIndex.shift(array, index + 1, size, -1);
+        }
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[--size] = null;
+        modCount++;
+        if (metered()) {
+            metrics.recordRemove(size - index, start);
+        }
+    }
+
+    /**
+     * {@code false}, если метрики выключены флагом {@link ListMetrics#ENABLED}: тогда JIT удаляет
+     * проверку и весь код записи вместе с ней
+     */
+    private boolean metered() {
+        return ListMetrics.ENABLED && metrics != null;
+    }
+
+    /**
+     * @return момент начала измеряемой операции или {@code 0}, если метрики не собираются
+     */
+    private long metricsStart() {
+        return metered() ? System.nanoTime() : 0L;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * Двунаправленный итератор по элементам списка с проверкой {@link ArrayList#modCount}
+     */
+    private final class ArrayIterator implements ListIterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        private ArrayIterator(int cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) array[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = --cursor;
+            return (T) array[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * Удаляет элемент, возвращенный последним вызовом {@link ArrayIterator#next()} или {@link ArrayIterator#previous()}
+         *
+         * @throws IllegalStateException в случае если {@code next()} или {@code previous()} не вызывался
+         *                               после последнего удаления или вставки
+         */
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            fastRemove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.set(lastReturned, element);
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            ArrayList.this.add(cursor++, element);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Представление диапазона {@code [offset, offset + length)} списка, возвращаемое {@link ArrayList#subList(int, int)}.
+     * Операции выполняются методами списка со смещенными индексами, поэтому копирование при записи,
+     * индексированный режим и метрики работают через представление так же, как напрямую
+     */
+    private final class SubList extends AbstractList<T> implements RandomAccess {
+        private final int offset;
+        private int length;
+        private int expectedModCount = ArrayList.this.modCount;
+
+        private SubList(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public T get(int index) {
+            checkSubIndex(index);
+            return ArrayList.this.get(offset + index);
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkSubIndex(index);
+            return ArrayList.this.set(offset + index, element);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return length;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkForComodification();
+            if (index < 0 || index > length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+            }
+            ArrayList.this.add(offset + index, element);
+            updateLength(1);
+        }
+
+        @Override
+        public T remove(int index) {
+            checkSubIndex(index);
+            T removed = ArrayList.this.remove(offset + index);
+            updateLength(-1);
+            return removed;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            ArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateLength(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends T> collection) {
+            return addAll(length, collection);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> collection) {
+            checkForComodification();
+            if (index < 0 || index > length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+            }
+            int oldSize = ArrayList.this.size;
+            ArrayList.this.addAll(offset + index, collection);
+            updateLength(ArrayList.this.size - oldSize);
+            return ArrayList.this.size != oldSize;
+        }
+
+        @Override
+        public int indexOf(Object element) {
+            checkForComodification();
+            int position = indexOfRange(element, offset, offset + length);
+            return position < 0 ? -1 : position - offset;
+        }
+
+        @Override
+        public int lastIndexOf(Object element) {
+            checkForComodification();
+            int position = lastIndexOfRange(element, offset, offset + length);
+            return position < 0 ? -1 : position - offset;
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(array, offset, offset + length);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A> A[] toArray(A[] target) {
+            checkForComodification();
+            if (target.length < length) {
+                return (A[]) Arrays.copyOfRange(array, offset, offset + length, target.getClass());
+            }
+            System.arraycopy(array, offset, target, 0, length);
+            if (target.length > length) {
+                target[length] = null;
+            }
+            return target;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException("Cannot invoke method forEach(Consumer<? super T> action) because the action is null");
+            }
+            checkForComodification();
+            Object[] elements = array;
+            int end = offset + length;
+            for (int i = offset; i < end && ArrayList.this.modCount == expectedModCount; i++) {
+                action.accept((T) elements[i]);
+            }
+            checkForComodification();
+        }
+
+        private void checkSubIndex(int index) {
+            checkForComodification();
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+            }
+        }
+
+        private void checkForComodification() {
+            if (ArrayList.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Учитывает структурное изменение, выполненное через представление
+         */
+        private void updateLength(int delta) {
+            length += delta;
+            expectedModCount = ArrayList.this.modCount;
+            this.modCount++;
+        }
+    }
+
+    /**
+     * Делимый обход диапазона {@code [index, fence)} массива {@link ArrayList#array}
+     */
+    private final class ArraySpliterator implements Spliterator<T> {
+        private int index;
+        /**
+         * @param fence граница обхода или {@code -1}, пока она не зафиксирована первым обращением
+         */
+        private int fence;
+        private int expectedModCount;
+
+        private ArraySpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ArraySpliterator(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            action.accept((T) array[index++]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            int hi = getFence();
+            Object[] elements = array;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) elements[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package org.example;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Динамический массив поверх кольцевого буфера (не потокобезопасен). Элементы занимают ячейки
+ * {@code [head, head + size)} по модулю вместимости, поэтому добавление и удаление в начале списка
+ * выполняются за амортизированное O(1), а вставка и удаление в середине сдвигают меньшую из двух частей,
+ * то есть не более {@code length() / 2} элементов.
+ * <p>
+ * Публичный интерфейс повторяет {@link ArrayList}, так что очередь поверх {@code add(0, T)}
+ * и {@code remove(0)} переводится на этот класс заменой типа
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList
+ */
+public class CircularArrayList<T> implements Iterable<T> {
+    private Object[] array;
+    /**
+     * @param head ячейка массива, в которой лежит элемент с индексом 0
+     */
+    private int head = 0;
+    private int size = 0;
+    private final GrowthPolicy growthPolicy;
+    private int modCount = 0;
+
+    /**
+     * Конструктор создает объект класса {@link CircularArrayList} с изначальной вместимостью 16 элементов
+     */
+    public CircularArrayList() {
+        this(16);
+    }
+
+    /**
+     * @param initialCapacity изначальная вместимость массива
+     * @throws IllegalArgumentException в случае если {@code initialCapacity} меньше 1
+     */
+    public CircularArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * @param initialCapacity изначальная вместимость массива
+     * @param growthPolicy    стратегия увеличения вместимости
+     * @throws IllegalArgumentException в случае если {@code initialCapacity} меньше 1
+     * @throws NullPointerException     в случае, если {@code growthPolicy} неинициализирована
+     */
+    public CircularArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity have to be a positive number");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null");
+        }
+        this.array = new Object[initialCapacity];
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Добавляет элемент в конец списка за амортизированное O(1)
+     *
+     * @param element добавляемый элемент
+     */
+    public void add(T element) {
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        array[physical(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Добавляет элемент в начало списка за амортизированное O(1)
+     *
+     * @param element добавляемый элемент
+     */
+    public void addFirst(T element) {
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        head = head == 0 ? array.length - 1 : head - 1;
+        array[head] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка одним увеличением вместимости
+     * и не более чем двумя копированиями в кольцевой буфер
+     *
+     * @param collection коллекция добавляемых элементов
+     * @return {@code true}, если список изменился
+     * @throws NullPointerException в случае, если {@code collection} неинициализирована
+     * @see ArrayList#addAll(Collection)
+     */
+    public boolean addAll(Collection<? extends T> collection) {
+        if (collection == null) {
+            throw new NullPointerException("Cannot invoke method addAll(Collection<? extends T> collection) because the collection is null");
+        }
+        Object[] elements = collection.toArray();
+        int count = elements.length;
+        if (count == 0) {
+            return false;
+        }
+        int minCapacity = size + count;
+        if (minCapacity > array.length || minCapacity < 0) {
+            grow(minCapacity);
+        }
+        // Свободные ячейки идут от конца списка до конца массива и дальше с нулевой ячейки
+        int start = physical(size);
+        int firstLength = Math.min(count, array.length - start);
+        System.arraycopy(elements, 0, array, start, firstLength);
+        System.arraycopy(elements, firstLength, array, 0, count - firstLength);
+        size = minCapacity;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет элемент на указанный {@code index}, сдвигая меньшую из частей списка: до {@code index}
+     * влево или начиная с {@code index} вправо
+     *
+     * @param index   место вставки элемента
+     * @param element добавляемый элемент
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     */
+    public void add(int index, T element) {
+        checkPositionIndex(index);
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        if (index < size - index) {
+            head = head == 0 ? array.length - 1 : head - 1;
+            size++;
+            move(1, 0, index);
+        } else {
+            move(index, index + 1, size - index);
+            size++;
+        }
+        array[physical(index)] = element;
+        modCount++;
+    }
+
+    /**
+     * @param index индекс требуемого элемента
+     * @return элемент на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) array[physical(index)];
+    }
+
+    /**
+     * Изменяет значение элемента на указанной позиции
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element значение элемента, на который требуется заменить
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public void set(int index, T element) {
+        checkIndex(index);
+        array[physical(index)] = element;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая меньшую из частей списка
+     *
+     * @param index индекс элемента для удаления
+     * @return значение удаленного элемента
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index);
+        T deletedElement = (T) array[physical(index)];
+        if (index < size - index - 1) {
+            move(0, 1, index);
+            array[head] = null;
+            head = head == array.length - 1 ? 0 : head + 1;
+        } else {
+            move(index + 1, index, size - index - 1);
+            array[physical(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return deletedElement;
+    }
+
+    /**
+     * Удаляет первый элемент за O(1)
+     *
+     * @return значение удаленного элемента
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Удаляет последний элемент за O(1)
+     *
+     * @return значение удаленного элемента
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Удаляет первый элемент, равный передаваемому
+     *
+     * @param element значение элемента для удаления
+     * @return {@code true}, если элемент был найден и удален, в противном случае {@code false}
+     */
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие фильтру, за один проход с уплотнением к началу списка
+     *
+     * @param filter экземпляр функционального интерфейса {@link Predicate}
+     * @return {@code true}, если элемент(ы) был(и) найден(ы) и удален(ы), в противном случае {@code false}
+     * @throws NullPointerException в случае, если {@code filter} неинициализирован
+     * @see ArrayList#removeIf(Predicate)
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Cannot invoke method removeIf(Predicate<? super T> filter) because the filter is null");
+        }
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldSize; i++) {
+                Object element = array[physical(i)];
+                if (!filter.test((T) element)) {
+                    array[physical(kept++)] = element;
+                }
+            }
+        } finally {
+            for (; i < oldSize; i++) {
+                array[physical(kept++)] = array[physical(i)];
+            }
+            for (int j = kept; j < oldSize; j++) {
+                array[physical(j)] = null;
+            }
+            if (kept != oldSize) {
+                size = kept;
+                modCount++;
+            }
+        }
+        return kept != oldSize;
+    }
+
+    /**
+     * @param element элемент, индекс которого требуется получить
+     * @return индекс первого равного элемента или {@code -1}
+     */
+    public int indexOf(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, array[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param element элемент, индекс которого требуется получить
+     * @return индекс последнего равного элемента или {@code -1}
+     */
+    public int lastIndexOf(T element) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(element, array[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param element искомый элемент
+     * @return {@code true}, если элемент содержится в списке
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Сортирует элементы интроспективной сортировкой (см. {@link Sorter#introSort}). Если элементы
+     * переходят через конец массива, они предварительно переносятся в непрерывный участок
+     *
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     */
+    public void sort(Comparator<? super T> comparator) {
+        if (head + size > array.length) {
+            array = linearCopy(array.length);
+            head = 0;
+        }
+        Sorter.introSort(array, head, head + size, comparator);
+        modCount++;
+    }
+
+    /**
+     * @return значение длины списка
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * @return текущая вместимость массива
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Удаляет все элементы, вместимость сохраняется
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            array[physical(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Заранее резервирует вместимость не меньше {@code minCapacity}
+     *
+     * @param minCapacity требуемая вместимость
+     * @throws OutOfMemoryError в случае если {@code minCapacity} превышает {@link GrowthPolicy#MAX_CAPACITY}
+     * @see ArrayList#ensureCapacity(int)
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+            }
+            array = linearCopy(minCapacity);
+            head = 0;
+        }
+    }
+
+    /**
+     * @return {@code true}, если длина списка меньше вместимости массива, в противном случае {@code false}
+     * @see ArrayList#ensureCapacity()
+     */
+    public boolean ensureCapacity() {
+        return array.length > size;
+    }
+
+    /**
+     * Обрезает вместимость массива до длины списка, перенося элементы в непрерывный участок с нулевой ячейки
+     */
+    public void trimToSize() {
+        array = linearCopy(size);
+        head = 0;
+    }
+
+    /**
+     * Устанавливает вместимость массива указанному значению путем его перезаписи, при этом если {@code capacity}
+     * меньше длины списка, то элементы за ее пределами теряются, а длина уменьшается до {@code capacity}
+     *
+     * @param capacity новое значение вместимости массива
+     * @throws IllegalArgumentException в случае если {@code capacity} меньше 1
+     * @see ArrayList#setCapacity(int)
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be greater or equal to 1");
+        }
+        if (capacity < size) {
+            size = capacity;
+            modCount++;
+        }
+        array = linearCopy(capacity);
+        head = 0;
+    }
+
+    /**
+     * @return массив {@code Object[]} с элементами списка по порядку индексов
+     */
+    public Object[] toArray() {
+        return linearCopy(size);
+    }
+
+    /**
+     * @return новый {@link ArrayList} с элементами списка
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList<T> toArrayList() {
+        return new ArrayList<>((T[]) toArray());
+    }
+
+    /**
+     * @return итератор, выбрасывающий {@link ConcurrentModificationException} при структурном изменении списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (T) array[physical(cursor++)];
+            }
+        };
+    }
+
+    /**
+     * Обходит элементы двумя непрерывными участками массива без выделения памяти
+     *
+     * @param action действие над каждым элементом
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время обхода
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        Object[] elements = array;
+        int firstLength = Math.min(size, elements.length - head);
+        for (int i = head; modCount == expectedModCount && i < head + firstLength; i++) {
+            action.accept((T) elements[i]);
+        }
+        for (int i = 0; modCount == expectedModCount && i < size - firstLength; i++) {
+            action.accept((T) elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * @return хеш-код содержимого по тем же правилам, что и {@link java.util.List#hashCode()}
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            Object element = array[physical(i)];
+            result = 31 * result + (element == null ? 0 : element.hashCode());
+        }
+        return result;
+    }
+
+    /**
+     * Сравнивает с другим {@link CircularArrayList}: списки равны, если содержат равные элементы
+     * в одинаковом порядке, независимо от вместимости и положения начала в кольцевом буфере
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если {@code o} - {@link CircularArrayList} с теми же элементами
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof CircularArrayList<?> other) || other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(array[physical(i)], other.array[other.physical(i)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code String} в квадратных скобках со значениями элементов, перечисленных через запятую
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(array[physical(i)]);
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * Переводит индекс списка в индекс ячейки массива без деления
+     */
+    private int physical(int index) {
+        int tail = array.length - head;
+        return index < tail ? head + index : index - tail;
+    }
+
+    /**
+     * Копирует {@code length} элементов с индексов списка {@code [from, from + length)} на {@code [to, to + length)}
+     * непрерывными участками через {@link System#arraycopy}. Участки обходятся навстречу сдвигу,
+     * чтобы не затереть еще не скопированные элементы
+     */
+    private void move(int from, int to, int length) {
+        if (to < from) {
+            for (int done = 0; done < length; ) {
+                int source = physical(from + done);
+                int target = physical(to + done);
+                int chunk = Math.min(length - done, Math.min(array.length - source, array.length - target));
+                System.arraycopy(array, source, array, target, chunk);
+                done += chunk;
+            }
+        } else {
+            for (int left = length; left > 0; ) {
+                int sourceEnd = physical(from + left - 1) + 1;
+                int targetEnd = physical(to + left - 1) + 1;
+                int chunk = Math.min(left, Math.min(sourceEnd, targetEnd));
+                System.arraycopy(array, sourceEnd - chunk, array, targetEnd - chunk, chunk);
+                left -= chunk;
+            }
+        }
+    }
+
+    /**
+     * @return новый массив вместимостью {@code capacity} с элементами списка с нулевой ячейки
+     */
+    private Object[] linearCopy(int capacity) {
+        Object[] result = new Object[capacity];
+        int firstLength = Math.min(size, array.length - head);
+        System.arraycopy(array, head, result, 0, firstLength);
+        System.arraycopy(array, 0, result, firstLength, size - firstLength);
+        return result;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + Integer.toUnsignedString(minCapacity) + " is too large");
+        }
+        int newCapacity = growthPolicy.newCapacity(array.length, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("The growth policy returned capacity " + newCapacity
+                    + " which is less than the required " + minCapacity);
+        }
+        array = linearCopy(newCapacity);
+        head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
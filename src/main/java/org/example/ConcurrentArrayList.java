@@ -0,0 +1,488 @@
+package org.example;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Потокобезопасная реализация динамического массива
+ * <ul>
+ *     <li>Чтение ({@code get}, {@code indexOf}, обход) не использует блокировок: читается опубликованный
+ *     снимок {@link Storage} с фиксированной длиной</li>
+ *     <li>Добавление в конец резервирует ячейку атомарным CAS и не ждет других писателей: длина снимка
+ *     продвигается по заполненным ячейкам тем писателем, который их застал, поэтому читатель никогда
+ *     не видит незаполненную ячейку. Элемент становится видимым, как только заполнены все ячейки до него</li>
+ *     <li>Элементы хранятся в корзинах удваивающегося размера, поэтому рост не копирует данные:
+ *     следующую корзину выделяет тот писатель, который первым до нее дошел, остальные используют ее же</li>
+ *     <li>Операции со сдвигом ({@code add(int, T)}, {@code remove}, {@code removeIf}, {@code sort}, {@code clear})
+ *     запечатывают текущий снимок, выполняются над копией и публикуют новый снимок.
+ *     Читатели продолжают работать со старым снимком, ожидают только писатели</li>
+ * </ul>
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList
+ */
+public class ConcurrentArrayList<T> implements Iterable<T> {
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle PUBLISHED;
+
+    static {
+        try {
+            PUBLISHED = MethodHandles.lookup().findVarHandle(Storage.class, "published", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Размер первой корзины, корзина {@code k} вмещает {@code FIRST_BUCKET_SIZE << k} элементов
+     */
+    private static final int FIRST_BUCKET_SHIFT = 4;
+    private static final int FIRST_BUCKET_SIZE = 1 << FIRST_BUCKET_SHIFT;
+    private static final int BUCKET_COUNT = 31 - FIRST_BUCKET_SHIFT;
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_BUCKET_SIZE;
+    /**
+     * Значение счетчика резервирования запечатанного снимка
+     */
+    private static final int SEALED = Integer.MIN_VALUE;
+    /**
+     * Значение ячейки для элемента {@code null}: пустая ячейка означает, что запись в нее еще не завершена
+     */
+    private static final Object NULL = new Object();
+    /**
+     * Значение ячейки, запись в которую не удалась после резервирования; удаляется следующей операцией со сдвигом
+     */
+    private static final Object TOMBSTONE = new Object();
+    /**
+     * Число холостых итераций ожидания, после которого поток уступает процессор
+     */
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private volatile Storage storage = new Storage();
+    private final ReentrantLock structuralLock = new ReentrantLock();
+
+    /**
+     * Снимок содержимого списка
+     */
+    private static final class Storage {
+        private final AtomicReferenceArray<Object[]> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+        /**
+         * @param reserved следующий свободный индекс или {@link ConcurrentArrayList#SEALED}
+         */
+        private final AtomicInteger reserved;
+        /**
+         * @param published число элементов, видимых читателям; ячейки {@code [0, published)} заполнены
+         * и не содержат {@link ConcurrentArrayList#TOMBSTONE}
+         */
+        private volatile int published;
+
+        private Storage() {
+            this.reserved = new AtomicInteger();
+        }
+
+        private Storage(Object[] elements, int size) {
+            for (int i = 0; i < size; ) {
+                int bucket = bucketIndex(i);
+                Object[] target = bucket(bucket);
+                int length = Math.min(target.length, size - i);
+                System.arraycopy(elements, i, target, 0, length);
+                for (int j = 0; j < length; j++) {
+                    if (target[j] == null) {
+                        target[j] = NULL;
+                    }
+                }
+                i += length;
+            }
+            this.reserved = new AtomicInteger(size);
+            this.published = size;
+        }
+
+        private Object[] bucket(int bucket) {
+            Object[] result = buckets.get(bucket);
+            if (result == null) {
+                Object[] allocated = new Object[FIRST_BUCKET_SIZE << bucket];
+                result = buckets.compareAndSet(bucket, null, allocated) ? allocated : buckets.get(bucket);
+            }
+            return result;
+        }
+
+        /**
+         * @return значение ячейки как есть или {@code null}, если ее корзина еще не выделена
+         */
+        private Object slot(int index) {
+            int bucket = bucketIndex(index);
+            Object[] source = buckets.get(bucket);
+            return source == null ? null : SLOT.getVolatile(source, slotOffset(index, bucket));
+        }
+
+        private Object get(int index) {
+            return unmask(slot(index));
+        }
+
+        private void set(int index, Object element) {
+            int bucket = bucketIndex(index);
+            SLOT.setVolatile(bucket(bucket), slotOffset(index, bucket), mask(element));
+        }
+
+        /**
+         * Продвигает {@link Storage#published} по подряд заполненным ячейкам. Вызывается каждым писателем
+         * после записи, поэтому элемент публикуется тем, кто последним заполнил ячейку перед ним
+         */
+        private void publish() {
+            for (int index = published; ; ) {
+                Object value = slot(index);
+                if (value == null || value == TOMBSTONE) {
+                    return;
+                }
+                index = PUBLISHED.compareAndSet(this, index, index + 1) ? index + 1 : published;
+            }
+        }
+
+        /**
+         * @return элементы ячеек {@code [0, size)} без {@link ConcurrentArrayList#TOMBSTONE}
+         */
+        private Object[] toArray(int size) {
+            Object[] result = new Object[size];
+            int count = 0;
+            for (int i = 0; i < size; ) {
+                Object[] source = buckets.get(bucketIndex(i));
+                int length = Math.min(source.length, size - i);
+                for (int j = 0; j < length; j++) {
+                    Object value = source[j];
+                    if (value != TOMBSTONE) {
+                        result[count++] = unmask(value);
+                    }
+                }
+                i += length;
+            }
+            return count == size ? result : Arrays.copyOf(result, count);
+        }
+    }
+
+    /**
+     * Корзина {@code k} хранит индексы {@code [16 * (2^k - 1), 16 * (2^(k+1) - 1))}
+     */
+    private static int bucketIndex(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + FIRST_BUCKET_SIZE) - FIRST_BUCKET_SHIFT;
+    }
+
+    private static int slotOffset(int index, int bucket) {
+        return index + FIRST_BUCKET_SIZE - (FIRST_BUCKET_SIZE << bucket);
+    }
+
+    private static Object mask(Object element) {
+        return element == null ? NULL : element;
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка без блокировок. Корзина выделяется до резервирования
+     * ячейки, поэтому нехватка памяти не оставляет зарезервированную ячейку пустой. Если запись
+     * все же не удалась, резервирование откатывается, а если после него уже зарезервированы другие ячейки,
+     * ячейка помечается удаленной и список уплотняется
+     *
+     * @param element добавляемый элемент
+     * @throws IllegalStateException в случае если длина списка достигла предела
+     */
+    public void add(T element) {
+        Object value = mask(element);
+        for (int spins = 0; ; ) {
+            Storage current = storage;
+            int index = current.reserved.get();
+            if (index < 0) {
+                spins = backOff(spins);
+                continue;
+            }
+            if (index >= MAX_SIZE) {
+                throw new IllegalStateException("The list has reached its maximum length " + MAX_SIZE);
+            }
+            int bucketIndex = bucketIndex(index);
+            Object[] bucket = current.bucket(bucketIndex);
+            if (current.reserved.compareAndSet(index, index + 1)) {
+                try {
+                    store(bucket, slotOffset(index, bucketIndex), value);
+                } catch (RuntimeException | Error e) {
+                    abandon(current, index, bucket, bucketIndex, e);
+                    throw e;
+                }
+                current.publish();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Запись значения в зарезервированную ячейку
+     */
+    void store(Object[] bucket, int offset, Object value) {
+        SLOT.setVolatile(bucket, offset, value);
+    }
+
+    /**
+     * Освобождает зарезервированную ячейку, запись в которую не удалась, чтобы {@link Storage#published}
+     * и операции со сдвигом не ждали ее вечно
+     */
+    private void abandon(Storage current, int index, Object[] bucket, int bucketIndex, Throwable failure) {
+        if (current.reserved.compareAndSet(index + 1, index)) {
+            return;
+        }
+        SLOT.setVolatile(bucket, slotOffset(index, bucketIndex), TOMBSTONE);
+        if (storage != current) {
+            return;
+        }
+        try {
+            rebuild(list -> null);
+        } catch (RuntimeException | Error e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * @param index индекс требуемого элемента
+     * @return элемент на указанной позиции {@code index} в текущем снимке
+     * @throws IndexOutOfBoundsException в случае если передаваемый {@code index} выходит за пределы индексации
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Storage current = storage;
+        checkIndex(index, current.published);
+        return (T) current.get(index);
+    }
+
+    /**
+     * Изменяет значение элемента на указанной позиции без блокировок. Если одновременно выполняется
+     * операция со сдвигом, запись повторяется в опубликованном ею снимке
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element значение элемента, на который требуется заменить
+     * @throws IndexOutOfBoundsException в случае если передаваемый {@code index} выходит за пределы индексации
+     */
+    public void set(int index, T element) {
+        for (int spins = 0; ; ) {
+            Storage current = storage;
+            if (current.reserved.get() < 0) {
+                spins = backOff(spins);
+                continue;
+            }
+            checkIndex(index, current.published);
+            current.set(index, element);
+            // Снимок, запечатанный после записи, скопирует ее; иначе запись повторяется в новом снимке
+            if (current.reserved.get() >= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Добавляет передаваемый элемент на указанный {@code index}, сдвигая все элементы вправо
+     *
+     * @see ArrayList#add(int, Object) ArrayList.add(int index, T element)
+     */
+    public void add(int index, T element) {
+        rebuild(list -> {
+            list.add(index, element);
+            return null;
+        });
+    }
+
+    /**
+     * @see ArrayList#remove(int) ArrayList.remove(int index)
+     */
+    public T remove(int index) {
+        return rebuild(list -> {
+            checkIndex(index, list.length());
+            return list.remove(index);
+        });
+    }
+
+    /**
+     * @see ArrayList#remove(Object) ArrayList.remove(T element)
+     */
+    public boolean remove(T element) {
+        return rebuild(list -> list.remove(element));
+    }
+
+    /**
+     * @see ArrayList#removeIf(Predicate)
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        return rebuild(list -> list.removeIf(filter));
+    }
+
+    /**
+     * @see ArrayList#sort(Comparator)
+     */
+    public void sort(Comparator<? super T> comparator) {
+        rebuild(list -> {
+            list.sort(comparator);
+            return null;
+        });
+    }
+
+    /**
+     * Публикует пустой снимок
+     */
+    public void clear() {
+        rebuild(list -> {
+            list.clear();
+            return null;
+        });
+    }
+
+    /**
+     * Возвращает индекс первого найденного элемента в текущем снимке без блокировок
+     *
+     * @param element элемент, индекс которого требуется получить
+     * @return индекс элемента, если он содержится в списке, в противном случае {@code -1}
+     */
+    public int indexOf(T element) {
+        Storage current = storage;
+        int size = current.published;
+        for (int i = 0, bucket = 0; i < size; bucket++) {
+            Object[] source = current.buckets.get(bucket);
+            int length = Math.min(source.length, size - i);
+            for (int j = 0; j < length; j++) {
+                if (Objects.equals(element, unmask(SLOT.getVolatile(source, j)))) {
+                    return i + j;
+                }
+            }
+            i += length;
+        }
+        return -1;
+    }
+
+    /**
+     * @return длина списка в текущем снимке
+     */
+    public int length() {
+        return storage.published;
+    }
+
+    /**
+     * @return массив {@code Object[]} с элементами текущего снимка
+     */
+    public Object[] toArray() {
+        Storage current = storage;
+        return current.toArray(current.published);
+    }
+
+    /**
+     * Обходит элементы снимка, опубликованного на момент вызова
+     *
+     * @param action действие над каждым элементом
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Storage current = storage;
+        int size = current.published;
+        for (int i = 0, bucket = 0; i < size; bucket++) {
+            Object[] source = current.buckets.get(bucket);
+            int length = Math.min(source.length, size - i);
+            for (int j = 0; j < length; j++) {
+                action.accept((T) unmask(SLOT.getVolatile(source, j)));
+            }
+            i += length;
+        }
+    }
+
+    /**
+     * @return итератор по снимку, опубликованному на момент вызова; последующие изменения в нем не видны,
+     * кроме замены значений через {@link ConcurrentArrayList#set(int, Object)}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Storage current = storage;
+        int size = current.published;
+        return new Iterator<>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (T) current.get(cursor++);
+            }
+        };
+    }
+
+    public String toString() {
+        return ArrayList.wrap(toArray()).toString();
+    }
+
+    /**
+     * Запечатывает текущий снимок, дожидается записи в уже зарезервированные ячейки,
+     * применяет операцию к копии без удаленных ячеек и публикует результат. Если операция выбросила
+     * исключение, снимок распечатывается без изменений, а при наличии удаленных ячеек публикуется их уплотнение
+     */
+    private <R> R rebuild(Function<ArrayList<T>, R> operation) {
+        structuralLock.lock();
+        try {
+            Storage current = storage;
+            int size = current.reserved.getAndSet(SEALED);
+            for (int i = current.published; i < size; i++) {
+                for (int spins = 0; current.slot(i) == null; ) {
+                    spins = backOff(spins);
+                }
+            }
+            // Единственная копия снимка становится массивом рабочего списка и публикуется из него же
+            Object[] elements = current.toArray(size);
+            ArrayList<T> copy = ArrayList.wrap(elements);
+            R result;
+            try {
+                result = operation.apply(copy);
+            } catch (RuntimeException | Error e) {
+                if (elements.length == size) {
+                    current.reserved.set(size);
+                } else {
+                    storage = new Storage(current.toArray(size), elements.length);
+                }
+                throw e;
+            }
+            storage = new Storage(copy.elements(), copy.size());
+            return result;
+        } finally {
+            structuralLock.unlock();
+        }
+    }
+
+    /**
+     * Короткое активное ожидание, переходящее в {@link Thread#yield()}, чтобы поток, который держит
+     * зарезервированную ячейку, мог ее опубликовать даже при нехватке ядер
+     */
+    private static int backOff(int spins) {
+        if (spins < SPINS_BEFORE_YIELD) {
+            Thread.onSpinWait();
+            return spins + 1;
+        }
+        Thread.yield();
+        return spins;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+
+/**
+ * Динамический массив примитивов {@code double} (не потокобезопасен). Повторяет API {@link ArrayList},
+ * но хранит значения в {@code double[]} без упаковки в {@link Double}
+ *
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList
+ */
+public class DoubleArrayList {
+    /**
+     * @param array - массив значений, индексируемая часть которого ограничена {@link DoubleArrayList#size}
+     */
+    private double[] array;
+    /**
+     * @param size длина индексируемой части массива
+     */
+    private int size = 0;
+
+    /**
+     * Конструктор умолчанию создает объект класса {@link DoubleArrayList}
+     * с изначальной вместимостью массива {@link DoubleArrayList#array} 16 элементов
+     */
+    public DoubleArrayList() {
+        this.array = new double[16];
+    }
+
+    /**
+     * Конструктор создает объект класса {@link DoubleArrayList} с указанной вместимостью массива {@link DoubleArrayList#array}
+     *
+     * @param initialCapacity изначальная вместимость массива {@link DoubleArrayList#array}
+     * @throws IllegalArgumentException в случае если {@code initialCapacity} меньше 1
+     */
+    public DoubleArrayList(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity have to be a positive number");
+        }
+        this.array = new double[initialCapacity];
+    }
+
+    /**
+     * Конструктор создает объект класса {@link DoubleArrayList} с копией элементов другого экземпляра {@link DoubleArrayList}
+     *
+     * @param initialList экземпляр класса {@link DoubleArrayList} для инициализации
+     */
+    public DoubleArrayList(DoubleArrayList initialList) {
+        this.array = Arrays.copyOf(initialList.array, Math.max(initialList.size, 1));
+        this.size = initialList.size;
+    }
+
+    /**
+     * Конструктор создает объект класса {@link DoubleArrayList} с копией переданного массива
+     *
+     * @param initialArray массив значений для инициализации {@link DoubleArrayList#array}
+     */
+    public DoubleArrayList(double[] initialArray) {
+        this.array = Arrays.copyOf(initialArray, Math.max(initialArray.length, 1));
+        this.size = initialArray.length;
+    }
+
+    private DoubleArrayList(double[] array, int size) {
+        this.array = array;
+        this.size = size;
+    }
+
+    /**
+     * Сортирует элементы по возрастанию с помощью {@link Arrays#sort(double[], int, int)}
+     */
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    /**
+     * Добавляет передаваемое значение в конец массива {@link DoubleArrayList#array},
+     * при нехватке вместимости увеличивая ее в 1,5 раза
+     *
+     * @param element добавляемое значение
+     */
+    public void add(double element) {
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        array[size++] = element;
+    }
+
+    /**
+     * Добавляет передаваемое значение на указанный {@code index}, сдвигая последующие элементы вправо
+     *
+     * @param index   место вставки значения
+     * @param element добавляемое значение
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     */
+    public void add(int index, double element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет все элементы передаваемого {@code secondList} в конец массива
+     *
+     * @param secondList экземпляр класса {@link DoubleArrayList}
+     * @throws NullPointerException в случае, если {@code secondList} неинициализирован
+     */
+    public void addAll(DoubleArrayList secondList) {
+        if (secondList == null) {
+            throw new NullPointerException("Cannot invoke method addAll(DoubleArrayList secondList) because the secondList is null");
+        }
+        int secondSize = secondList.size;
+        int minCapacity = size + secondSize;
+        if (minCapacity > array.length || minCapacity < 0) {
+            grow(minCapacity);
+        }
+        System.arraycopy(secondList.array, 0, array, size, secondSize);
+        size += secondSize;
+    }
+
+    /**
+     * @param index индекс требуемого элемента
+     * @return значение на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public double get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Изменяет значение элемента на указанной позиции
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element новое значение
+     * @return предыдущее значение
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public double set(int index, double element) {
+        checkIndex(index);
+        double oldElement = array[index];
+        array[index] = element;
+        return oldElement;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая последующие элементы влево
+     *
+     * @param index индекс элемента для удаления
+     * @return значение удаленного элемента
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public double remove(int index) {
+        checkIndex(index);
+        double deletedElement = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return deletedElement;
+    }
+
+    /**
+     * Удаляет первое вхождение передаваемого значения, сдвигая последующие элементы влево.
+     * Имя совпадает с {@link IntArrayList#removeElement(int)}, чтобы не путать с {@link DoubleArrayList#remove(int)}
+     *
+     * @param element значение для удаления
+     * @return {@code true}, если значение было найдено и удалено, в противном случае {@code false}
+     */
+    public boolean removeElement(double element) {
+        int position = indexOf(element);
+        if (position < 0) {
+            return false;
+        }
+        remove(position);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие фильтру, за один проход с уплотнением массива
+     *
+     * @param filter экземпляр функционального интерфейса {@link DoublePredicate}
+     * @return {@code true}, если элемент(ы) был(и) найден(ы) и удален(ы), в противном случае {@code false}
+     * @throws NullPointerException в случае, если {@code filter} неинициализирован
+     */
+    public boolean removeIf(DoublePredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException("Cannot invoke method removeIf(DoublePredicate filter) because the filter is null");
+        }
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            double element = array[i];
+            if (!filter.test(element)) {
+                array[newSize++] = element;
+            }
+        }
+        boolean checkForElement = newSize != size;
+        size = newSize;
+        return checkForElement;
+    }
+
+    /**
+     * Значения сравниваются как в {@link Double#equals(Object)}: {@code NaN} равен {@code NaN}, а {@code 0.0} не равен {@code -0.0}
+     *
+     * @param element значение, индекс которого требуется получить
+     * @return индекс первого вхождения значения, в противном случае {@code -1}
+     */
+    public int indexOf(double element) {
+        return PrimitiveKernels.ACTIVE.indexOf(array, size, element);
+    }
+
+    /**
+     * @param element значение, индекс которого требуется получить
+     * @return индекс последнего вхождения значения, в противном случае {@code -1}
+     */
+    public int lastIndexOf(double element) {
+        long bits = Double.doubleToLongBits(element);
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param element искомое значение
+     * @return {@code true}, если значение содержится в списке
+     */
+    public boolean contains(double element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * @return сумма элементов. Векторная реализация складывает по линиям,
+     * поэтому результат может отличаться от последовательного сложения в младших разрядах
+     */
+    public double sum() {
+        return PrimitiveKernels.ACTIVE.sum(array, size);
+    }
+
+    /**
+     * @return наименьший элемент в смысле {@link Math#min(double, double)}: {@code NaN} поглощает остальные значения
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public double min() {
+        checkNotEmpty();
+        return PrimitiveKernels.ACTIVE.min(array, size);
+    }
+
+    /**
+     * @return наибольший элемент в смысле {@link Math#max(double, double)}: {@code NaN} поглощает остальные значения
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public double max() {
+        checkNotEmpty();
+        return PrimitiveKernels.ACTIVE.max(array, size);
+    }
+
+    /**
+     * @param from нижняя граница, включительно
+     * @param to   верхняя граница, включительно
+     * @return количество элементов из отрезка {@code [from, to]}. {@code NaN} в отрезок не попадает
+     */
+    public int countBetween(double from, double to) {
+        return PrimitiveKernels.ACTIVE.countBetween(array, size, from, to);
+    }
+
+    /**
+     * @param from нижняя граница, включительно
+     * @param to   верхняя граница, включительно
+     * @return новый список из элементов отрезка {@code [from, to]} в исходном порядке. {@code NaN} в отрезок не попадает
+     */
+    public DoubleArrayList filterBetween(double from, double to) {
+        double[] target = new double[Math.max(size, 1)];
+        int count = PrimitiveKernels.ACTIVE.filterBetween(array, size, from, to, target);
+        if (count < target.length / 2) {
+            target = Arrays.copyOf(target, Math.max(count, 1));
+        }
+        return new DoubleArrayList(target, count);
+    }
+
+    /**
+     * @return значение длины индексируемой части массива {@link DoubleArrayList#array}
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * Обнуляет длину индексируемой части, вместимость массива сохраняется
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return {@code true} если длина индексируемой части массива {@link DoubleArrayList#array} меньше вместимости массива,
+     * в противном случае вернет {@code false}
+     */
+    public boolean ensureCapacity() {
+        return (array.length > size);
+    }
+
+    /**
+     * Обрезает длину массива {@link DoubleArrayList#array} до размера индексируемой части
+     */
+    public void trimToSize() {
+        array = Arrays.copyOf(array, Math.max(size, 1));
+    }
+
+    /**
+     * Устанавливает вместимость массива {@link DoubleArrayList#array} указанному значению,
+     * при этом если {@code capacity} меньше длины индексируемой части, то лишние значения теряются
+     *
+     * @param capacity новое значение вместимости массива {@link DoubleArrayList#array}
+     * @throws IllegalArgumentException в случае если {@code capacity} меньше 1
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be greater or equal to 1");
+        }
+        array = Arrays.copyOf(array, capacity);
+        size = Math.min(size, capacity);
+    }
+
+    /**
+     * @return {@code String} в квадратных скобках со значениями индексируемой части массива, перечисленными через запятую
+     */
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder result = new StringBuilder("[");
+        result.append(array[0]);
+        for (int i = 1; i < size; i++) {
+            result.append(", ").append(array[i]);
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * @return массив {@code double[]} с элементами индексируемой части массива {@link DoubleArrayList#array}
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof DoubleArrayList other))
+            return false;
+        return Arrays.equals(this.array, 0, this.size, other.array, 0, other.size);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * Увеличивает вместимость по {@link GrowthPolicy#DEFAULT}, как {@link ArrayList}.
+     * Отрицательный {@code minCapacity} означает переполнение длины
+     *
+     * @throws OutOfMemoryError в случае если {@code minCapacity} превышает {@link GrowthPolicy#MAX_CAPACITY}
+     */
+    private void grow(int minCapacity) {
+        array = Arrays.copyOf(array, GrowthPolicy.DEFAULT.newCapacity(array.length, minCapacity));
+    }
+}
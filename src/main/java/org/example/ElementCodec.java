@@ -0,0 +1,189 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Двоичное представление элементов списка в файле (см. {@link MappedArrayList}).
+ * Кодек фиксированной ширины возвращает ее из {@link ElementCodec#fixedWidth()}, тогда элементы лежат в файле
+ * подряд и читаются по смещению без таблицы. Кодек переменной ширины возвращает {@code -1}
+ * и сообщает размер каждого элемента через {@link ElementCodec#encodedSize(Object)}.
+ * <p>
+ * Буферы передаются кодеку с порядком байт {@link java.nio.ByteOrder#LITTLE_ENDIAN}
+ *
+ * @param <T> тип кодируемых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ */
+public interface ElementCodec<T> {
+    /**
+     * Элементы {@link Integer}, 4 байта
+     */
+    ElementCodec<Integer> INT = new FixedWidth<>(Integer.BYTES) {
+        @Override
+        public void encode(Integer element, ByteBuffer target) {
+            target.putInt(element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer source, int offset, int length) {
+            return source.getInt(offset);
+        }
+    };
+
+    /**
+     * Элементы {@link Long}, 8 байт
+     */
+    ElementCodec<Long> LONG = new FixedWidth<>(Long.BYTES) {
+        @Override
+        public void encode(Long element, ByteBuffer target) {
+            target.putLong(element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source, int offset, int length) {
+            return source.getLong(offset);
+        }
+    };
+
+    /**
+     * Элементы {@link Double}, 8 байт
+     */
+    ElementCodec<Double> DOUBLE = new FixedWidth<>(Double.BYTES) {
+        @Override
+        public void encode(Double element, ByteBuffer target) {
+            target.putDouble(element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer source, int offset, int length) {
+            return source.getDouble(offset);
+        }
+    };
+
+    /**
+     * Строки в кодировке UTF-8
+     */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+        @Override
+        public int fixedWidth() {
+            return -1;
+        }
+
+        @Override
+        public int encodedSize(String element) {
+            int length = element.length();
+            int size = length;
+            for (int i = 0; i < length; i++) {
+                char c = element.charAt(i);
+                if (Character.isSurrogate(c)) {
+                    // Пара суррогатов кодируется 4 байтами, одиночный суррогат заменяется на '?'
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(element.charAt(i + 1))) {
+                        size += 2;
+                        i++;
+                    }
+                } else if (c >= 0x800) {
+                    size += 2;
+                } else if (c >= 0x80) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer target) {
+            target.put(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer source, int offset, int length) {
+            byte[] bytes = new byte[length];
+            source.get(offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * @return ширина элемента в байтах или {@code -1} для кодека переменной ширины
+     */
+    int fixedWidth();
+
+    /**
+     * @param element элемент, отличный от {@code null}
+     * @return число байт, которое запишет {@link ElementCodec#encode(Object, ByteBuffer)}
+     */
+    default int encodedSize(T element) {
+        return fixedWidth();
+    }
+
+    /**
+     * Записывает элемент с текущей позиции буфера, в котором гарантированно есть
+     * {@link ElementCodec#encodedSize(Object)} свободных байт
+     *
+     * @param element элемент, отличный от {@code null}
+     * @param target  буфер для записи
+     */
+    void encode(T element, ByteBuffer target);
+
+    /**
+     * Читает элемент по абсолютному смещению, не меняя позицию буфера
+     *
+     * @param source буфер с данными файла
+     * @param offset смещение элемента в байтах
+     * @param length длина элемента в байтах
+     * @return прочитанный элемент
+     */
+    T decode(ByteBuffer source, int offset, int length);
+
+    /**
+     * Создает кодек переменной ширины для пользовательского типа через преобразование в массив байт.
+     * При записи {@code encoder} вызывается дважды: для размера и для самих байт, поэтому для часто
+     * сохраняемых типов выгоднее реализовать {@link ElementCodec} напрямую
+     *
+     * @param encoder преобразование элемента в байты
+     * @param decoder преобразование байт в элемент
+     * @return кодек переменной ширины
+     */
+    static <T> ElementCodec<T> of(Function<? super T, byte[]> encoder, Function<byte[], ? extends T> decoder) {
+        return new ElementCodec<>() {
+            @Override
+            public int fixedWidth() {
+                return -1;
+            }
+
+            @Override
+            public int encodedSize(T element) {
+                return encoder.apply(element).length;
+            }
+
+            @Override
+            public void encode(T element, ByteBuffer target) {
+                target.put(encoder.apply(element));
+            }
+
+            @Override
+            public T decode(ByteBuffer source, int offset, int length) {
+                byte[] bytes = new byte[length];
+                source.get(offset, bytes);
+                return decoder.apply(bytes);
+            }
+        };
+    }
+
+    /**
+     * Основа для кодеков фиксированной ширины
+     */
+    abstract class FixedWidth<T> implements ElementCodec<T> {
+        private final int width;
+
+        protected FixedWidth(int width) {
+            this.width = width;
+        }
+
+        @Override
+        public int fixedWidth() {
+            return width;
+        }
+    }
+}
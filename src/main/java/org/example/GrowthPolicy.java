@@ -0,0 +1,90 @@
+package org.example;
+
+/**
+ * Стратегия увеличения вместимости массива {@link ArrayList}, задаваемая при создании списка
+ *
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList#ArrayList(int, GrowthPolicy)
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * Наибольшая длина массива, которую гарантированно можно выделить
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Стратегия по умолчанию: {@code capacity * 3 / 2 + 1}
+     */
+    GrowthPolicy DEFAULT = (capacity, minCapacity) -> clamp(capacity * 3L / 2 + 1, minCapacity);
+
+    /**
+     * Вычисляет новую вместимость массива
+     *
+     * @param capacity    текущая вместимость
+     * @param minCapacity требуемая вместимость, всегда больше {@code capacity}
+     * @return новая вместимость не меньше {@code minCapacity}
+     */
+    int newCapacity(int capacity, int minCapacity);
+
+    /**
+     * Геометрический рост: вместимость умножается на {@code factor}
+     *
+     * @param factor множитель роста
+     * @return стратегия роста
+     * @throws IllegalArgumentException в случае если {@code factor} не больше 1
+     */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("The growth factor has to be greater than 1");
+        }
+        return (capacity, minCapacity) -> clamp((long) (capacity * factor) + 1, minCapacity);
+    }
+
+    /**
+     * Аддитивный рост: вместимость увеличивается на {@code increment}. Подходит, когда размер партий известен
+     * заранее, но при неизвестной итоговой длине дает квадратичное число копирований
+     *
+     * @param increment шаг роста
+     * @return стратегия роста
+     * @throws IllegalArgumentException в случае если {@code increment} меньше 1
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("The increment has to be a positive number");
+        }
+        return (capacity, minCapacity) -> clamp((long) capacity + increment, minCapacity);
+    }
+
+    /**
+     * Геометрический рост, шаг которого не превышает {@code maxIncrement}: на малых размерах ведет себя
+     * как {@link GrowthPolicy#geometric(double)}, на больших не резервирует лишние сотни мегабайт
+     *
+     * @param factor       множитель роста
+     * @param maxIncrement наибольший шаг роста
+     * @return стратегия роста
+     * @throws IllegalArgumentException в случае если {@code factor} не больше 1 или {@code maxIncrement} меньше 1
+     */
+    static GrowthPolicy bounded(double factor, int maxIncrement) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("The growth factor has to be greater than 1");
+        }
+        if (maxIncrement < 1) {
+            throw new IllegalArgumentException("The maximum increment has to be a positive number");
+        }
+        return (capacity, minCapacity) ->
+                clamp(Math.min((long) (capacity * factor) + 1, (long) capacity + maxIncrement), minCapacity);
+    }
+
+    /**
+     * Приводит желаемую вместимость к диапазону {@code [minCapacity, MAX_CAPACITY]}
+     *
+     * @throws OutOfMemoryError в случае если {@code minCapacity} превышает {@link GrowthPolicy#MAX_CAPACITY}
+     */
+    private static int clamp(long desired, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + Integer.toUnsignedString(minCapacity) + " is too large");
+        }
+        return (int) Math.max(minCapacity, Math.min(desired, MAX_CAPACITY));
+    }
+}
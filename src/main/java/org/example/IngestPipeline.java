@@ -0,0 +1,140 @@
+package org.example;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Ограниченный конвейер производитель-потребитель для загрузки элементов в {@link ArrayList}
+ * (см. {@link ArrayList#pipeline(int, int)}). Производитель собирает элементы в пачку, заполненная пачка
+ * передается через очередь длины {@code maxPendingBatches} потоку-добавителю, который копирует ее в список
+ * одним {@link System#arraycopy}. Когда очередь полна, производитель ждет, поэтому объем памяти
+ * под пачки ограничен. Массивы пачек возвращаются производителю и используются повторно.
+ * <p>
+ * Методы конвейера вызывает один поток-производитель. {@link IngestPipeline#close()} отправляет неполную пачку,
+ * дожидается добавления всех элементов и после этого список снова можно читать и изменять из вызывающего потока
+ *
+ * @param <T> тип элементов
+ */
+public final class IngestPipeline<T> implements Consumer<T>, AutoCloseable {
+    private static final Batch END = new Batch(new Object[0], 0);
+
+    private final ArrayList<T> target;
+    private final BlockingQueue<Batch> full;
+    private final BlockingQueue<Object[]> free;
+    private final Thread appender;
+    private final int batchSize;
+    private Object[] batch;
+    private int batchLength;
+    private volatile Throwable failure;
+    private boolean closed;
+
+    IngestPipeline(ArrayList<T> target, int batchSize, int maxPendingBatches) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size have to be a positive number");
+        }
+        if (maxPendingBatches < 1) {
+            throw new IllegalArgumentException("The number of pending batches have to be a positive number");
+        }
+        this.target = target;
+        this.batchSize = batchSize;
+        this.full = new ArrayBlockingQueue<>(maxPendingBatches);
+        this.free = new ArrayBlockingQueue<>(maxPendingBatches + 2);
+        this.batch = new Object[batchSize];
+        this.appender = new Thread(this::append, "ingest-pipeline-appender");
+        this.appender.setDaemon(true);
+        this.appender.start();
+    }
+
+    /**
+     * Добавляет элемент в текущую пачку и передает ее потоку-добавителю, когда она заполнится
+     *
+     * @param element добавляемый элемент
+     * @throws IllegalStateException в случае если конвейер закрыт, добавление завершилось ошибкой
+     *                               или поток был прерван во время ожидания
+     */
+    @Override
+    public void accept(T element) {
+        if (closed) {
+            throw new IllegalStateException("The pipeline is closed");
+        }
+        batch[batchLength++] = element;
+        if (batchLength == batchSize) {
+            checkFailure();
+            try {
+                full.put(new Batch(batch, batchLength));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the appender", e);
+            }
+            Object[] recycled = free.poll();
+            batch = recycled != null ? recycled : new Object[batchSize];
+            batchLength = 0;
+        }
+    }
+
+    /**
+     * Отправляет неполную пачку и ждет, пока поток-добавитель скопирует все элементы в список.
+     * Повторный вызов ничего не делает
+     *
+     * @throws IllegalStateException в случае если добавление завершилось ошибкой или поток был прерван
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (batchLength > 0) {
+                full.put(new Batch(batch, batchLength));
+            }
+            full.put(END);
+            appender.join();
+        } catch (InterruptedException e) {
+            appender.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the appender", e);
+        } finally {
+            batch = null;
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("The appender failed", cause);
+        }
+    }
+
+    /**
+     * Цикл потока-добавителя. После ошибки пачки продолжают забираться из очереди,
+     * чтобы производитель не остался ждать места в ней
+     */
+    private void append() {
+        try {
+            while (true) {
+                Batch filled = full.take();
+                if (filled == END) {
+                    return;
+                }
+                if (failure == null) {
+                    try {
+                        target.appendAll(filled.elements, 0, filled.length);
+                    } catch (Throwable e) {
+                        failure = e;
+                    }
+                }
+                if (filled.length == batchSize) {
+                    free.offer(filled.elements);
+                }
+            }
+        } catch (InterruptedException e) {
+            failure = e;
+        }
+    }
+
+    private record Batch(Object[] elements, int length) {
+    }
+}
@@ -0,0 +1,105 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Гистограмма задержек в наносекундах с логарифмически-линейными корзинами по образцу HdrHistogram:
+ * каждая степень двойки делится на {@value SUB_BUCKETS} равных корзин, поэтому относительная погрешность
+ * значения не превышает 1/{@value SUB_BUCKETS}, а весь диапазон {@code long} умещается в 488 счетчиков.
+ * Запись не выделяет память и не синхронизирована: гистограмму пишет один поток,
+ * а читатели (например, JMX) видят значения с возможным запаздыванием
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BITS) * SUB_BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Записывает одно значение, отрицательные значения считаются нулем
+     *
+     * @param value задержка в наносекундах
+     */
+    public void record(long value) {
+        value = Math.max(value, 0);
+        counts[bucket(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * @return число записанных значений
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return наибольшее записанное значение или {@code 0}, если значений нет
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * @return среднее записанное значение или {@code 0}, если значений нет
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Возвращает верхнюю границу корзины, в которую попадает значение с указанным перцентилем,
+     * но не больше {@link LatencyHistogram#max()}
+     *
+     * @param percentile перцентиль из отрезка {@code [0, 100]}, например {@code 99.9}
+     * @return значение перцентиля или {@code 0}, если значений нет
+     * @throws IllegalArgumentException в случае если {@code percentile} вне отрезка {@code [0, 100]}
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("The percentile have to be between 0 and 100");
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length && seen < count; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValue(i), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Обнуляет все корзины и счетчики
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * Значения меньше {@code 2 * SUB_BUCKETS} попадают в собственные корзины, у больших значений
+     * старшие {@code SUB_BITS + 1} бит выбирают корзину, а число отброшенных младших бит - ее ряд
+     */
+    static int bucket(long value) {
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - (SUB_BITS + 1));
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long top = bucket - (long) shift * SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
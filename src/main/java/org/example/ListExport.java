@@ -0,0 +1,275 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Потоковая выгрузка диапазона {@code [0, size)} массива {@code Object[]}, используемая {@link ArrayList}.
+ * Элементы кодируются в буфер ограниченного размера: как только он достигает {@value BUFFER_SIZE} символов
+ * или байт, буфер передается получателю и используется снова, поэтому память выгрузки не зависит
+ * от длины списка и превышает размер буфера не больше чем на представление одного элемента.
+ * <p>
+ * Двоичный формат (порядок байт little-endian): {@code int} число элементов, затем для каждого элемента
+ * {@code int} длина и байты {@link ElementCodec}; {@code null} записывается длиной {@code -1} без байт.
+ * <p>
+ * Параллельная выгрузка кодирует участки по {@value CHUNK_ELEMENTS} элементов в {@link ForkJoinPool} волнами
+ * по два участка на поток и записывает их по порядку, так что в памяти одновременно находится не больше одной волны
+ */
+final class ListExport {
+    /**
+     * Число элементов в участке параллельной выгрузки
+     */
+    static final int CHUNK_ELEMENTS = 1 << 12;
+    /**
+     * Размер буфера, при превышении которого накопленный текст или байты передаются получателю
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private ListExport() {
+    }
+
+    static <T> void write(Object[] array, int size, Appendable target, TextFormat<? super T> format) throws IOException {
+        StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 256);
+        char[] scratch = target instanceof Writer ? new char[BUFFER_SIZE] : null;
+        buffer.append(format.prefix());
+        for (int i = 0; i < size; i++) {
+            appendText(array, i, i + 1, format, buffer);
+            if (buffer.length() >= BUFFER_SIZE) {
+                scratch = flush(buffer, target, scratch);
+            }
+        }
+        buffer.append(format.suffix());
+        flush(buffer, target, scratch);
+    }
+
+    static <T> void write(Object[] array, int size, WritableByteChannel target, TextFormat<? super T> format) throws IOException {
+        StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 256);
+        buffer.append(format.prefix());
+        for (int i = 0; i < size; i++) {
+            appendText(array, i, i + 1, format, buffer);
+            if (buffer.length() >= BUFFER_SIZE) {
+                encode(buffer, target);
+            }
+        }
+        buffer.append(format.suffix());
+        encode(buffer, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void write(Object[] array, int size, WritableByteChannel target, ElementCodec<? super T> codec) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            T element = (T) array[i];
+            int length = element == null ? 0 : codec.encodedSize(element);
+            long record = recordSize(length);
+            if (record > buffer.remaining()) {
+                flush(buffer, target);
+            }
+            if (record > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.allocate((int) record).order(ByteOrder.LITTLE_ENDIAN);
+                putBinary(element, length, codec, large, i);
+                flush(large, target);
+            } else {
+                putBinary(element, length, codec, buffer, i);
+            }
+        }
+        flush(buffer, target);
+    }
+
+    static <T> void parallelWrite(Object[] array, int size, WritableByteChannel target, TextFormat<? super T> format) throws IOException {
+        StringBuilder prefix = new StringBuilder(format.prefix());
+        encode(prefix, target);
+        parallelWrite(size, target, (from, to) -> {
+            StringBuilder text = new StringBuilder();
+            appendText(array, from, to, format, text);
+            return new ByteBuffer[]{ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8))};
+        });
+        encode(prefix.append(format.suffix()), target);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void parallelWrite(Object[] array, int size, WritableByteChannel target, ElementCodec<? super T> codec) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(size);
+        header.flip();
+        writeFully(header, target);
+        parallelWrite(size, target, (from, to) -> {
+            int[] lengths = new int[to - from];
+            for (int i = from; i < to; i++) {
+                T element = (T) array[i];
+                lengths[i - from] = element == null ? 0 : codec.encodedSize(element);
+            }
+            // Участок делится на части, каждая из которых помещается в один ByteBuffer
+            List<ByteBuffer> parts = new java.util.ArrayList<>(1);
+            for (int start = from; start < to; ) {
+                long bytes = recordSize(lengths[start - from]);
+                int end = start + 1;
+                while (end < to && bytes + recordSize(lengths[end - from]) <= GrowthPolicy.MAX_CAPACITY) {
+                    bytes += recordSize(lengths[end - from]);
+                    end++;
+                }
+                ByteBuffer part = ByteBuffer.allocate((int) bytes).order(ByteOrder.LITTLE_ENDIAN);
+                for (int i = start; i < end; i++) {
+                    putBinary((T) array[i], lengths[i - from], codec, part, i);
+                }
+                parts.add(part.flip());
+                start = end;
+            }
+            return parts.toArray(new ByteBuffer[0]);
+        });
+    }
+
+    /**
+     * Кодирует участки {@link ChunkEncoder} волнами в пуле вызывающего потока или в общем пуле
+     * и записывает готовые участки по порядку. Если пул допускает лишь один поток, участки кодируются
+     * в вызывающем потоке
+     */
+    private static void parallelWrite(int size, WritableByteChannel target, ChunkEncoder encoder) throws IOException {
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        int parallelism = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        int wave = parallelism <= 1 ? 1 : 2 * parallelism;
+        List<EncodeTask> tasks = new java.util.ArrayList<>(wave);
+        for (int from = 0; from < size; ) {
+            tasks.clear();
+            for (int i = 0; i < wave && from < size; i++) {
+                int to = Math.min(size, from + CHUNK_ELEMENTS);
+                tasks.add(new EncodeTask(encoder, from, to));
+                from = to;
+            }
+            if (tasks.size() == 1) {
+                writeFully(tasks.get(0).compute(), target);
+                continue;
+            }
+            ForkJoinTask.invokeAll(tasks);
+            for (EncodeTask task : tasks) {
+                writeFully(task.join(), target);
+            }
+        }
+    }
+
+    /**
+     * Разделитель пишется перед каждым элементом, кроме первого во всем списке
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void appendText(Object[] array, int from, int to, TextFormat<? super T> format, StringBuilder target) {
+        String separator = format.separator();
+        for (int i = from; i < to; i++) {
+            if (i > 0) {
+                target.append(separator);
+            }
+            format.append((T) array[i], target);
+        }
+    }
+
+    private static <T> void putBinary(T element, int length, ElementCodec<? super T> codec, ByteBuffer target, int index) {
+        if (element == null) {
+            target.putInt(-1);
+            return;
+        }
+        target.putInt(length);
+        int start = target.position();
+        codec.encode(element, target);
+        if (target.position() - start != length) {
+            throw new IllegalStateException("Codec wrote " + (target.position() - start)
+                    + " bytes instead of " + length + " at index " + index);
+        }
+    }
+
+    /**
+     * Передает текст буфера получателю. {@link Writer} получает символы из переиспользуемого массива
+     * {@code scratch} без создания строки
+     *
+     * @return массив {@code scratch}, увеличенный при необходимости
+     */
+    private static char[] flush(StringBuilder buffer, Appendable target, char[] scratch) throws IOException {
+        if (target instanceof Writer writer) {
+            scratch = toChars(buffer, scratch);
+            writer.write(scratch, 0, buffer.length());
+        } else {
+            target.append(buffer);
+        }
+        buffer.setLength(0);
+        return scratch;
+    }
+
+    /**
+     * Кодирует текст буфера в UTF-8 и передает в канал. Буфер сбрасывается только на границе элементов,
+     * поэтому пара суррогатов не разрывается, а одиночный суррогат заменяется на {@code '?'}
+     */
+    private static void encode(StringBuilder buffer, WritableByteChannel target) throws IOException {
+        writeFully(ByteBuffer.wrap(buffer.toString().getBytes(StandardCharsets.UTF_8)), target);
+        buffer.setLength(0);
+    }
+
+    private static char[] toChars(StringBuilder buffer, char[] scratch) {
+        if (scratch.length < buffer.length()) {
+            scratch = new char[buffer.length()];
+        }
+        buffer.getChars(0, buffer.length(), scratch, 0);
+        return scratch;
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel target) throws IOException {
+        buffer.flip();
+        writeFully(buffer, target);
+        buffer.clear();
+    }
+
+    /**
+     * @return размер записи элемента с префиксом длины
+     * @throws OutOfMemoryError в случае если запись не помещается в один {@link ByteBuffer}
+     */
+    private static long recordSize(int length) {
+        long record = (long) Integer.BYTES + length;
+        if (record > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length " + record + " is too large");
+        }
+        return record;
+    }
+
+    private static void writeFully(ByteBuffer[] buffers, WritableByteChannel target) throws IOException {
+        for (ByteBuffer buffer : buffers) {
+            writeFully(buffer, target);
+        }
+    }
+
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel target) throws IOException {
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    /**
+     * Кодирование участка {@code [from, to)} в отдельные буферы, готовые к записи по порядку
+     */
+    @FunctionalInterface
+    private interface ChunkEncoder {
+        ByteBuffer[] encode(int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class EncodeTask extends RecursiveTask<ByteBuffer[]> {
+        private final ChunkEncoder encoder;
+        private final int from;
+        private final int to;
+
+        EncodeTask(ChunkEncoder encoder, int from, int to) {
+            this.encoder = encoder;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ByteBuffer[] compute() {
+            return encoder.encode(from, to);
+        }
+    }
+}
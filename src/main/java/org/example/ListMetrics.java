@@ -0,0 +1,228 @@
+package org.example;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Счетчики операций и гистограммы задержек одного {@link ArrayList}, включаемые методом
+ * {@link ArrayList#enableMetrics(String)}. Показывает списки, которые постоянно перевыделяют массив,
+ * сдвигают хвост в {@code add(int, T)} и {@code remove(int)} или выполняют долгие линейные поиски.
+ * <p>
+ * Сбор доступен, только если JVM запущена с {@code -Dorg.example.metrics=true}. Флаг читается в константу
+ * {@link ListMetrics#ENABLED}, поэтому без него JIT удаляет все проверки из методов списка.
+ * Счетчики пишет поток-владелец списка без синхронизации, читатели видят их с возможным запаздыванием
+ */
+public final class ListMetrics implements ListMetricsMXBean {
+    /**
+     * Глобальный выключатель сбора метрик, значение системного свойства {@code org.example.metrics}
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("org.example.metrics");
+
+    private final String name;
+    private final ObjectName objectName;
+    private final LatencyHistogram shiftLatency = new LatencyHistogram();
+    private final LatencyHistogram searchLatency = new LatencyHistogram();
+    private final LatencyHistogram resizeLatency = new LatencyHistogram();
+    private long addCount;
+    private long insertCount;
+    private long removeCount;
+    private long searchCount;
+    private long shiftedElements;
+    private long scannedElements;
+    private long resizeCount;
+    private long copiedElements;
+
+    ListMetrics(String name) {
+        this.name = name;
+        try {
+            this.objectName = new ObjectName("org.example:type=ArrayList,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid metrics name " + name, e);
+        }
+    }
+
+    void recordAdd(int count) {
+        addCount += count;
+    }
+
+    void recordInsert(int shifted, long start) {
+        insertCount++;
+        shiftedElements += shifted;
+        shiftLatency.record(System.nanoTime() - start);
+    }
+
+    void recordRemove(int shifted, long start) {
+        removeCount++;
+        shiftedElements += shifted;
+        shiftLatency.record(System.nanoTime() - start);
+    }
+
+    void recordSearch(int scanned, long start) {
+        searchCount++;
+        scannedElements += scanned;
+        searchLatency.record(System.nanoTime() - start);
+    }
+
+    void recordResize(int copied, long start) {
+        resizeCount++;
+        copiedElements += copied;
+        resizeLatency.record(System.nanoTime() - start);
+    }
+
+    void recordCopy(int copied) {
+        copiedElements += copied;
+    }
+
+    void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("Metrics named " + name + " are already registered");
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics " + name, e);
+        }
+    }
+
+    void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException e) {
+            // уже снят с регистрации
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister metrics " + name, e);
+        }
+    }
+
+    /**
+     * @return имя, под которым метрики зарегистрированы в JMX
+     */
+    public ObjectName objectName() {
+        return objectName;
+    }
+
+    /**
+     * @return задержки {@code add(int, T)}, {@code addAll(int, Collection)}, удалений и {@code removeRange}
+     */
+    public LatencyHistogram shiftLatency() {
+        return shiftLatency;
+    }
+
+    /**
+     * @return задержки {@code indexOf}, {@code lastIndexOf}, {@code contains} и поиска в {@code remove(T)}
+     */
+    public LatencyHistogram searchLatency() {
+        return searchLatency;
+    }
+
+    /**
+     * @return задержки перевыделений массива
+     */
+    public LatencyHistogram resizeLatency() {
+        return resizeLatency;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getAddCount() {
+        return addCount;
+    }
+
+    @Override
+    public long getInsertCount() {
+        return insertCount;
+    }
+
+    @Override
+    public long getRemoveCount() {
+        return removeCount;
+    }
+
+    @Override
+    public long getSearchCount() {
+        return searchCount;
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements;
+    }
+
+    @Override
+    public long getScannedElements() {
+        return scannedElements;
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    @Override
+    public long getCopiedElements() {
+        return copiedElements;
+    }
+
+    @Override
+    public long getShiftLatencyP50() {
+        return shiftLatency.valueAtPercentile(50);
+    }
+
+    @Override
+    public long getShiftLatencyP99() {
+        return shiftLatency.valueAtPercentile(99);
+    }
+
+    @Override
+    public long getShiftLatencyMax() {
+        return shiftLatency.max();
+    }
+
+    @Override
+    public long getSearchLatencyP50() {
+        return searchLatency.valueAtPercentile(50);
+    }
+
+    @Override
+    public long getSearchLatencyP99() {
+        return searchLatency.valueAtPercentile(99);
+    }
+
+    @Override
+    public long getSearchLatencyMax() {
+        return searchLatency.max();
+    }
+
+    @Override
+    public long getResizeLatencyP99() {
+        return resizeLatency.valueAtPercentile(99);
+    }
+
+    @Override
+    public long getResizeLatencyMax() {
+        return resizeLatency.max();
+    }
+
+    @Override
+    public void reset() {
+        addCount = 0;
+        insertCount = 0;
+        removeCount = 0;
+        searchCount = 0;
+        shiftedElements = 0;
+        scannedElements = 0;
+        resizeCount = 0;
+        copiedElements = 0;
+        shiftLatency.reset();
+        searchLatency.reset();
+        resizeLatency.reset();
+    }
+}
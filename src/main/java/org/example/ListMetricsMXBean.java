@@ -0,0 +1,47 @@
+package org.example;
+
+/**
+ * JMX-представление {@link ListMetrics}. Регистрируется под именем
+ * {@code org.example:type=ArrayList,name=<имя списка>} и видно в JConsole и VisualVM.
+ * Задержки указаны в наносекундах
+ */
+public interface ListMetricsMXBean {
+    String getName();
+
+    long getAddCount();
+
+    long getInsertCount();
+
+    long getRemoveCount();
+
+    long getSearchCount();
+
+    long getShiftedElements();
+
+    long getScannedElements();
+
+    long getResizeCount();
+
+    long getCopiedElements();
+
+    long getShiftLatencyP50();
+
+    long getShiftLatencyP99();
+
+    long getShiftLatencyMax();
+
+    long getSearchLatencyP50();
+
+    long getSearchLatencyP99();
+
+    long getSearchLatencyMax();
+
+    long getResizeLatencyP99();
+
+    long getResizeLatencyMax();
+
+    /**
+     * Обнуляет все счетчики и гистограммы
+     */
+    void reset();
+}
@@ -0,0 +1,326 @@
+package org.example;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Пул очищенных {@link ArrayList} для временных списков (не потокобезопасен). Список берется на время
+ * блока try-with-resources через {@link ListPool#acquire()} или {@link ListPool#arena()} и при закрытии
+ * очищается и возвращается в пул с сохранением вместимости, поэтому повторные выдачи не выделяют массивы.
+ * Для обработчиков, работающих в нескольких потоках, у каждого потока есть свой пул {@link ListPool#local()}.
+ * <p>
+ * Списки хранятся по классам размера: класс {@code k} содержит списки вместимостью от {@code 2^k}
+ * до {@code 2^(k+1) - 1}, не больше {@code maxPerClass} списков в классе. Списки вместимостью больше
+ * {@code maxRetainedCapacity} при возврате отбрасываются, чтобы один большой запрос не держал память
+ * навсегда. {@link ListPool#trim()} отбрасывает все списки пула.
+ * <p>
+ * Каждая {@code leakSampling}-я выдача отслеживается: если аренда стала недостижимой, не будучи закрытой,
+ * утечка учитывается в {@link ListPool#leakCount()}, а место выдачи доступно через {@link ListPool#lastLeak()}.
+ * Пользоваться списком после закрытия аренды нельзя: он уже может быть выдан снова
+ *
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList
+ */
+public final class ListPool {
+    /**
+     * Наименьший класс размера, соответствует вместимости списка по умолчанию
+     */
+    private static final int MIN_CLASS = 4;
+    /**
+     * Классы индексируются показателем степени двойки, вместимость массива меньше {@code 2^31}
+     */
+    private static final int CLASS_COUNT = 31;
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final ThreadLocal<ListPool> LOCAL = ThreadLocal.withInitial(() -> new ListPool(8, 1 << 16, 64));
+
+    private final int maxPerClass;
+    private final int maxRetainedCapacity;
+    private final int leakSampling;
+    private final ArrayList<?>[][] classes = new ArrayList<?>[CLASS_COUNT][];
+    private final int[] counts = new int[CLASS_COUNT];
+    private int acquired;
+    private long reuseCount;
+    private long discardCount;
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicReference<Throwable> lastLeak = new AtomicReference<>();
+
+    /**
+     * Конструктор создает пустой пул
+     *
+     * @param maxPerClass         наибольшее число хранимых списков одного класса размера
+     * @param maxRetainedCapacity наибольшая вместимость списка, возвращаемого в пул
+     * @param leakSampling        отслеживается каждая {@code leakSampling}-я выдача, {@code 0} выключает отслеживание
+     * @throws IllegalArgumentException в случае если {@code maxPerClass} или {@code maxRetainedCapacity} меньше 1
+     *                                  или {@code leakSampling} отрицателен
+     */
+    public ListPool(int maxPerClass, int maxRetainedCapacity, int leakSampling) {
+        if (maxPerClass < 1) {
+            throw new IllegalArgumentException("The number of lists per size class have to be a positive number");
+        }
+        if (maxRetainedCapacity < 1) {
+            throw new IllegalArgumentException("The maximum retained capacity have to be a positive number");
+        }
+        if (leakSampling < 0) {
+            throw new IllegalArgumentException("The leak sampling interval cannot be negative");
+        }
+        this.maxPerClass = maxPerClass;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+        this.leakSampling = leakSampling;
+    }
+
+    /**
+     * @return пул текущего потока: до 8 списков в классе размера, вместимость до 65536,
+     * отслеживается каждая 64-я выдача
+     */
+    public static ListPool local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Выдает наименьший из хранимых пустых списков или новый, если пул пуст. Списки, выросшие в прошлых арендах,
+     * выдаются повторно, поэтому временный список обработчика перестает перевыделять массив
+     *
+     * @return аренда списка, возвращающая его в пул при закрытии
+     */
+    public <T> Lease<T> acquire() {
+        return acquire(0);
+    }
+
+    /**
+     * Выдает пустой список вместимостью не меньше {@code expectedSize}. Список из пула берется из класса размера,
+     * достаточного для {@code expectedSize}, или из двух следующих классов, чтобы не выдавать слишком большие массивы
+     *
+     * @param expectedSize ожидаемое число элементов
+     * @return аренда списка, возвращающая его в пул при закрытии
+     * @throws IllegalArgumentException в случае если {@code expectedSize} отрицателен
+     */
+    public <T> Lease<T> acquire(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative");
+        }
+        return new Lease<>(this, take(expectedSize));
+    }
+
+    /**
+     * Открывает область, все списки которой возвращаются в пул одним закрытием
+     *
+     * @return область выдачи списков
+     */
+    public Arena arena() {
+        return new Arena(this);
+    }
+
+    /**
+     * Отбрасывает все хранимые списки
+     */
+    public void trim() {
+        for (int i = MIN_CLASS; i < CLASS_COUNT; i++) {
+            if (classes[i] != null) {
+                discardCount += counts[i];
+                classes[i] = null;
+                counts[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * @return число хранимых в пуле списков
+     */
+    public int pooledCount() {
+        int pooled = 0;
+        for (int count : counts) {
+            pooled += count;
+        }
+        return pooled;
+    }
+
+    /**
+     * @return число выдач списка из пула, не потребовавших создания нового списка
+     */
+    public long reuseCount() {
+        return reuseCount;
+    }
+
+    /**
+     * @return число списков, отброшенных из-за ограничений пула или {@link ListPool#trim()}
+     */
+    public long discardCount() {
+        return discardCount;
+    }
+
+    /**
+     * @return число обнаруженных незакрытых аренд среди отслеживаемых
+     */
+    public long leakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * @return исключение со стеком места выдачи последней незакрытой аренды или {@code null}, если утечек не было
+     */
+    public Throwable lastLeak() {
+        return lastLeak.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ArrayList<T> take(int expectedSize) {
+        int sizeClass = Math.max(MIN_CLASS, 32 - Integer.numberOfLeadingZeros(Math.max(expectedSize, 1) - 1));
+        int lastClass = expectedSize == 0 ? CLASS_COUNT : Math.min(CLASS_COUNT, sizeClass + 3);
+        for (int i = sizeClass; i < lastClass; i++) {
+            if (counts[i] > 0) {
+                ArrayList<T> list = (ArrayList<T>) classes[i][--counts[i]];
+                classes[i][counts[i]] = null;
+                reuseCount++;
+                // В наименьшем классе лежат и списки вместимостью меньше 16, в том числе еще без массива
+                list.ensureCapacity(expectedSize);
+                return list;
+            }
+        }
+        return expectedSize > 0 ? new ArrayList<>(expectedSize) : new ArrayList<>();
+    }
+
+    private void release(ArrayList<?> list) {
+        list.resetForReuse();
+        int capacity = list.capacity();
+        if (capacity > maxRetainedCapacity) {
+            discardCount++;
+            return;
+        }
+        // Список без массива кладется в наименьший класс, массив ему выделит первое добавление
+        int sizeClass = Math.max(MIN_CLASS, 31 - Integer.numberOfLeadingZeros(Math.max(capacity, 1)));
+        if (counts[sizeClass] == maxPerClass) {
+            discardCount++;
+            return;
+        }
+        if (classes[sizeClass] == null) {
+            classes[sizeClass] = new ArrayList<?>[maxPerClass];
+        }
+        classes[sizeClass][counts[sizeClass]++] = list;
+    }
+
+    /**
+     * Отслеживание выдачи, если она попала в выборку, иначе {@code null}
+     */
+    private Tracker track() {
+        if (leakSampling == 0 || ++acquired % leakSampling != 0) {
+            return null;
+        }
+        return new Tracker(leakCount, lastLeak, new Throwable("The leaked list was acquired here"));
+    }
+
+    /**
+     * Действие {@link Cleaner}: не ссылается на аренду, чтобы не удерживать ее от сборки
+     */
+    private static final class Tracker implements Runnable {
+        private final AtomicLong leakCount;
+        private final AtomicReference<Throwable> lastLeak;
+        private final Throwable site;
+        private volatile boolean closed;
+
+        Tracker(AtomicLong leakCount, AtomicReference<Throwable> lastLeak, Throwable site) {
+            this.leakCount = leakCount;
+            this.lastLeak = lastLeak;
+            this.site = site;
+        }
+
+        @Override
+        public void run() {
+            if (!closed) {
+                leakCount.incrementAndGet();
+                lastLeak.set(site);
+            }
+        }
+    }
+
+    /**
+     * Аренда одного списка из пула. Закрытие очищает список и возвращает его в пул, повторное закрытие ничего не делает
+     *
+     * @param <T> тип элементов списка
+     */
+    public static final class Lease<T> implements AutoCloseable {
+        private final ListPool pool;
+        private ArrayList<T> list;
+        private final Tracker tracker;
+        private final Cleaner.Cleanable cleanable;
+
+        private Lease(ListPool pool, ArrayList<T> list) {
+            this.pool = pool;
+            this.list = list;
+            this.tracker = pool.track();
+            this.cleanable = tracker != null ? CLEANER.register(this, tracker) : null;
+        }
+
+        /**
+         * @return арендованный список
+         * @throws IllegalStateException в случае если аренда закрыта
+         */
+        public ArrayList<T> list() {
+            if (list == null) {
+                throw new IllegalStateException("The lease is closed");
+            }
+            return list;
+        }
+
+        @Override
+        public void close() {
+            if (list == null) {
+                return;
+            }
+            if (tracker != null) {
+                tracker.closed = true;
+                cleanable.clean();
+            }
+            pool.release(list);
+            list = null;
+        }
+    }
+
+    /**
+     * Область выдачи списков: все выданные ей списки возвращаются в пул при закрытии области.
+     * Подходит для обработчика, которому нужно несколько временных списков
+     */
+    public static final class Arena implements AutoCloseable {
+        private final Lease<ArrayList<?>> lists;
+
+        private Arena(ListPool pool) {
+            this.lists = pool.acquire();
+        }
+
+        /**
+         * @return пустой список из пула, который вернется в пул при закрытии области
+         * @throws IllegalStateException в случае если область закрыта
+         */
+        public <T> ArrayList<T> list() {
+            return list(0);
+        }
+
+        /**
+         * @param expectedSize ожидаемое число элементов
+         * @return пустой список вместимостью не меньше {@code expectedSize}
+         * @throws IllegalStateException    в случае если область закрыта
+         * @throws IllegalArgumentException в случае если {@code expectedSize} отрицателен
+         */
+        public <T> ArrayList<T> list(int expectedSize) {
+            ArrayList<ArrayList<?>> owned = lists.list();
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("The expected size cannot be negative");
+            }
+            ArrayList<T> list = lists.pool.take(expectedSize);
+            owned.add(list);
+            return list;
+        }
+
+        @Override
+        public void close() {
+            if (lists.list == null) {
+                return;
+            }
+            ArrayList<ArrayList<?>> owned = lists.list;
+            for (int i = 0; i < owned.size(); i++) {
+                lists.pool.release(owned.get(i));
+            }
+            lists.close();
+        }
+    }
+}
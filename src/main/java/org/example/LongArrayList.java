@@ -0,0 +1,389 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+
+/**
+ * Динамический массив примитивов {@code long} (не потокобезопасен). Повторяет API {@link ArrayList},
+ * но хранит значения в {@code long[]} без упаковки в {@link Long}
+ *
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList
+ */
+public class LongArrayList {
+    /**
+     * @param array - массив значений, индексируемая часть которого ограничена {@link LongArrayList#size}
+     */
+    private long[] array;
+    /**
+     * @param size длина индексируемой части массива
+     */
+    private int size = 0;
+
+    /**
+     * Конструктор умолчанию создает объект класса {@link LongArrayList}
+     * с изначальной вместимостью массива {@link LongArrayList#array} 16 элементов
+     */
+    public LongArrayList() {
+        this.array = new long[16];
+    }
+
+    /**
+     * Конструктор создает объект класса {@link LongArrayList} с указанной вместимостью массива {@link LongArrayList#array}
+     *
+     * @param initialCapacity изначальная вместимость массива {@link LongArrayList#array}
+     * @throws IllegalArgumentException в случае если {@code initialCapacity} меньше 1
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity have to be a positive number");
+        }
+        this.array = new long[initialCapacity];
+    }
+
+    /**
+     * Конструктор создает объект класса {@link LongArrayList} с копией элементов другого экземпляра {@link LongArrayList}
+     *
+     * @param initialList экземпляр класса {@link LongArrayList} для инициализации
+     */
+    public LongArrayList(LongArrayList initialList) {
+        this.array = Arrays.copyOf(initialList.array, Math.max(initialList.size, 1));
+        this.size = initialList.size;
+    }
+
+    /**
+     * Конструктор создает объект класса {@link LongArrayList} с копией переданного массива
+     *
+     * @param initialArray массив значений для инициализации {@link LongArrayList#array}
+     */
+    public LongArrayList(long[] initialArray) {
+        this.array = Arrays.copyOf(initialArray, Math.max(initialArray.length, 1));
+        this.size = initialArray.length;
+    }
+
+    private LongArrayList(long[] array, int size) {
+        this.array = array;
+        this.size = size;
+    }
+
+    /**
+     * Сортирует элементы по возрастанию с помощью {@link Arrays#sort(long[], int, int)}
+     */
+    public void sort() {
+        Arrays.sort(array, 0, size);
+    }
+
+    /**
+     * Добавляет передаваемое значение в конец массива {@link LongArrayList#array},
+     * при нехватке вместимости увеличивая ее в 1,5 раза
+     *
+     * @param element добавляемое значение
+     */
+    public void add(long element) {
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        array[size++] = element;
+    }
+
+    /**
+     * Добавляет передаваемое значение на указанный {@code index}, сдвигая последующие элементы вправо
+     *
+     * @param index   место вставки значения
+     * @param element добавляемое значение
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     */
+    public void add(int index, long element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (size == array.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет все элементы передаваемого {@code secondList} в конец массива
+     *
+     * @param secondList экземпляр класса {@link LongArrayList}
+     * @throws NullPointerException в случае, если {@code secondList} неинициализирован
+     */
+    public void addAll(LongArrayList secondList) {
+        if (secondList == null) {
+            throw new NullPointerException("Cannot invoke method addAll(LongArrayList secondList) because the secondList is null");
+        }
+        int secondSize = secondList.size;
+        int minCapacity = size + secondSize;
+        if (minCapacity > array.length || minCapacity < 0) {
+            grow(minCapacity);
+        }
+        System.arraycopy(secondList.array, 0, array, size, secondSize);
+        size += secondSize;
+    }
+
+    /**
+     * @param index индекс требуемого элемента
+     * @return значение на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Изменяет значение элемента на указанной позиции
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element новое значение
+     * @return предыдущее значение
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public long set(int index, long element) {
+        checkIndex(index);
+        long oldElement = array[index];
+        array[index] = element;
+        return oldElement;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая последующие элементы влево
+     *
+     * @param index индекс элемента для удаления
+     * @return значение удаленного элемента
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public long remove(int index) {
+        checkIndex(index);
+        long deletedElement = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return deletedElement;
+    }
+
+    /**
+     * Удаляет первое вхождение передаваемого значения, сдвигая последующие элементы влево.
+     * Имя совпадает с {@link IntArrayList#removeElement(int)}, чтобы не путать с {@link LongArrayList#remove(int)}
+     *
+     * @param element значение для удаления
+     * @return {@code true}, если значение было найдено и удалено, в противном случае {@code false}
+     */
+    public boolean removeElement(long element) {
+        int position = indexOf(element);
+        if (position < 0) {
+            return false;
+        }
+        remove(position);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие фильтру, за один проход с уплотнением массива
+     *
+     * @param filter экземпляр функционального интерфейса {@link LongPredicate}
+     * @return {@code true}, если элемент(ы) был(и) найден(ы) и удален(ы), в противном случае {@code false}
+     * @throws NullPointerException в случае, если {@code filter} неинициализирован
+     */
+    public boolean removeIf(LongPredicate filter) {
+        if (filter == null) {
+            throw new NullPointerException("Cannot invoke method removeIf(LongPredicate filter) because the filter is null");
+        }
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            long element = array[i];
+            if (!filter.test(element)) {
+                array[newSize++] = element;
+            }
+        }
+        boolean checkForElement = newSize != size;
+        size = newSize;
+        return checkForElement;
+    }
+
+    /**
+     * @param element значение, индекс которого требуется получить
+     * @return индекс первого вхождения значения, в противном случае {@code -1}
+     */
+    public int indexOf(long element) {
+        return PrimitiveKernels.ACTIVE.indexOf(array, size, element);
+    }
+
+    /**
+     * @param element значение, индекс которого требуется получить
+     * @return индекс последнего вхождения значения, в противном случае {@code -1}
+     */
+    public int lastIndexOf(long element) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param element искомое значение
+     * @return {@code true}, если значение содержится в списке
+     */
+    public boolean contains(long element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * @return сумма элементов. При переполнении значение переходит через границу, как при сложении {@code long}
+     */
+    public long sum() {
+        return PrimitiveKernels.ACTIVE.sum(array, size);
+    }
+
+    /**
+     * @return наименьший элемент
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public long min() {
+        checkNotEmpty();
+        return PrimitiveKernels.ACTIVE.min(array, size);
+    }
+
+    /**
+     * @return наибольший элемент
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public long max() {
+        checkNotEmpty();
+        return PrimitiveKernels.ACTIVE.max(array, size);
+    }
+
+    /**
+     * @param from нижняя граница, включительно
+     * @param to   верхняя граница, включительно
+     * @return количество элементов из отрезка {@code [from, to]}
+     */
+    public int countBetween(long from, long to) {
+        return PrimitiveKernels.ACTIVE.countBetween(array, size, from, to);
+    }
+
+    /**
+     * @param from нижняя граница, включительно
+     * @param to   верхняя граница, включительно
+     * @return новый список из элементов отрезка {@code [from, to]} в исходном порядке
+     */
+    public LongArrayList filterBetween(long from, long to) {
+        long[] target = new long[Math.max(size, 1)];
+        int count = PrimitiveKernels.ACTIVE.filterBetween(array, size, from, to, target);
+        if (count < target.length / 2) {
+            target = Arrays.copyOf(target, Math.max(count, 1));
+        }
+        return new LongArrayList(target, count);
+    }
+
+    /**
+     * @return значение длины индексируемой части массива {@link LongArrayList#array}
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * Обнуляет длину индексируемой части, вместимость массива сохраняется
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return {@code true} если длина индексируемой части массива {@link LongArrayList#array} меньше вместимости массива,
+     * в противном случае вернет {@code false}
+     */
+    public boolean ensureCapacity() {
+        return (array.length > size);
+    }
+
+    /**
+     * Обрезает длину массива {@link LongArrayList#array} до размера индексируемой части
+     */
+    public void trimToSize() {
+        array = Arrays.copyOf(array, Math.max(size, 1));
+    }
+
+    /**
+     * Устанавливает вместимость массива {@link LongArrayList#array} указанному значению,
+     * при этом если {@code capacity} меньше длины индексируемой части, то лишние значения теряются
+     *
+     * @param capacity новое значение вместимости массива {@link LongArrayList#array}
+     * @throws IllegalArgumentException в случае если {@code capacity} меньше 1
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be greater or equal to 1");
+        }
+        array = Arrays.copyOf(array, capacity);
+        size = Math.min(size, capacity);
+    }
+
+    /**
+     * @return {@code String} в квадратных скобках со значениями индексируемой части массива, перечисленными через запятую
+     */
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder result = new StringBuilder("[");
+        result.append(array[0]);
+        for (int i = 1; i < size; i++) {
+            result.append(", ").append(array[i]);
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * @return массив {@code long[]} с элементами индексируемой части массива {@link LongArrayList#array}
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LongArrayList other))
+            return false;
+        return Arrays.equals(this.array, 0, this.size, other.array, 0, other.size);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * Увеличивает вместимость по {@link GrowthPolicy#DEFAULT}, как {@link ArrayList}.
+     * Отрицательный {@code minCapacity} означает переполнение длины
+     *
+     * @throws OutOfMemoryError в случае если {@code minCapacity} превышает {@link GrowthPolicy#MAX_CAPACITY}
+     */
+    private void grow(int minCapacity) {
+        array = Arrays.copyOf(array, GrowthPolicy.DEFAULT.newCapacity(array.length, minCapacity));
+    }
+}
@@ -0,0 +1,247 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Список только для чтения поверх файла, отображенного в память через {@link java.nio.MappedByteBuffer}.
+ * Открытие не десериализует элементы: страницы файла подгружаются операционной системой при обращении,
+ * а элемент декодируется {@link ElementCodec} только в {@link MappedArrayList#get(int)}.
+ * Чтение не меняет состояние буфера, поэтому экземпляр можно разделять между потоками.
+ * <p>
+ * Формат файла (порядок байт little-endian):
+ * <pre>
+ * заголовок, 32 байта: int magic, int version, int ширина элемента (-1 для переменной), int длина списка,
+ *                      long смещение данных, long смещение таблицы (0 для фиксированной ширины)
+ * данные:              закодированные элементы подряд
+ * таблица:             (длина + 1) значений long - смещения начала элементов и конца данных;
+ *                      {@code null} хранится как {@code -смещение - 1}
+ * </pre>
+ * Файл записывается методом {@link ArrayList#writeTo(Path, ElementCodec)} и ограничен 2 ГБ
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ */
+public class MappedArrayList<T> {
+    static final int MAGIC = 0x5453494C;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    /**
+     * Наибольший размер файла: смещения в отображенном буфере имеют тип {@code int}
+     */
+    static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final ByteBuffer buffer;
+    private final ElementCodec<T> codec;
+    private final int size;
+    private final int width;
+    private final int dataOffset;
+    private final int tableOffset;
+
+    private MappedArrayList(ByteBuffer buffer, ElementCodec<T> codec, int size, int width, int dataOffset, int tableOffset) {
+        this.buffer = buffer;
+        this.codec = codec;
+        this.size = size;
+        this.width = width;
+        this.dataOffset = dataOffset;
+        this.tableOffset = tableOffset;
+    }
+
+    /**
+     * Отображает файл, записанный {@link ArrayList#writeTo(Path, ElementCodec)}, в память
+     *
+     * @param file  путь к файлу
+     * @param codec кодек, которым файл был записан
+     * @return список только для чтения
+     * @throws IOException в случае ошибки чтения, неверного формата файла, заголовка, не согласованного
+     *                     с размером файла, или несовпадения ширины кодека
+     */
+    public static <T> MappedArrayList<T> open(Path file, ElementCodec<T> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > MAX_FILE_SIZE) {
+                throw new IOException("File " + file + " is too large to be mapped");
+            }
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("File " + file + " is not an ArrayList file");
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("File " + file + " is not an ArrayList file of version " + VERSION);
+            }
+            int width = buffer.getInt(8);
+            if (width != codec.fixedWidth()) {
+                throw new IOException("File " + file + " has element width " + width
+                        + " but the codec has " + codec.fixedWidth());
+            }
+            int size = buffer.getInt(12);
+            long dataOffset = buffer.getLong(16);
+            long tableOffset = buffer.getLong(24);
+            checkLayout(file, buffer, fileSize, size, width, dataOffset, tableOffset);
+            return new MappedArrayList<>(buffer, codec, size, width, (int) dataOffset, (int) tableOffset);
+        }
+    }
+
+    /**
+     * Проверяет, что данные и таблица смещений из заголовка лежат внутри файла, чтобы
+     * {@link MappedArrayList#get(int)} не читал за его пределами. Смещения отдельных элементов
+     * не проверяются, чтобы открытие не читало всю таблицу
+     */
+    private static void checkLayout(Path file, ByteBuffer buffer, long fileSize, int size, int width,
+                                    long dataOffset, long tableOffset) throws IOException {
+        if (size < 0) {
+            throw new IOException("File " + file + " has negative length " + size);
+        }
+        if (dataOffset < HEADER_SIZE || dataOffset > fileSize) {
+            throw new IOException("File " + file + " has data offset " + dataOffset
+                    + " out of bounds for file size " + fileSize);
+        }
+        if (width >= 0) {
+            if (dataOffset + (long) size * width > fileSize) {
+                throw new IOException("File " + file + " is truncated: " + size + " elements of width " + width
+                        + " at offset " + dataOffset + " do not fit in " + fileSize + " bytes");
+            }
+            return;
+        }
+        if (tableOffset < dataOffset || tableOffset + (size + 1L) * Long.BYTES > fileSize) {
+            throw new IOException("File " + file + " has offset table at " + tableOffset + " for " + size
+                    + " elements out of bounds for file size " + fileSize);
+        }
+        long end = buffer.getLong((int) (tableOffset + (long) size * Long.BYTES));
+        if (end != tableOffset) {
+            throw new IOException("File " + file + " has data end " + end + " instead of " + tableOffset);
+        }
+    }
+
+    /**
+     * Записывает индексируемую часть массива в файл блоками через {@link FileChannel}
+     *
+     * @throws IOException в случае ошибки записи или если файл превысит {@link MappedArrayList#MAX_FILE_SIZE};
+     *                     запись прекращается до того, как размер будет превышен
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void write(Object[] array, int size, Path file, ElementCodec<? super T> codec) throws IOException {
+        int width = codec.fixedWidth();
+        checkFileSize(file, HEADER_SIZE + (width < 0 ? (size + 1L) * Long.BYTES : (long) size * width));
+        long[] offsets = width < 0 ? new long[size + 1] : null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(HEADER_SIZE);
+            long position = HEADER_SIZE;
+            for (int i = 0; i < size; i++) {
+                T element = (T) array[i];
+                if (element == null) {
+                    if (offsets == null) {
+                        throw new NullPointerException("Cannot write null element at index " + i + " with a fixed-width codec");
+                    }
+                    offsets[i] = -position - 1;
+                    continue;
+                }
+                if (offsets != null) {
+                    offsets[i] = position;
+                }
+                int length = codec.encodedSize(element);
+                if (offsets != null) {
+                    checkFileSize(file, position + length + (size + 1L) * Long.BYTES);
+                }
+                if (length > buffer.remaining()) {
+                    flush(channel, buffer);
+                }
+                ByteBuffer target = length > buffer.capacity()
+                        ? ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN) : buffer;
+                int start = target.position();
+                codec.encode(element, target);
+                if (target.position() - start != length) {
+                    throw new IllegalStateException("Codec wrote " + (target.position() - start)
+                            + " bytes instead of " + length + " at index " + i);
+                }
+                if (target != buffer) {
+                    flush(channel, target);
+                }
+                position += length;
+            }
+            long tableOffset = 0;
+            if (offsets != null) {
+                offsets[size] = position;
+                tableOffset = position;
+                for (long offset : offsets) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        flush(channel, buffer);
+                    }
+                    buffer.putLong(offset);
+                }
+            }
+            flush(channel, buffer);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(size)
+                    .putLong(HEADER_SIZE).putLong(tableOffset).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    private static void checkFileSize(Path file, long fileSize) throws IOException {
+        if (fileSize > MAX_FILE_SIZE) {
+            throw new IOException("File " + file + " would take at least " + fileSize
+                    + " bytes, which exceeds the limit of " + MAX_FILE_SIZE);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Декодирует элемент на указанной позиции прямо из отображенного файла
+     *
+     * @param index индекс требуемого элемента
+     * @return элемент на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (width >= 0) {
+            return codec.decode(buffer, (int) (dataOffset + (long) index * width), width);
+        }
+        long start = buffer.getLong((int) (tableOffset + (long) index * Long.BYTES));
+        if (start < 0) {
+            return null;
+        }
+        long end = buffer.getLong((int) (tableOffset + (long) (index + 1) * Long.BYTES));
+        if (end < 0) {
+            end = -end - 1;
+        }
+        return codec.decode(buffer, (int) start, (int) (end - start));
+    }
+
+    /**
+     * @return значение длины списка
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * @return новый изменяемый {@link ArrayList} со всеми декодированными элементами
+     */
+    public ArrayList<T> toArrayList() {
+        ArrayList<T> result = new ArrayList<>(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+}
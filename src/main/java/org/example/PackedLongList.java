@@ -0,0 +1,465 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Неизменяемый сжатый список значений {@code long} для чтения, в который замораживается {@link ArrayList}
+ * или {@link LongArrayList} с монотонными или почти монотонными значениями: идентификаторами, метками времени.
+ * <p>
+ * Значения делятся на блоки по {@value BLOCK_LENGTH} штук. В блоке хранятся разности соседних значений
+ * за вычетом наименьшей разности блока (frame of reference), упакованные в одинаковое для блока число бит.
+ * Индекс блоков хранит первое значение, наименьшую разность, ширину, смещение упакованных бит,
+ * а также наименьшее и наибольшее значение блока. По нему {@link PackedLongList#get(int)} находит блок за O(1)
+ * и декодирует не больше {@value BLOCK_LENGTH} разностей, а поиски и подсчеты пропускают блоки,
+ * диапазон которых не пересекается с искомым. Полные проходы декодируют блок целиком в буфер.
+ * <p>
+ * Разности вычисляются с переполнением, как сложение {@code long}, поэтому сжимается любая последовательность,
+ * а ширина разностей случайных значений доходит до 64 бит
+ *
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see LongArrayList
+ */
+public final class PackedLongList {
+    /**
+     * Число значений в блоке
+     */
+    static final int BLOCK_LENGTH = 128;
+    private static final int BLOCK_SHIFT = 7;
+
+    private final int size;
+    /**
+     * Упакованные разности всех блоков, каждый блок начинается с нового слова
+     */
+    private final long[] words;
+    /**
+     * Индекс блоков
+     */
+    private final long[] firstValues;
+    private final long[] minDeltas;
+    private final long[] minValues;
+    private final long[] maxValues;
+    private final int[] wordOffsets;
+    private final byte[] widths;
+
+    private PackedLongList(int size, long[] words, long[] firstValues, long[] minDeltas, long[] minValues,
+                           long[] maxValues, int[] wordOffsets, byte[] widths) {
+        this.size = size;
+        this.words = words;
+        this.firstValues = firstValues;
+        this.minDeltas = minDeltas;
+        this.minValues = minValues;
+        this.maxValues = maxValues;
+        this.wordOffsets = wordOffsets;
+        this.widths = widths;
+    }
+
+    /**
+     * Сжимает значения массива
+     *
+     * @param values сжимаемые значения
+     * @return сжатый список с теми же значениями в том же порядке
+     * @throws NullPointerException в случае, если {@code values} неинициализирован
+     */
+    public static PackedLongList pack(long[] values) {
+        if (values == null) {
+            throw new NullPointerException("Cannot invoke method pack(long[] values) because the values is null");
+        }
+        return pack(values, values.length);
+    }
+
+    /**
+     * Сжимает значения {@link LongArrayList}
+     *
+     * @param list сжимаемый список
+     * @return сжатый список с теми же значениями в том же порядке
+     * @throws NullPointerException в случае, если {@code list} неинициализирован
+     */
+    public static PackedLongList pack(LongArrayList list) {
+        if (list == null) {
+            throw new NullPointerException("Cannot invoke method pack(LongArrayList list) because the list is null");
+        }
+        return pack(list.toArray());
+    }
+
+    /**
+     * Сжимает целочисленные элементы {@link ArrayList}: {@link Long}, {@link Integer}, {@link Short} или {@link Byte}.
+     * Обратно список восстанавливается методами {@link PackedLongList#toArrayList()}
+     * и {@link PackedLongList#toArrayList(LongFunction)}
+     *
+     * @param list сжимаемый список
+     * @return сжатый список со значениями элементов в том же порядке
+     * @throws NullPointerException     в случае, если {@code list} или один из его элементов неинициализирован
+     * @throws IllegalArgumentException в случае, если элемент не является целым числом
+     */
+    public static PackedLongList pack(ArrayList<? extends Number> list) {
+        if (list == null) {
+            throw new NullPointerException("Cannot invoke method pack(ArrayList list) because the list is null");
+        }
+        long[] values = new long[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            Number element = list.get(i);
+            if (element == null) {
+                throw new NullPointerException("Cannot pack the null element at index " + i);
+            }
+            if (!(element instanceof Long || element instanceof Integer || element instanceof Short || element instanceof Byte)) {
+                throw new IllegalArgumentException("The element at index " + i + " is not an integral number: " + element);
+            }
+            values[i] = element.longValue();
+        }
+        return pack(values, values.length);
+    }
+
+    private static PackedLongList pack(long[] values, int size) {
+        int blocks = (size + BLOCK_LENGTH - 1) >>> BLOCK_SHIFT;
+        long[] firstValues = new long[blocks];
+        long[] minDeltas = new long[blocks];
+        long[] minValues = new long[blocks];
+        long[] maxValues = new long[blocks];
+        int[] wordOffsets = new int[blocks + 1];
+        byte[] widths = new byte[blocks];
+        for (int block = 0; block < blocks; block++) {
+            int from = block << BLOCK_SHIFT;
+            int to = Math.min(size, from + BLOCK_LENGTH);
+            long minDelta = Long.MAX_VALUE;
+            long min = values[from];
+            long max = values[from];
+            for (int i = from + 1; i < to; i++) {
+                minDelta = Math.min(minDelta, values[i] - values[i - 1]);
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+            long bits = 0;
+            for (int i = from + 1; i < to; i++) {
+                bits |= values[i] - values[i - 1] - minDelta;
+            }
+            int width = 64 - Long.numberOfLeadingZeros(bits);
+            firstValues[block] = values[from];
+            minDeltas[block] = to - from > 1 ? minDelta : 0;
+            minValues[block] = min;
+            maxValues[block] = max;
+            widths[block] = (byte) width;
+            wordOffsets[block + 1] = Math.addExact(wordOffsets[block], (int) (((long) (to - from - 1) * width + 63) >>> 6));
+        }
+        // Лишнее слово в конце позволяет декодированию читать следующее слово без проверки границы
+        long[] words = new long[wordOffsets[blocks] + 1];
+        for (int block = 0; block < blocks; block++) {
+            int from = block << BLOCK_SHIFT;
+            int to = Math.min(size, from + BLOCK_LENGTH);
+            int width = widths[block];
+            if (width == 0) {
+                continue;
+            }
+            long position = (long) wordOffsets[block] << 6;
+            for (int i = from + 1; i < to; i++, position += width) {
+                long packed = values[i] - values[i - 1] - minDeltas[block];
+                int word = (int) (position >>> 6);
+                int shift = (int) (position & 63);
+                words[word] |= packed << shift;
+                if (shift + width > 64) {
+                    words[word + 1] |= packed >>> (64 - shift);
+                }
+            }
+        }
+        return new PackedLongList(size, words, firstValues, minDeltas, minValues, maxValues,
+                Arrays.copyOf(wordOffsets, blocks), widths);
+    }
+
+    /**
+     * @param index индекс требуемого значения
+     * @return значение на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        int block = index >>> BLOCK_SHIFT;
+        int count = index & (BLOCK_LENGTH - 1);
+        int width = widths[block];
+        long value = firstValues[block] + count * minDeltas[block];
+        if (width == 0) {
+            return value;
+        }
+        long mask = width == 64 ? -1L : (1L << width) - 1;
+        long position = (long) wordOffsets[block] << 6;
+        for (int i = 0; i < count; i++, position += width) {
+            value += unpack(position, width, mask);
+        }
+        return value;
+    }
+
+    /**
+     * @return число значений
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * @return сумма значений. При переполнении значение переходит через границу, как при сложении {@code long}
+     */
+    public long sum() {
+        long[] buffer = new long[BLOCK_LENGTH];
+        long sum = 0;
+        for (int block = 0; block < widths.length; block++) {
+            int length = decode(block, buffer);
+            for (int i = 0; i < length; i++) {
+                sum += buffer[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Находит наименьшее значение по индексу блоков без декодирования
+     *
+     * @return наименьшее значение
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public long min() {
+        checkNotEmpty();
+        long min = Long.MAX_VALUE;
+        for (long value : minValues) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    /**
+     * Находит наибольшее значение по индексу блоков без декодирования
+     *
+     * @return наибольшее значение
+     * @throws NoSuchElementException в случае если список пуст
+     */
+    public long max() {
+        checkNotEmpty();
+        long max = Long.MIN_VALUE;
+        for (long value : maxValues) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Блоки вне отрезка пропускаются, блоки внутри отрезка учитываются целиком без декодирования
+     *
+     * @param from нижняя граница, включительно
+     * @param to   верхняя граница, включительно
+     * @return количество значений из отрезка {@code [from, to]}
+     */
+    public int countBetween(long from, long to) {
+        long[] buffer = new long[BLOCK_LENGTH];
+        int count = 0;
+        for (int block = 0; block < widths.length; block++) {
+            if (maxValues[block] < from || minValues[block] > to) {
+                continue;
+            }
+            if (minValues[block] >= from && maxValues[block] <= to) {
+                count += blockLength(block);
+                continue;
+            }
+            int length = decode(block, buffer);
+            for (int i = 0; i < length; i++) {
+                if (buffer[i] >= from && buffer[i] <= to) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Пропускает блоки, диапазон которых не содержит {@code element}
+     *
+     * @param element искомое значение
+     * @return индекс первого вхождения значения или {@code -1}, если его нет
+     */
+    public int indexOf(long element) {
+        long[] buffer = new long[BLOCK_LENGTH];
+        for (int block = 0; block < widths.length; block++) {
+            if (element < minValues[block] || element > maxValues[block]) {
+                continue;
+            }
+            int length = decode(block, buffer);
+            for (int i = 0; i < length; i++) {
+                if (buffer[i] == element) {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param element искомое значение
+     * @return {@code true}, если значение присутствует в списке
+     */
+    public boolean contains(long element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Передает значения по порядку, декодируя блоки целиком
+     *
+     * @param action действие над каждым значением
+     * @throws NullPointerException в случае, если {@code action} неинициализирован
+     */
+    public void forEach(LongConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Cannot invoke method forEach(LongConsumer action) because the action is null");
+        }
+        long[] buffer = new long[BLOCK_LENGTH];
+        for (int block = 0; block < widths.length; block++) {
+            int length = decode(block, buffer);
+            for (int i = 0; i < length; i++) {
+                action.accept(buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * @return массив {@code long[]} со всеми значениями
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        long[] buffer = new long[BLOCK_LENGTH];
+        for (int block = 0; block < widths.length; block++) {
+            int length = decode(block, buffer);
+            System.arraycopy(buffer, 0, result, block << BLOCK_SHIFT, length);
+        }
+        return result;
+    }
+
+    /**
+     * @return новый {@link LongArrayList} со всеми значениями
+     */
+    public LongArrayList toLongArrayList() {
+        return new LongArrayList(toArray());
+    }
+
+    /**
+     * @return новый {@link ArrayList} со значениями, упакованными в {@link Long}
+     */
+    public ArrayList<Long> toArrayList() {
+        return toArrayList(Long::valueOf);
+    }
+
+    /**
+     * Восстанавливает список с исходным типом элементов, например {@code toArrayList(value -> (int) value)}
+     *
+     * @param mapper преобразование значения в элемент
+     * @return новый {@link ArrayList} с результатами {@code mapper} в том же порядке
+     * @throws NullPointerException в случае, если {@code mapper} неинициализирован
+     */
+    public <T> ArrayList<T> toArrayList(LongFunction<? extends T> mapper) {
+        if (mapper == null) {
+            throw new NullPointerException("Cannot invoke method toArrayList(LongFunction mapper) because the mapper is null");
+        }
+        Object[] elements = new Object[size];
+        long[] buffer = new long[BLOCK_LENGTH];
+        for (int block = 0; block < widths.length; block++) {
+            int length = decode(block, buffer);
+            for (int i = 0; i < length; i++) {
+                elements[(block << BLOCK_SHIFT) + i] = mapper.apply(buffer[i]);
+            }
+        }
+        ArrayList<T> result = new ArrayList<>(Math.max(size, 1));
+        result.appendAll(elements, 0, size);
+        return result;
+    }
+
+    /**
+     * @return размер упакованных данных и индекса блоков в байтах, без заголовков объектов и массивов
+     */
+    public long sizeInBytes() {
+        return (long) (words.length - 1) * Long.BYTES
+                + (long) widths.length * (4 * Long.BYTES + Integer.BYTES + Byte.BYTES);
+    }
+
+    /**
+     * @return {@code String} в квадратных скобках со значениями, перечисленными через запятую
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        forEach(value -> result.append(result.length() > 1 ? ", " : "").append(value));
+        return result.append(']').toString();
+    }
+
+    /**
+     * @return хеш-код, совпадающий с {@link LongArrayList#hashCode()} для тех же значений
+     */
+    @Override
+    public int hashCode() {
+        int[] result = {1};
+        forEach(value -> result[0] = 31 * result[0] + Long.hashCode(value));
+        return result[0];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof PackedLongList other) || other.size != size)
+            return false;
+        return Arrays.equals(firstValues, other.firstValues) && Arrays.equals(toArray(), other.toArray());
+    }
+
+    /**
+     * Декодирует блок в {@code buffer}
+     *
+     * @return число значений блока
+     */
+    private int decode(int block, long[] buffer) {
+        int length = blockLength(block);
+        int width = widths[block];
+        long minDelta = minDeltas[block];
+        long value = firstValues[block];
+        buffer[0] = value;
+        if (width == 0) {
+            for (int i = 1; i < length; i++) {
+                buffer[i] = value += minDelta;
+            }
+            return length;
+        }
+        long mask = width == 64 ? -1L : (1L << width) - 1;
+        int word = wordOffsets[block];
+        long current = words[word];
+        int shift = 0;
+        for (int i = 1; i < length; i++) {
+            long packed = current >>> shift;
+            shift += width;
+            if (shift >= 64) {
+                // Старшие биты значения берутся из следующего слова, лишние биты отсекает маска
+                shift -= 64;
+                current = words[++word];
+                packed |= (current << 1) << (width - shift - 1);
+            }
+            buffer[i] = value += minDelta + (packed & mask);
+        }
+        return length;
+    }
+
+    private long unpack(long position, int width, long mask) {
+        int word = (int) (position >>> 6);
+        int shift = (int) (position & 63);
+        long packed = words[word] >>> shift;
+        if (shift + width > 64) {
+            packed |= words[word + 1] << (64 - shift);
+        }
+        return packed & mask;
+    }
+
+    private int blockLength(int block) {
+        return Math.min(BLOCK_LENGTH, size - (block << BLOCK_SHIFT));
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty");
+        }
+    }
+}
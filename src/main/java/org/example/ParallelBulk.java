@@ -0,0 +1,261 @@
+package org.example;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Параллельные массовые операции над диапазоном {@code [0, size)} массива {@code Object[]}, используемые {@link ArrayList}.
+ * Диапазон делится пополам, пока участок длиннее порога, и участки обрабатываются в {@link ForkJoinPool}.
+ * Задачи порождаются в пуле вызывающего потока, если он принадлежит {@link ForkJoinPool}, иначе в
+ * {@link ForkJoinPool#commonPool()}. Если диапазон не длиннее порога или пул допускает лишь один поток,
+ * операция выполняется в вызывающем потоке одним участком
+ */
+final class ParallelBulk {
+    /**
+     * Порог по умолчанию: участки не длиннее него обрабатываются последовательно
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 12;
+    /**
+     * Участки фильтрации выравниваются на слово битовой маски, чтобы разные задачи не писали в одно слово
+     */
+    private static final int WORD_BITS = 64;
+
+    private ParallelBulk() {
+    }
+
+    /**
+     * @return {@code threshold}, если работу стоит делить между потоками, иначе длину всего диапазона
+     */
+    private static int leafLength(int size, int threshold) {
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        int parallelism = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        return size <= threshold || parallelism <= 1 ? Math.max(size, 1) : threshold;
+    }
+
+    static <T> void forEach(Object[] array, int size, Consumer<? super T> action, int threshold) {
+        new ForEachTask<>(array, 0, size, action, leafLength(size, threshold)).invoke();
+    }
+
+    static <T> void replaceAll(Object[] array, int size, Function<? super T, ?> operator, int threshold) {
+        new MapTask<>(array, array, 0, size, operator, leafLength(size, threshold)).invoke();
+    }
+
+    /**
+     * Записывает результаты {@code mapper} в {@code target} по тем же индексам
+     */
+    static <T> void map(Object[] source, Object[] target, int size, Function<? super T, ?> mapper, int threshold) {
+        new MapTask<>(source, target, 0, size, mapper, leafLength(size, threshold)).invoke();
+    }
+
+    static <T, R> R reduce(Object[] array, int size, R identity, BiFunction<R, ? super T, R> accumulator,
+                           BinaryOperator<R> combiner, int threshold) {
+        return new ReduceTask<>(array, 0, size, identity, accumulator, combiner, leafLength(size, threshold)).invoke();
+    }
+
+    /**
+     * Фильтрует массив в два прохода: сначала участки проверяют свои элементы, запоминая совпадения в битовой
+     * маске и их число, затем по префиксным суммам числа совпадений каждый участок копирует свои элементы
+     * в массив точной длины. Предикат вызывается для каждого элемента ровно один раз
+     *
+     * @return новый массив длиной в число подходящих элементов
+     */
+    static <T> Object[] filter(Object[] array, int size, Predicate<? super T> filter, int threshold) {
+        int leaf = leafLength(size, threshold);
+        // Округление в long: участок может совпадать со всем диапазоном длиной около Integer.MAX_VALUE
+        int chunk = (int) Math.min(((long) leaf + WORD_BITS - 1) / WORD_BITS * WORD_BITS, Integer.MAX_VALUE);
+        int chunks = (int) Math.max(1, ((long) size + chunk - 1) / chunk);
+        long[] matches = new long[(int) (((long) size + WORD_BITS - 1) / WORD_BITS)];
+        int[] offsets = new int[chunks + 1];
+        new FilterTask<>(array, size, null, matches, offsets, filter, chunk, 0, chunks).invoke();
+        for (int i = 0; i < chunks; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        Object[] result = new Object[offsets[chunks]];
+        new FilterTask<>(array, size, result, matches, offsets, filter, chunk, 0, chunks).invoke();
+        return result;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ForEachTask<T> extends RecursiveAction {
+        private final Object[] array;
+        private final int low;
+        private final int high;
+        private final Consumer<? super T> action;
+        private final int threshold;
+
+        ForEachTask(Object[] array, int low, int high, Consumer<? super T> action, int threshold) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.action = action;
+            this.threshold = threshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (high - low <= threshold) {
+                for (int i = low; i < high; i++) {
+                    action.accept((T) array[i]);
+                }
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new ForEachTask<>(array, low, middle, action, threshold),
+                    new ForEachTask<>(array, middle, high, action, threshold));
+        }
+    }
+
+    /**
+     * Записывает {@code mapper(source[i])} в {@code target[i]}; при {@code source == target} заменяет элементы на месте
+     */
+    @SuppressWarnings("serial")
+    private static final class MapTask<T> extends RecursiveAction {
+        private final Object[] source;
+        private final Object[] target;
+        private final int low;
+        private final int high;
+        private final Function<? super T, ?> mapper;
+        private final int threshold;
+
+        MapTask(Object[] source, Object[] target, int low, int high, Function<? super T, ?> mapper, int threshold) {
+            this.source = source;
+            this.target = target;
+            this.low = low;
+            this.high = high;
+            this.mapper = mapper;
+            this.threshold = threshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (high - low <= threshold) {
+                for (int i = low; i < high; i++) {
+                    target[i] = mapper.apply((T) source[i]);
+                }
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new MapTask<>(source, target, low, middle, mapper, threshold),
+                    new MapTask<>(source, target, middle, high, mapper, threshold));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ReduceTask<T, R> extends RecursiveTask<R> {
+        private final Object[] array;
+        private final int low;
+        private final int high;
+        private final R identity;
+        private final BiFunction<R, ? super T, R> accumulator;
+        private final BinaryOperator<R> combiner;
+        private final int threshold;
+
+        ReduceTask(Object[] array, int low, int high, R identity, BiFunction<R, ? super T, R> accumulator,
+                   BinaryOperator<R> combiner, int threshold) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.threshold = threshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected R compute() {
+            if (high - low <= threshold) {
+                R result = identity;
+                for (int i = low; i < high; i++) {
+                    result = accumulator.apply(result, (T) array[i]);
+                }
+                return result;
+            }
+            int middle = (low + high) >>> 1;
+            ReduceTask<T, R> left = new ReduceTask<>(array, low, middle, identity, accumulator, combiner, threshold);
+            left.fork();
+            R right = new ReduceTask<>(array, middle, high, identity, accumulator, combiner, threshold).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+
+    /**
+     * Обрабатывает участки {@code [lowChunk, highChunk)} длиной {@code chunk}. Без {@code result} проверяет элементы
+     * и записывает число совпадений участка в {@code offsets[chunk + 1]}, с {@code result} копирует совпадения,
+     * начиная с {@code offsets[chunk]}
+     */
+    @SuppressWarnings("serial")
+    private static final class FilterTask<T> extends RecursiveAction {
+        private final Object[] array;
+        private final int size;
+        private final Object[] result;
+        private final long[] matches;
+        private final int[] offsets;
+        private final Predicate<? super T> filter;
+        private final int chunk;
+        private final int lowChunk;
+        private final int highChunk;
+
+        FilterTask(Object[] array, int size, Object[] result, long[] matches, int[] offsets,
+                   Predicate<? super T> filter, int chunk, int lowChunk, int highChunk) {
+            this.array = array;
+            this.size = size;
+            this.result = result;
+            this.matches = matches;
+            this.offsets = offsets;
+            this.filter = filter;
+            this.chunk = chunk;
+            this.lowChunk = lowChunk;
+            this.highChunk = highChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (highChunk - lowChunk > 1) {
+                int middle = (lowChunk + highChunk) >>> 1;
+                invokeAll(new FilterTask<>(array, size, result, matches, offsets, filter, chunk, lowChunk, middle),
+                        new FilterTask<>(array, size, result, matches, offsets, filter, chunk, middle, highChunk));
+                return;
+            }
+            int low = lowChunk * chunk;
+            int high = (int) Math.min(size, (long) low + chunk);
+            if (result == null) {
+                offsets[lowChunk + 1] = test(low, high);
+            } else {
+                copy(low, high);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private int test(int low, int high) {
+            int count = 0;
+            for (int i = low; i < high; i++) {
+                if (filter.test((T) array[i])) {
+                    matches[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void copy(int low, int high) {
+            int position = offsets[lowChunk];
+            for (int word = low >>> 6; word < (high + WORD_BITS - 1) >>> 6; word++) {
+                long bits = matches[word];
+                while (bits != 0) {
+                    result[position++] = array[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+}
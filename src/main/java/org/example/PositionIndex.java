@@ -0,0 +1,115 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Хеш-индекс значение → отсортированные позиции для индексированного режима {@link ArrayList}.
+ * Поиск первой и последней позиции выполняется за ожидаемое O(1), вставка позиции в конец - за O(1),
+ * сдвиг хвоста списка обновляет только позиции сдвинутых элементов.
+ * <p>
+ * Элементы сравниваются через {@link Object#equals(Object)} и {@link Object#hashCode()},
+ * поэтому изменение хранимого элемента после добавления делает индекс некорректным
+ *
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ */
+final class PositionIndex {
+    private final HashMap<Object, Positions> positions;
+
+    /**
+     * Возрастающие позиции одного значения
+     */
+    private static final class Positions {
+        private int[] items = new int[1];
+        private int count = 0;
+
+        private void add(int position) {
+            int insertion = count == 0 || items[count - 1] < position ? count : -Arrays.binarySearch(items, 0, count, position) - 1;
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+            }
+            System.arraycopy(items, insertion, items, insertion + 1, count - insertion);
+            items[insertion] = position;
+            count++;
+        }
+
+        private void remove(int position) {
+            int found = search(position);
+            System.arraycopy(items, found + 1, items, found, count - found - 1);
+            count--;
+        }
+
+        private int search(int position) {
+            if (items[count - 1] == position) {
+                return count - 1;
+            }
+            int found = Arrays.binarySearch(items, 0, count, position);
+            if (found < 0) {
+                throw new IllegalStateException("Position " + position + " is missing from the index");
+            }
+            return found;
+        }
+    }
+
+    PositionIndex(Object[] array, int size) {
+        this.positions = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        rebuild(array, size);
+    }
+
+    /**
+     * Заново строит индекс по индексируемой части массива за один проход
+     */
+    void rebuild(Object[] array, int size) {
+        positions.clear();
+        for (int i = 0; i < size; i++) {
+            add(array[i], i);
+        }
+    }
+
+    void add(Object element, int position) {
+        positions.computeIfAbsent(element, key -> new Positions()).add(position);
+    }
+
+    void remove(Object element, int position) {
+        Positions found = positions.get(element);
+        found.remove(position);
+        if (found.count == 0) {
+            positions.remove(element);
+        }
+    }
+
+    /**
+     * Сдвигает на {@code delta} позиции элементов {@code array[from, to)}, вызывается до сдвига самого массива.
+     * Позиции обходятся навстречу сдвигу, поэтому массивы позиций остаются отсортированными
+     */
+    void shift(Object[] array, int from, int to, int delta) {
+        if (delta > 0) {
+            for (int i = to - 1; i >= from; i--) {
+                move(array[i], i, i + delta);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                move(array[i], i, i + delta);
+            }
+        }
+    }
+
+    private void move(Object element, int from, int to) {
+        Positions found = positions.get(element);
+        found.items[found.search(from)] = to;
+    }
+
+    int first(Object element) {
+        Positions found = positions.get(element);
+        return found == null ? -1 : found.items[0];
+    }
+
+    int last(Object element) {
+        Positions found = positions.get(element);
+        return found == null ? -1 : found.items[found.count - 1];
+    }
+
+    void clear() {
+        positions.clear();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example;
+
+/**
+ * Циклы поиска и агрегации по массивам примитивов, общие для {@link IntArrayList}, {@link LongArrayList}
+ * и {@link DoubleArrayList}. Каждый метод обрабатывает префикс {@code [0, size)} переданного массива.
+ * <p>
+ * Реализация выбирается один раз при загрузке интерфейса: если сборка включает {@code VectorKernels}
+ * (профиль {@code vector}) и JVM запущена с {@code --add-modules jdk.incubator.vector}, используются
+ * SIMD-циклы на Vector API, иначе {@link ScalarKernels}
+ *
+ * @see ScalarKernels
+ */
+interface PrimitiveKernels {
+    /**
+     * Реализация, используемая списками
+     */
+    PrimitiveKernels ACTIVE = load();
+
+    int indexOf(int[] array, int size, int value);
+
+    int indexOf(long[] array, int size, long value);
+
+    /**
+     * Значения сравниваются как в {@link Double#equals(Object)}
+     */
+    int indexOf(double[] array, int size, double value);
+
+    long sum(int[] array, int size);
+
+    long sum(long[] array, int size);
+
+    double sum(double[] array, int size);
+
+    /**
+     * Минимум и максимум требуют {@code size > 0}
+     */
+    int min(int[] array, int size);
+
+    long min(long[] array, int size);
+
+    double min(double[] array, int size);
+
+    int max(int[] array, int size);
+
+    long max(long[] array, int size);
+
+    double max(double[] array, int size);
+
+    /**
+     * @return количество элементов из отрезка {@code [from, to]}
+     */
+    int countBetween(int[] array, int size, int from, int to);
+
+    int countBetween(long[] array, int size, long from, long to);
+
+    int countBetween(double[] array, int size, double from, double to);
+
+    /**
+     * Копирует элементы из отрезка {@code [from, to]} в начало {@code target} с сохранением порядка
+     *
+     * @param target массив длины не меньше {@code size}. Элементы за возвращаемой длиной могут быть перезаписаны
+     * @return количество скопированных элементов
+     */
+    int filterBetween(int[] array, int size, int from, int to, int[] target);
+
+    int filterBetween(long[] array, int size, long from, long to, long[] target);
+
+    int filterBetween(double[] array, int size, double from, double to, double[] target);
+
+    private static PrimitiveKernels load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                Object vector = Class.forName("org.example.VectorKernels").getDeclaredField("INSTANCE").get(null);
+                if (vector != null) {
+                    return (PrimitiveKernels) vector;
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // сборка без профиля vector
+            }
+        }
+        return ScalarKernels.INSTANCE;
+    }
+}
@@ -0,0 +1,229 @@
+package org.example;
+
+/**
+ * Поэлементная реализация {@link PrimitiveKernels}. Используется, когда Vector API недоступен,
+ * и для хвостов массивов, не кратных ширине вектора
+ */
+final class ScalarKernels implements PrimitiveKernels {
+    static final ScalarKernels INSTANCE = new ScalarKernels();
+
+    private ScalarKernels() {
+    }
+
+    @Override
+    public int indexOf(int[] array, int size, int value) {
+        return indexOf(array, 0, size, value);
+    }
+
+    static int indexOf(int[] array, int from, int size, int value) {
+        for (int i = from; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] array, int size, long value) {
+        return indexOf(array, 0, size, value);
+    }
+
+    static int indexOf(long[] array, int from, int size, long value) {
+        for (int i = from; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(double[] array, int size, double value) {
+        return indexOf(array, 0, size, value);
+    }
+
+    static int indexOf(double[] array, int from, int size, double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int i = from; i < size; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public long sum(int[] array, int size) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] array, int size) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum(double[] array, int size) {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] array, int size) {
+        int min = array[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long min(long[] array, int size) {
+        long min = array[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double min(double[] array, int size) {
+        double min = array[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] array, int size) {
+        int max = array[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long max(long[] array, int size) {
+        long max = array[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public double max(double[] array, int size) {
+        double max = array[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countBetween(int[] array, int size, int from, int to) {
+        return countBetween(array, 0, size, from, to);
+    }
+
+    static int countBetween(int[] array, int start, int size, int from, int to) {
+        int count = 0;
+        for (int i = start; i < size; i++) {
+            int element = array[i];
+            if (element >= from && element <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int countBetween(long[] array, int size, long from, long to) {
+        return countBetween(array, 0, size, from, to);
+    }
+
+    static int countBetween(long[] array, int start, int size, long from, long to) {
+        int count = 0;
+        for (int i = start; i < size; i++) {
+            long element = array[i];
+            if (element >= from && element <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int countBetween(double[] array, int size, double from, double to) {
+        return countBetween(array, 0, size, from, to);
+    }
+
+    static int countBetween(double[] array, int start, int size, double from, double to) {
+        int count = 0;
+        for (int i = start; i < size; i++) {
+            double element = array[i];
+            if (element >= from && element <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int filterBetween(int[] array, int size, int from, int to, int[] target) {
+        return filterBetween(array, 0, size, from, to, target, 0);
+    }
+
+    static int filterBetween(int[] array, int start, int size, int from, int to, int[] target, int count) {
+        for (int i = start; i < size; i++) {
+            int element = array[i];
+            if (element >= from && element <= to) {
+                target[count++] = element;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int filterBetween(long[] array, int size, long from, long to, long[] target) {
+        return filterBetween(array, 0, size, from, to, target, 0);
+    }
+
+    static int filterBetween(long[] array, int start, int size, long from, long to, long[] target, int count) {
+        for (int i = start; i < size; i++) {
+            long element = array[i];
+            if (element >= from && element <= to) {
+                target[count++] = element;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int filterBetween(double[] array, int size, double from, double to, double[] target) {
+        return filterBetween(array, 0, size, from, to, target, 0);
+    }
+
+    static int filterBetween(double[] array, int start, int size, double from, double to, double[] target, int count) {
+        for (int i = start; i < size; i++) {
+            double element = array[i];
+            if (element >= from && element <= to) {
+                target[count++] = element;
+            }
+        }
+        return count;
+    }
+}
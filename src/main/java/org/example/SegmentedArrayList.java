@@ -0,0 +1,353 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Динамический массив из блоков фиксированного размера {@value #CHUNK_SIZE} элементов
+ * и каталога ссылок на них (не потокобезопасен).
+ * <ul>
+ *     <li>Рост выделяет один новый блок и никогда не копирует элементы, поэтому {@code add} не дает
+ *     многомиллисекундных пауз и гигантских (humongous) выделений G1 на больших длинах. При заполнении
+ *     каталога копируются только ссылки на блоки - в {@value #CHUNK_SIZE} раз меньше данных, чем при росте
+ *     непрерывного массива</li>
+ *     <li>{@code get} и {@code set} вычисляют блок и смещение сдвигом и маской без ветвлений</li>
+ *     <li>{@link SegmentedArrayList#snapshot()} выполняется за O(1): снимок разделяет каталог и блоки
+ *     с исходным списком, а запись копирует только каталог и затронутый блок</li>
+ * </ul>
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see ArrayList
+ */
+public class SegmentedArrayList<T> implements Iterable<T> {
+    static final int CHUNK_SHIFT = 12;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_DIRECTORY_LENGTH = 8;
+    private static final int MAX_SIZE = GrowthPolicy.MAX_CAPACITY & ~CHUNK_MASK;
+    /**
+     * Источник уникальных эпох владения блоками
+     */
+    private static final AtomicLong EPOCHS = new AtomicLong();
+
+    private Object[][] directory = new Object[INITIAL_DIRECTORY_LENGTH][];
+    /**
+     * @param stamps эпоха списка, которому принадлежит блок; блок с чужой эпохой копируется перед записью
+     */
+    private long[] stamps = new long[INITIAL_DIRECTORY_LENGTH];
+    /**
+     * @param directoryShared {@code true}, если каталог и {@link SegmentedArrayList#stamps} разделяются со снимком
+     */
+    private boolean directoryShared = false;
+    private long epoch = EPOCHS.incrementAndGet();
+    private int chunkCount = 0;
+    private int size = 0;
+    private int modCount = 0;
+
+    /**
+     * Добавляет элемент в конец списка. Если последний блок заполнен, выделяется новый блок,
+     * существующие элементы не копируются
+     *
+     * @param element добавляемый элемент
+     * @throws IllegalStateException в случае если длина списка достигла предела
+     */
+    public void add(T element) {
+        if (size == chunkCount << CHUNK_SHIFT) {
+            addChunk();
+        }
+        writableChunk(size >>> CHUNK_SHIFT)[size & CHUNK_MASK] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Добавляет элемент на указанный {@code index}, сдвигая последующие элементы вправо
+     * поблочным копированием с переносом последнего элемента каждого блока в следующий
+     *
+     * @param index   место вставки элемента
+     * @param element добавляемый элемент
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     */
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (size == chunkCount << CHUNK_SHIFT) {
+            addChunk();
+        }
+        int first = index >>> CHUNK_SHIFT;
+        int last = size >>> CHUNK_SHIFT;
+        for (int c = last; c > first; c--) {
+            Object[] chunk = writableChunk(c);
+            System.arraycopy(chunk, 0, chunk, 1, c == last ? size & CHUNK_MASK : CHUNK_MASK);
+            chunk[0] = directory[c - 1][CHUNK_MASK];
+        }
+        Object[] chunk = writableChunk(first);
+        int from = index & CHUNK_MASK;
+        System.arraycopy(chunk, from, chunk, from + 1, (first == last ? size & CHUNK_MASK : CHUNK_MASK) - from);
+        chunk[from] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * @param index индекс требуемого элемента
+     * @return элемент на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) directory[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    /**
+     * Изменяет значение элемента на указанной позиции
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element значение элемента, на который требуется заменить
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public void set(int index, T element) {
+        checkIndex(index);
+        writableChunk(index >>> CHUNK_SHIFT)[index & CHUNK_MASK] = element;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая последующие элементы влево поблочно
+     *
+     * @param index индекс элемента для удаления
+     * @return значение удаленного элемента
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index);
+        int first = index >>> CHUNK_SHIFT;
+        int lastIndex = size - 1;
+        int last = lastIndex >>> CHUNK_SHIFT;
+        Object[] chunk = writableChunk(first);
+        int from = index & CHUNK_MASK;
+        T deletedElement = (T) chunk[from];
+        System.arraycopy(chunk, from + 1, chunk, from, (first == last ? lastIndex & CHUNK_MASK : CHUNK_MASK) - from);
+        for (int c = first + 1; c <= last; c++) {
+            Object[] next = writableChunk(c);
+            chunk[CHUNK_MASK] = next[0];
+            System.arraycopy(next, 1, next, 0, c == last ? lastIndex & CHUNK_MASK : CHUNK_MASK);
+            chunk = next;
+        }
+        chunk[lastIndex & CHUNK_MASK] = null;
+        size--;
+        modCount++;
+        return deletedElement;
+    }
+
+    /**
+     * @param element элемент, индекс которого требуется получить
+     * @return индекс первого равного элемента или {@code -1}
+     */
+    public int indexOf(T element) {
+        for (int c = 0, base = 0; base < size; c++, base += CHUNK_SIZE) {
+            Object[] chunk = directory[c];
+            int length = Math.min(CHUNK_SIZE, size - base);
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(element, chunk[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param element искомый элемент
+     * @return {@code true}, если элемент содержится в списке
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Сортирует элементы интроспективной сортировкой (см. {@link Sorter#introSort}) во временном
+     * непрерывном массиве и раскладывает результат обратно по блокам
+     *
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     */
+    public void sort(Comparator<? super T> comparator) {
+        Object[] elements = toArray();
+        Sorter.introSort(elements, 0, size, comparator);
+        for (int c = 0, base = 0; base < size; c++, base += CHUNK_SIZE) {
+            System.arraycopy(elements, base, writableChunk(c), 0, Math.min(CHUNK_SIZE, size - base));
+        }
+        modCount++;
+    }
+
+    /**
+     * Возвращает снимок списка за O(1). Снимок и исходный список разделяют каталог и блоки; первая запись
+     * в любой из них копирует каталог, а каждая запись в еще не скопированный блок - только этот блок
+     *
+     * @return новый независимый {@link SegmentedArrayList} с теми же элементами
+     */
+    public SegmentedArrayList<T> snapshot() {
+        SegmentedArrayList<T> copy = new SegmentedArrayList<>();
+        copy.directory = directory;
+        copy.stamps = stamps;
+        copy.chunkCount = chunkCount;
+        copy.size = size;
+        copy.directoryShared = true;
+        directoryShared = true;
+        epoch = EPOCHS.incrementAndGet();
+        return copy;
+    }
+
+    /**
+     * @return значение длины списка
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * @return текущая вместимость, кратная {@value #CHUNK_SIZE}
+     */
+    public int capacity() {
+        return chunkCount << CHUNK_SHIFT;
+    }
+
+    /**
+     * Удаляет все элементы и освобождает блоки
+     */
+    public void clear() {
+        directory = new Object[INITIAL_DIRECTORY_LENGTH][];
+        stamps = new long[INITIAL_DIRECTORY_LENGTH];
+        directoryShared = false;
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @return массив {@code Object[]} с элементами списка
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int c = 0, base = 0; base < size; c++, base += CHUNK_SIZE) {
+            System.arraycopy(directory[c], 0, result, base, Math.min(CHUNK_SIZE, size - base));
+        }
+        return result;
+    }
+
+    /**
+     * @return итератор, выбрасывающий {@link ConcurrentModificationException} при структурном изменении списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                int index = cursor++;
+                return (T) directory[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+            }
+        };
+    }
+
+    /**
+     * Обходит элементы поблочно без выделения памяти
+     *
+     * @param action действие над каждым элементом
+     * @throws ConcurrentModificationException в случае если список структурно изменен во время обхода
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        Object[][] chunks = directory;
+        int length = size;
+        for (int c = 0, base = 0; base < length && modCount == expectedModCount; c++, base += CHUNK_SIZE) {
+            Object[] chunk = chunks[c];
+            int chunkLength = Math.min(CHUNK_SIZE, length - base);
+            for (int i = 0; i < chunkLength; i++) {
+                action.accept((T) chunk[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * @return {@code String} в квадратных скобках со значениями элементов, перечисленных через запятую
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(directory[i >>> CHUNK_SHIFT][i & CHUNK_MASK]);
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * Возвращает блок, в который можно писать: при необходимости копирует разделяемый со снимком каталог
+     * и сам блок, если он принадлежит другой эпохе
+     */
+    private Object[] writableChunk(int chunkIndex) {
+        if (directoryShared) {
+            directory = directory.clone();
+            stamps = stamps.clone();
+            directoryShared = false;
+        }
+        Object[] chunk = directory[chunkIndex];
+        if (stamps[chunkIndex] != epoch) {
+            chunk = chunk.clone();
+            directory[chunkIndex] = chunk;
+            stamps[chunkIndex] = epoch;
+        }
+        return chunk;
+    }
+
+    private void addChunk() {
+        if (size >= MAX_SIZE) {
+            throw new IllegalStateException("The list has reached its maximum length " + MAX_SIZE);
+        }
+        if (directoryShared || chunkCount == directory.length) {
+            int length = chunkCount == directory.length ? directory.length * 2 : directory.length;
+            directory = Arrays.copyOf(directory, length);
+            stamps = Arrays.copyOf(stamps, length);
+            directoryShared = false;
+        }
+        directory[chunkCount] = new Object[CHUNK_SIZE];
+        stamps[chunkCount] = epoch;
+        chunkCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
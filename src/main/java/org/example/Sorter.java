@@ -0,0 +1,430 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Алгоритмы сортировки диапазона {@code [from, to)} массива {@code Object[]}, используемые {@link ArrayList}
+ * <ul>
+ *     <li>{@link #introSort} - неустойчивая интроспективная сортировка: быстрая сортировка с трехчастным
+ *     разбиением и выбором опорного элемента медианой трех (или девяти) элементов, сортировка вставками
+ *     на малых диапазонах и переход на пирамидальную сортировку при превышении допустимой глубины</li>
+ *     <li>{@link #mergeSort} - устойчивая сортировка слиянием естественных серий (в духе TimSort)</li>
+ *     <li>{@link #parallelSort} - параллельная сортировка слиянием в {@link ForkJoinPool}: участки не длиннее
+ *     порога сортируются {@link #introSort}, затем сливаются параллельно</li>
+ * </ul>
+ * Все три сортировки работают за O(n log n) в худшем случае, а глубина рекурсии не превышает O(log n)
+ */
+final class Sorter {
+    /**
+     * Диапазоны не длиннее этого значения сортируются вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+    /**
+     * Начиная с этой длины диапазона опорный элемент выбирается медианой девяти элементов (ninther Тьюки)
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+    /**
+     * Минимальная длина серии при сортировке слиянием, короткие серии дополняются сортировкой вставками
+     */
+    private static final int MIN_RUN = 32;
+    /**
+     * Порог параллельной сортировки по умолчанию: участки не длиннее него сортируются и сливаются последовательно
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private Sorter() {
+    }
+
+    /**
+     * Неустойчивая интроспективная сортировка диапазона {@code [from, to)}
+     *
+     * @param array      сортируемый массив
+     * @param from       начало диапазона включительно
+     * @param to         конец диапазона не включительно
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     */
+    static <T> void introSort(Object[] array, int from, int to, Comparator<? super T> comparator) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(to - from, 1)));
+        introSort(array, from, to, depthLimit, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void introSort(Object[] array, int from, int to, int depthLimit, Comparator<? super T> comparator) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(array, from, to, comparator);
+                return;
+            }
+            swap(array, from, pivotIndex(array, from, to, comparator));
+            T pivot = (T) array[from];
+            int lt = from;
+            int i = from + 1;
+            int gt = to - 1;
+            while (i <= gt) {
+                int cmp = comparator.compare((T) array[i], pivot);
+                if (cmp < 0) {
+                    swap(array, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            // [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot.
+            // Рекурсия уходит в меньшую часть, большая обрабатывается в цикле
+            if (lt - from < to - gt - 1) {
+                introSort(array, from, lt, depthLimit, comparator);
+                from = gt + 1;
+            } else {
+                introSort(array, gt + 1, to, depthLimit, comparator);
+                to = lt;
+            }
+        }
+        insertionSort(array, from, to, comparator);
+    }
+
+    private static <T> int pivotIndex(Object[] array, int from, int to, Comparator<? super T> comparator) {
+        int length = to - from;
+        int middle = from + (length >>> 1);
+        int last = to - 1;
+        if (length > NINTHER_THRESHOLD) {
+            int step = length >>> 3;
+            int first = medianOfThree(array, from, from + step, from + 2 * step, comparator);
+            int second = medianOfThree(array, middle - step, middle, middle + step, comparator);
+            int third = medianOfThree(array, last - 2 * step, last - step, last, comparator);
+            return medianOfThree(array, first, second, third, comparator);
+        }
+        return medianOfThree(array, from, middle, last, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int medianOfThree(Object[] array, int a, int b, int c, Comparator<? super T> comparator) {
+        T x = (T) array[a];
+        T y = (T) array[b];
+        T z = (T) array[c];
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return b;
+            }
+            return comparator.compare(x, z) < 0 ? c : a;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return a;
+        }
+        return comparator.compare(y, z) < 0 ? c : b;
+    }
+
+    /**
+     * Пирамидальная сортировка диапазона {@code [from, to)}, гарантирующая O(n log n) без рекурсии
+     */
+    static <T> void heapSort(Object[] array, int from, int to, Comparator<? super T> comparator) {
+        int length = to - from;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end, comparator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void siftDown(Object[] array, int base, int index, int length, Comparator<? super T> comparator) {
+        T element = (T) array[base + index];
+        int half = length >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < length && comparator.compare((T) array[base + child], (T) array[base + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(element, (T) array[base + child]) >= 0) {
+                break;
+            }
+            array[base + index] = array[base + child];
+            index = child;
+        }
+        array[base + index] = element;
+    }
+
+    /**
+     * Устойчивая сортировка вставками диапазона {@code [from, to)}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void insertionSort(Object[] array, int from, int to, Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T element = (T) array[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare((T) array[j], element) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = element;
+        }
+    }
+
+    /**
+     * Устойчивая сортировка диапазона {@code [from, to)} слиянием естественных серий.
+     * Уже упорядоченные и обратно упорядоченные данные сортируются за O(n)
+     *
+     * @param array      сортируемый массив
+     * @param from       начало диапазона включительно
+     * @param to         конец диапазона не включительно
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     */
+    static <T> void mergeSort(Object[] array, int from, int to, Comparator<? super T> comparator) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        int[] bounds = new int[length / MIN_RUN + 2];
+        int runCount = 0;
+        bounds[0] = from;
+        for (int low = from; low < to; ) {
+            int high = runEnd(array, low, to, comparator);
+            if (high - low < MIN_RUN) {
+                high = Math.min(to, low + MIN_RUN);
+                insertionSort(array, low, high, comparator);
+            }
+            bounds[++runCount] = high;
+            low = high;
+        }
+        Object[] buffer = null;
+        while (runCount > 1) {
+            int merged = 0;
+            for (int run = 0; run < runCount; run += 2) {
+                if (run + 1 < runCount) {
+                    if (buffer == null) {
+                        buffer = new Object[length];
+                    }
+                    merge(array, bounds[run], bounds[run + 1], bounds[run + 2], buffer, comparator);
+                }
+                bounds[merged++] = bounds[run];
+            }
+            bounds[merged] = bounds[runCount];
+            runCount = merged;
+        }
+    }
+
+    /**
+     * Находит конец серии, начинающейся с {@code from}; строго убывающая серия разворачивается
+     *
+     * @return индекс, следующий за последним элементом серии
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int runEnd(Object[] array, int from, int to, Comparator<? super T> comparator) {
+        int end = from + 1;
+        if (end == to) {
+            return end;
+        }
+        if (comparator.compare((T) array[end++], (T) array[from]) < 0) {
+            while (end < to && comparator.compare((T) array[end], (T) array[end - 1]) < 0) {
+                end++;
+            }
+            for (int i = from, j = end - 1; i < j; i++, j--) {
+                swap(array, i, j);
+            }
+        } else {
+            while (end < to && comparator.compare((T) array[end], (T) array[end - 1]) >= 0) {
+                end++;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Устойчиво сливает соседние упорядоченные диапазоны {@code [low, middle)} и {@code [middle, high)}
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void merge(Object[] array, int low, int middle, int high, Object[] buffer,
+                                  Comparator<? super T> comparator) {
+        if (comparator.compare((T) array[middle - 1], (T) array[middle]) <= 0) {
+            return;
+        }
+        int leftLength = middle - low;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+        int i = 0;
+        int j = middle;
+        int k = low;
+        while (i < leftLength && j < high) {
+            if (comparator.compare((T) array[j], (T) buffer[i]) < 0) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = buffer[i++];
+            }
+        }
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+    }
+
+    /**
+     * Неустойчивая параллельная сортировка диапазона {@code [from, to)}. Если диапазон не длиннее {@code threshold}
+     * или пул допускает лишь один поток, сортировка выполняется последовательно {@link #introSort}.
+     * Задачи порождаются в пуле вызывающего потока, если он принадлежит {@link ForkJoinPool},
+     * иначе в {@link ForkJoinPool#commonPool()}
+     *
+     * @param array      сортируемый массив
+     * @param from       начало диапазона включительно
+     * @param to         конец диапазона не включительно
+     * @param comparator экземпляр функционального интерфейса {@link Comparator}
+     * @param threshold  длина участка, ниже которой работа не делится между потоками,
+     *                   значения меньше {@value #INSERTION_SORT_THRESHOLD} округляются до него
+     */
+    static <T> void parallelSort(Object[] array, int from, int to, Comparator<? super T> comparator, int threshold) {
+        threshold = Math.max(threshold, INSERTION_SORT_THRESHOLD);
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        int parallelism = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        if (to - from <= threshold || parallelism <= 1) {
+            introSort(array, from, to, comparator);
+            return;
+        }
+        new SortTask<>(array, new Object[to], from, to, comparator, threshold).invoke();
+    }
+
+    /**
+     * Сортирует диапазон {@code [low, high)} массива {@code array}, используя {@code buffer} с теми же индексами
+     * как рабочую область: четверти сортируются параллельно, попарно сливаются в {@code buffer},
+     * а половины сливаются обратно в {@code array}
+     */
+    @SuppressWarnings("serial")
+    private static final class SortTask<T> extends RecursiveAction {
+        private final Object[] array;
+        private final Object[] buffer;
+        private final int low;
+        private final int high;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        SortTask(Object[] array, Object[] buffer, int low, int high, Comparator<? super T> comparator, int threshold) {
+            this.array = array;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length = high - low;
+            if (length <= threshold) {
+                introSort(array, low, high, comparator);
+                return;
+            }
+            int quarter = length >>> 2;
+            int first = low + quarter;
+            int middle = first + quarter;
+            int third = middle + quarter;
+            invokeAll(new SortTask<>(array, buffer, low, first, comparator, threshold),
+                    new SortTask<>(array, buffer, first, middle, comparator, threshold),
+                    new SortTask<>(array, buffer, middle, third, comparator, threshold),
+                    new SortTask<>(array, buffer, third, high, comparator, threshold));
+            invokeAll(new MergeTask<>(array, buffer, low, first, first, middle, low, comparator, threshold),
+                    new MergeTask<>(array, buffer, middle, third, third, high, middle, comparator, threshold));
+            new MergeTask<>(buffer, array, low, middle, middle, high, low, comparator, threshold).compute();
+        }
+    }
+
+    /**
+     * Сливает упорядоченные диапазоны {@code source[leftLow, leftHigh)} и {@code source[rightLow, rightHigh)}
+     * в {@code target}, начиная с {@code targetLow}. Больший диапазон делится пополам, а точка деления меньшего
+     * находится двоичным поиском, после чего половины сливаются параллельно
+     */
+    @SuppressWarnings("serial")
+    private static final class MergeTask<T> extends RecursiveAction {
+        private final Object[] source;
+        private final Object[] target;
+        private final int leftLow;
+        private final int leftHigh;
+        private final int rightLow;
+        private final int rightHigh;
+        private final int targetLow;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        MergeTask(Object[] source, Object[] target, int leftLow, int leftHigh, int rightLow, int rightHigh,
+                  int targetLow, Comparator<? super T> comparator, int threshold) {
+            this.source = source;
+            this.target = target;
+            this.leftLow = leftLow;
+            this.leftHigh = leftHigh;
+            this.rightLow = rightLow;
+            this.rightHigh = rightHigh;
+            this.targetLow = targetLow;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            int leftLength = leftHigh - leftLow;
+            int rightLength = rightHigh - rightLow;
+            if (leftLength + rightLength <= threshold) {
+                mergeInto(source, target, leftLow, leftHigh, rightLow, rightHigh, targetLow, comparator);
+                return;
+            }
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = leftLow + (leftLength >>> 1);
+                T pivot = (T) source[leftSplit];
+                int lowBound = rightLow;
+                int highBound = rightHigh;
+                while (lowBound < highBound) {
+                    int probe = (lowBound + highBound) >>> 1;
+                    if (comparator.compare((T) source[probe], pivot) < 0) {
+                        lowBound = probe + 1;
+                    } else {
+                        highBound = probe;
+                    }
+                }
+                rightSplit = lowBound;
+            } else {
+                rightSplit = rightLow + (rightLength >>> 1);
+                T pivot = (T) source[rightSplit];
+                int lowBound = leftLow;
+                int highBound = leftHigh;
+                while (lowBound < highBound) {
+                    int probe = (lowBound + highBound) >>> 1;
+                    if (comparator.compare((T) source[probe], pivot) <= 0) {
+                        lowBound = probe + 1;
+                    } else {
+                        highBound = probe;
+                    }
+                }
+                leftSplit = lowBound;
+            }
+            int targetSplit = targetLow + (leftSplit - leftLow) + (rightSplit - rightLow);
+            invokeAll(new MergeTask<>(source, target, leftLow, leftSplit, rightLow, rightSplit, targetLow,
+                            comparator, threshold),
+                    new MergeTask<>(source, target, leftSplit, leftHigh, rightSplit, rightHigh, targetSplit,
+                            comparator, threshold));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void mergeInto(Object[] source, Object[] target, int leftLow, int leftHigh,
+                                      int rightLow, int rightHigh, int targetLow, Comparator<? super T> comparator) {
+        int i = leftLow;
+        int j = rightLow;
+        int k = targetLow;
+        while (i < leftHigh && j < rightHigh) {
+            if (comparator.compare((T) source[j], (T) source[i]) < 0) {
+                target[k++] = source[j++];
+            } else {
+                target[k++] = source[i++];
+            }
+        }
+        System.arraycopy(source, i, target, k, leftHigh - i);
+        k += leftHigh - i;
+        System.arraycopy(source, j, target, k, rightHigh - j);
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object transitElement = array[i];
+        array[i] = array[j];
+        array[j] = transitElement;
+    }
+}
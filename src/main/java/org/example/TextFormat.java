@@ -0,0 +1,171 @@
+package org.example;
+
+import java.util.function.Function;
+
+/**
+ * Текстовый формат потоковой выгрузки списка (см. {@link ArrayList#exportTo(Appendable, TextFormat)}).
+ * Выгрузка состоит из {@link TextFormat#prefix()}, элементов, разделенных {@link TextFormat#separator()},
+ * и {@link TextFormat#suffix()}. Элемент дописывается в буфер участка методом
+ * {@link TextFormat#append(Object, StringBuilder)}, поэтому формат не создает строку на каждый элемент.
+ * <p>
+ * Форматы не хранят состояния, так что один экземпляр можно использовать из нескольких потоков
+ *
+ * @param <T> тип выгружаемых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ */
+public interface TextFormat<T> {
+    /**
+     * Массив JSON: числа и логические значения записываются как есть, {@code null} - как {@code null},
+     * остальные элементы, а также {@code NaN} и бесконечности - строками из {@link String#valueOf(Object)}
+     */
+    TextFormat<Object> JSON = new TextFormat<>() {
+        @Override
+        public String prefix() {
+            return "[";
+        }
+
+        @Override
+        public String separator() {
+            return ",";
+        }
+
+        @Override
+        public String suffix() {
+            return "]";
+        }
+
+        @Override
+        public void append(Object element, StringBuilder target) {
+            if (element == null || element instanceof Boolean
+                    || element instanceof Integer || element instanceof Long
+                    || element instanceof Short || element instanceof Byte) {
+                target.append(element);
+            } else if ((element instanceof Double || element instanceof Float)
+                    && Double.isFinite(((Number) element).doubleValue())) {
+                target.append(element);
+            } else {
+                appendJsonString(String.valueOf(element), target);
+            }
+        }
+    };
+
+    /**
+     * CSV из одного столбца по RFC 4180: по записи на строку, {@code null} - пустое поле
+     */
+    TextFormat<Object> CSV = csv(element -> new Object[]{element});
+
+    /**
+     * @return текст перед первым элементом
+     */
+    default String prefix() {
+        return "";
+    }
+
+    /**
+     * @return текст между соседними элементами
+     */
+    default String separator() {
+        return "";
+    }
+
+    /**
+     * @return текст после последнего элемента
+     */
+    default String suffix() {
+        return "";
+    }
+
+    /**
+     * Дописывает представление элемента в буфер
+     *
+     * @param element элемент списка, может быть {@code null}
+     * @param target  буфер текущего участка выгрузки
+     */
+    void append(T element, StringBuilder target);
+
+    /**
+     * Создает формат CSV по RFC 4180: каждая запись завершается {@code CRLF}, поля с запятыми, кавычками
+     * или переводами строк заключаются в кавычки, {@code null} записывается пустым полем
+     *
+     * @param columns преобразование элемента в значения полей записи
+     * @param header  названия столбцов первой строки, без них строка заголовка не пишется
+     * @return формат CSV
+     */
+    static <T> TextFormat<T> csv(Function<? super T, Object[]> columns, String... header) {
+        StringBuilder headerLine = new StringBuilder();
+        if (header.length > 0) {
+            appendCsvRecord(header, headerLine);
+        }
+        String prefix = headerLine.toString();
+        return new TextFormat<>() {
+            @Override
+            public String prefix() {
+                return prefix;
+            }
+
+            @Override
+            public void append(T element, StringBuilder target) {
+                appendCsvRecord(columns.apply(element), target);
+            }
+        };
+    }
+
+    private static void appendCsvRecord(Object[] fields, StringBuilder target) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                target.append(',');
+            }
+            if (fields[i] == null) {
+                continue;
+            }
+            String field = fields[i].toString();
+            boolean quoted = false;
+            for (int j = 0; j < field.length() && !quoted; j++) {
+                char c = field.charAt(j);
+                quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quoted) {
+                target.append(field);
+                continue;
+            }
+            target.append('"');
+            for (int j = 0; j < field.length(); j++) {
+                char c = field.charAt(j);
+                if (c == '"') {
+                    target.append('"');
+                }
+                target.append(c);
+            }
+            target.append('"');
+        }
+        target.append("\r\n");
+    }
+
+    private static void appendJsonString(String value, StringBuilder target) {
+        target.append('"');
+        int plain = 0;
+        while (plain < value.length() && value.charAt(plain) >= 0x20
+                && value.charAt(plain) != '"' && value.charAt(plain) != '\\') {
+            plain++;
+        }
+        target.append(value, 0, plain);
+        for (int i = plain; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> target.append("\\\"");
+                case '\\' -> target.append("\\\\");
+                case '\n' -> target.append("\\n");
+                case '\r' -> target.append("\\r");
+                case '\t' -> target.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        target.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        target.append(c);
+                    }
+                }
+            }
+        }
+        target.append('"');
+    }
+}
@@ -0,0 +1,320 @@
+package org.example;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Динамический массив элементов фиксированной ширины, хранящий данные вне кучи в {@link MemorySegment}
+ * (не потокобезопасен). Индексы имеют тип {@code long}, поэтому длина не ограничена {@link Integer#MAX_VALUE},
+ * а данные не участвуют в сборке мусора.
+ * <p>
+ * Память освобождается явно через {@link OffHeapArrayList#close()}, либо, если список создан в переданной
+ * {@link Arena}, вместе с ней. Во втором случае сегменты, оставшиеся после увеличения вместимости,
+ * освобождаются только при закрытии арены, что учитывается в {@link OffHeapArrayList#allocatedBytes()}
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ * @see OffHeapLayout
+ */
+public class OffHeapArrayList<T> implements AutoCloseable {
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+
+    private final OffHeapLayout<T> layout;
+    private final long elementSize;
+    private final long elementAlignment;
+    /**
+     * @param externalArena арена, переданная при создании, или {@code null}, если список сам владеет памятью
+     */
+    private final Arena externalArena;
+    /**
+     * @param arena собственная арена текущего {@link OffHeapArrayList#segment}, {@code null} для внешней арены
+     */
+    private Arena arena;
+    private MemorySegment segment;
+    private long capacity;
+    /**
+     * @param size длина индексируемой части сегмента в элементах
+     */
+    private long size = 0;
+    private long allocatedBytes = 0;
+
+    /**
+     * Конструктор создает объект класса {@link OffHeapArrayList} с изначальной вместимостью 16 элементов
+     *
+     * @param layout описание хранимых элементов
+     */
+    public OffHeapArrayList(OffHeapLayout<T> layout) {
+        this(layout, 16);
+    }
+
+    /**
+     * Конструктор создает объект класса {@link OffHeapArrayList}, владеющий собственной памятью,
+     * которую требуется освободить вызовом {@link OffHeapArrayList#close()}
+     *
+     * @param layout          описание хранимых элементов
+     * @param initialCapacity изначальная вместимость в элементах
+     * @throws IllegalArgumentException в случае если {@code initialCapacity} меньше 1
+     */
+    public OffHeapArrayList(OffHeapLayout<T> layout, long initialCapacity) {
+        this(layout, initialCapacity, null);
+    }
+
+    /**
+     * Конструктор создает объект класса {@link OffHeapArrayList}, выделяющий память в переданной {@link Arena}.
+     * Память освобождается при закрытии арены
+     *
+     * @param layout          описание хранимых элементов
+     * @param initialCapacity изначальная вместимость в элементах
+     * @param arena           арена для выделения памяти или {@code null}, чтобы список владел памятью сам
+     * @throws IllegalArgumentException в случае если {@code initialCapacity} меньше 1
+     */
+    public OffHeapArrayList(OffHeapLayout<T> layout, long initialCapacity, Arena arena) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initial capacity have to be a positive number");
+        }
+        this.layout = layout;
+        this.elementSize = layout.byteSize();
+        this.elementAlignment = layout.byteAlignment();
+        this.externalArena = arena;
+        this.segment = allocate(initialCapacity);
+        this.capacity = initialCapacity;
+    }
+
+    /**
+     * Добавляет передаваемый элемент в конец списка, при нехватке вместимости увеличивая ее в 1,5 раза
+     *
+     * @param element добавляемый элемент
+     */
+    public void add(T element) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        layout.write(segment, size * elementSize, element);
+        size++;
+    }
+
+    /**
+     * Добавляет передаваемый элемент на указанный {@code index}, сдвигая последующие элементы вправо
+     *
+     * @param index   место вставки элемента
+     * @param element добавляемый элемент
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы {@code [0, length()]}
+     */
+    public void add(long index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        long offset = index * elementSize;
+        MemorySegment.copy(segment, offset, segment, offset + elementSize, (size - index) * elementSize);
+        layout.write(segment, offset, element);
+        size++;
+    }
+
+    /**
+     * @param index индекс требуемого элемента
+     * @return элемент на указанной позиции {@code index}
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public T get(long index) {
+        checkIndex(index);
+        return layout.read(segment, index * elementSize);
+    }
+
+    /**
+     * Изменяет значение элемента на указанной позиции
+     *
+     * @param index   индекс элемента, который требуется изменить
+     * @param element значение элемента, на который требуется заменить
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public void set(long index, T element) {
+        checkIndex(index);
+        layout.write(segment, index * elementSize, element);
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая последующие элементы влево
+     *
+     * @param index индекс элемента для удаления
+     * @return значение удаленного элемента
+     * @throws IndexOutOfBoundsException в случае если {@code index} выходит за пределы индексации
+     */
+    public T remove(long index) {
+        checkIndex(index);
+        long offset = index * elementSize;
+        T deletedElement = layout.read(segment, offset);
+        MemorySegment.copy(segment, offset + elementSize, segment, offset, (size - index - 1) * elementSize);
+        size--;
+        return deletedElement;
+    }
+
+    /**
+     * Сортирует элементы в естественном порядке {@link OffHeapLayout#compare} интроспективной сортировкой
+     * прямо в сегменте, без копирования элементов в кучу
+     */
+    public void sort() {
+        long depthLimit = 2L * (63 - Long.numberOfLeadingZeros(Math.max(size, 1)));
+        introSort(0, size, depthLimit);
+    }
+
+    /**
+     * @return значение длины индексируемой части списка
+     */
+    public long length() {
+        return size;
+    }
+
+    /**
+     * @return текущая вместимость в элементах
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return размер текущего сегмента в байтах
+     */
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    /**
+     * @return суммарный объем памяти в байтах, выделенной списком за время жизни. Для собственной памяти
+     * прежние сегменты уже освобождены, для внешней {@link Arena} они удерживаются до ее закрытия
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Обнуляет длину индексируемой части, вместимость сохраняется
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Освобождает собственную память списка. Для списка во внешней {@link Arena} ничего не делает,
+     * память освобождается вместе с ареной. Повторный вызов допустим
+     */
+    @Override
+    public void close() {
+        if (arena != null && arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    private MemorySegment allocate(long elements) {
+        long bytes = Math.multiplyExact(elements, elementSize);
+        allocatedBytes += bytes;
+        if (externalArena != null) {
+            return externalArena.allocate(bytes, elementAlignment);
+        }
+        arena = Arena.ofConfined();
+        return arena.allocate(bytes, elementAlignment);
+    }
+
+    private void grow(long minCapacity) {
+        long newCapacity = Math.max(minCapacity, (capacity * 3) / 2 + 1);
+        Arena oldArena = arena;
+        MemorySegment newSegment = allocate(newCapacity);
+        MemorySegment.copy(segment, 0, newSegment, 0, size * elementSize);
+        if (oldArena != null) {
+            oldArena.close();
+        }
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private void introSort(long from, long to, long depthLimit) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(from, to);
+                return;
+            }
+            swap(from, medianOfThree(from, from + ((to - from) >>> 1), to - 1));
+            // Опорный элемент всегда находится на позиции lt - первой из равных ему
+            long lt = from;
+            long i = from + 1;
+            long gt = to - 1;
+            while (i <= gt) {
+                int cmp = compare(i, lt);
+                if (cmp < 0) {
+                    swap(lt++, i++);
+                } else if (cmp > 0) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (lt - from < to - gt - 1) {
+                introSort(from, lt, depthLimit);
+                from = gt + 1;
+            } else {
+                introSort(gt + 1, to, depthLimit);
+                to = lt;
+            }
+        }
+        for (long i = from + 1; i < to; i++) {
+            for (long j = i; j > from && compare(j - 1, j) > 0; j--) {
+                swap(j - 1, j);
+            }
+        }
+    }
+
+    private long medianOfThree(long a, long b, long c) {
+        if (compare(a, b) < 0) {
+            if (compare(b, c) < 0) {
+                return b;
+            }
+            return compare(a, c) < 0 ? c : a;
+        }
+        if (compare(a, c) < 0) {
+            return a;
+        }
+        return compare(b, c) < 0 ? c : b;
+    }
+
+    private void heapSort(long from, long to) {
+        long length = to - from;
+        for (long i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(from, i, length);
+        }
+        for (long end = length - 1; end > 0; end--) {
+            swap(from, from + end);
+            siftDown(from, 0, end);
+        }
+    }
+
+    private void siftDown(long base, long index, long length) {
+        long half = length >>> 1;
+        while (index < half) {
+            long child = 2 * index + 1;
+            if (child + 1 < length && compare(base + child, base + child + 1) < 0) {
+                child++;
+            }
+            if (compare(base + index, base + child) >= 0) {
+                return;
+            }
+            swap(base + index, base + child);
+            index = child;
+        }
+    }
+
+    private int compare(long first, long second) {
+        return layout.compare(segment, first * elementSize, second * elementSize);
+    }
+
+    private void swap(long first, long second) {
+        layout.swap(segment, first * elementSize, second * elementSize);
+    }
+}
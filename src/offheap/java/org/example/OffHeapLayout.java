@@ -0,0 +1,151 @@
+package org.example;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Описание элемента фиксированной ширины, хранимого в {@link OffHeapArrayList}: как записать и прочитать его
+ * из {@link MemorySegment}, а также как сравнить и переставить два элемента без их материализации в куче
+ *
+ * @param <T> тип хранимых элементов
+ * @author <a href="https://github.com/Dimanittt">Dimanittt</a>
+ */
+public interface OffHeapLayout<T> {
+    /**
+     * Элементы {@code int}, 4 байта, сравниваются {@link Integer#compare(int, int)}
+     */
+    OffHeapLayout<Integer> INT = new OffHeapLayout<>() {
+        @Override
+        public long byteSize() {
+            return ValueLayout.JAVA_INT.byteSize();
+        }
+
+        @Override
+        public Integer read(MemorySegment segment, long offset) {
+            return segment.get(ValueLayout.JAVA_INT, offset);
+        }
+
+        @Override
+        public void write(MemorySegment segment, long offset, Integer element) {
+            segment.set(ValueLayout.JAVA_INT, offset, element);
+        }
+
+        @Override
+        public int compare(MemorySegment segment, long first, long second) {
+            return Integer.compare(segment.get(ValueLayout.JAVA_INT, first), segment.get(ValueLayout.JAVA_INT, second));
+        }
+
+        @Override
+        public void swap(MemorySegment segment, long first, long second) {
+            int transitElement = segment.get(ValueLayout.JAVA_INT, first);
+            segment.set(ValueLayout.JAVA_INT, first, segment.get(ValueLayout.JAVA_INT, second));
+            segment.set(ValueLayout.JAVA_INT, second, transitElement);
+        }
+    };
+
+    /**
+     * Элементы {@code long}, 8 байт, сравниваются {@link Long#compare(long, long)}
+     */
+    OffHeapLayout<Long> LONG = new OffHeapLayout<>() {
+        @Override
+        public long byteSize() {
+            return ValueLayout.JAVA_LONG.byteSize();
+        }
+
+        @Override
+        public Long read(MemorySegment segment, long offset) {
+            return segment.get(ValueLayout.JAVA_LONG, offset);
+        }
+
+        @Override
+        public void write(MemorySegment segment, long offset, Long element) {
+            segment.set(ValueLayout.JAVA_LONG, offset, element);
+        }
+
+        @Override
+        public int compare(MemorySegment segment, long first, long second) {
+            return Long.compare(segment.get(ValueLayout.JAVA_LONG, first), segment.get(ValueLayout.JAVA_LONG, second));
+        }
+
+        @Override
+        public void swap(MemorySegment segment, long first, long second) {
+            long transitElement = segment.get(ValueLayout.JAVA_LONG, first);
+            segment.set(ValueLayout.JAVA_LONG, first, segment.get(ValueLayout.JAVA_LONG, second));
+            segment.set(ValueLayout.JAVA_LONG, second, transitElement);
+        }
+    };
+
+    /**
+     * Элементы {@code double}, 8 байт, сравниваются {@link Double#compare(double, double)}
+     */
+    OffHeapLayout<Double> DOUBLE = new OffHeapLayout<>() {
+        @Override
+        public long byteSize() {
+            return ValueLayout.JAVA_DOUBLE.byteSize();
+        }
+
+        @Override
+        public Double read(MemorySegment segment, long offset) {
+            return segment.get(ValueLayout.JAVA_DOUBLE, offset);
+        }
+
+        @Override
+        public void write(MemorySegment segment, long offset, Double element) {
+            segment.set(ValueLayout.JAVA_DOUBLE, offset, element);
+        }
+
+        @Override
+        public int compare(MemorySegment segment, long first, long second) {
+            return Double.compare(segment.get(ValueLayout.JAVA_DOUBLE, first), segment.get(ValueLayout.JAVA_DOUBLE, second));
+        }
+
+        @Override
+        public void swap(MemorySegment segment, long first, long second) {
+            long transitElement = segment.get(ValueLayout.JAVA_LONG, first);
+            segment.set(ValueLayout.JAVA_LONG, first, segment.get(ValueLayout.JAVA_LONG, second));
+            segment.set(ValueLayout.JAVA_LONG, second, transitElement);
+        }
+    };
+
+    /**
+     * @return ширина элемента в байтах
+     */
+    long byteSize();
+
+    /**
+     * Выравнивание сегмента списка. По умолчанию наибольшая степень двойки, на которую делится
+     * {@link OffHeapLayout#byteSize()}: тогда каждый элемент, например запись из трех {@code int} шириной 12 байт,
+     * начинается по адресу, кратному этому значению
+     *
+     * @return выравнивание в байтах, степень двойки
+     */
+    default long byteAlignment() {
+        return Long.lowestOneBit(byteSize());
+    }
+
+    /**
+     * @param segment сегмент памяти
+     * @param offset  смещение элемента в байтах
+     * @return прочитанный элемент
+     */
+    T read(MemorySegment segment, long offset);
+
+    /**
+     * @param segment сегмент памяти
+     * @param offset  смещение элемента в байтах
+     * @param element записываемый элемент
+     */
+    void write(MemorySegment segment, long offset, T element);
+
+    /**
+     * Сравнивает элементы по смещениям {@code first} и {@code second} в естественном порядке типа
+     *
+     * @return отрицательное число, ноль или положительное число, как {@link java.util.Comparator#compare}
+     */
+    int compare(MemorySegment segment, long first, long second);
+
+    /**
+     * Переставляет элементы по смещениям {@code first} и {@code second}
+     */
+    void swap(MemorySegment segment, long first, long second);
+}
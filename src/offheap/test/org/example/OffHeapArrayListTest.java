@@ -0,0 +1,118 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapArrayListTest {
+
+    @Test
+    void addGetSetRemoveTest() {
+        try (OffHeapArrayList<Long> list = new OffHeapArrayList<>(OffHeapLayout.LONG, 2)) {
+            for (long i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            list.add(0, -1L);
+            list.set(50, 500L);
+            assertThat(list.length()).isEqualTo(101);
+            assertThat(list.get(0)).isEqualTo(-1L);
+            assertThat(list.get(50)).isEqualTo(500L);
+            assertThat(list.remove(0)).isEqualTo(-1L);
+            assertThat(list.get(0)).isEqualTo(0L);
+            assertThat(list.byteSize()).isEqualTo(list.capacity() * Long.BYTES);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 0L));
+        }
+    }
+
+    @Test
+    void sortTest() {
+        Random random = new Random(5);
+        try (OffHeapArrayList<Integer> list = new OffHeapArrayList<>(OffHeapLayout.INT)) {
+            for (int i = 0; i < 100_000; i++) {
+                list.add(random.nextInt(1_000));
+            }
+            list.sort();
+            for (long i = 1; i < list.length(); i++) {
+                assertTrue(list.get(i - 1) <= list.get(i));
+            }
+        }
+        try (OffHeapArrayList<Double> list = new OffHeapArrayList<>(OffHeapLayout.DOUBLE)) {
+            for (int i = 100_000; i > 0; i--) {
+                list.add(i + 0.5d);
+            }
+            list.sort();
+            assertThat(list.get(0)).isEqualTo(1.5d);
+            assertThat(list.get(99_999)).isEqualTo(100_000.5d);
+        }
+    }
+
+    @Test
+    void closeAndArenaTest() {
+        OffHeapArrayList<Integer> owned = new OffHeapArrayList<>(OffHeapLayout.INT);
+        owned.add(1);
+        owned.close();
+        owned.close();
+        assertThrows(IllegalStateException.class, () -> owned.get(0));
+        OffHeapArrayList<Integer> scoped;
+        try (Arena arena = Arena.ofConfined()) {
+            scoped = new OffHeapArrayList<>(OffHeapLayout.INT, 1, arena);
+            scoped.add(1);
+            scoped.add(2);
+            assertThat(scoped.get(1)).isEqualTo(2);
+            assertThat(scoped.allocatedBytes()).isGreaterThan(scoped.byteSize());
+        }
+        assertThrows(IllegalStateException.class, () -> scoped.get(0));
+    }
+
+    @Test
+    void recordLayoutTest() {
+        OffHeapLayout<int[]> triple = new OffHeapLayout<>() {
+            @Override
+            public long byteSize() {
+                return 3 * Integer.BYTES;
+            }
+
+            @Override
+            public int[] read(MemorySegment segment, long offset) {
+                return segment.asSlice(offset, byteSize()).toArray(ValueLayout.JAVA_INT);
+            }
+
+            @Override
+            public void write(MemorySegment segment, long offset, int[] element) {
+                MemorySegment.copy(element, 0, segment, ValueLayout.JAVA_INT, offset, 3);
+            }
+
+            @Override
+            public int compare(MemorySegment segment, long first, long second) {
+                return Integer.compare(segment.get(ValueLayout.JAVA_INT, first), segment.get(ValueLayout.JAVA_INT, second));
+            }
+
+            @Override
+            public void swap(MemorySegment segment, long first, long second) {
+                int[] transitElement = read(segment, first);
+                MemorySegment.copy(segment, second, segment, first, byteSize());
+                write(segment, second, transitElement);
+            }
+        };
+        assertThat(triple.byteAlignment()).isEqualTo(Integer.BYTES);
+        try (Arena arena = Arena.ofConfined();
+             OffHeapArrayList<int[]> owned = new OffHeapArrayList<>(triple, 3)) {
+            OffHeapArrayList<int[]> scoped = new OffHeapArrayList<>(triple, 3, arena);
+            for (int i = 10; i > 0; i--) {
+                owned.add(new int[]{i, -i, i * i});
+                scoped.add(new int[]{i, -i, i * i});
+            }
+            owned.sort();
+            assertThat(owned.get(0)).containsExactly(1, -1, 1);
+            assertThat(owned.get(9)).containsExactly(10, -10, 100);
+            assertThat(scoped.get(9)).containsExactly(1, -1, 1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example;
+
+import com.google.common.collect.testing.ListTestSuiteBuilder;
+import com.google.common.collect.testing.TestStringListGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.ListFeature;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestResult;
+import junit.framework.TestSuite;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверка {@link ArrayList} и его {@code subList} стандартным набором тестов контракта {@link List} из Guava testlib.
+ * Тесты JUnit 3 из набора запускаются как динамические тесты JUnit 5
+ */
+public class ArrayListCollectionSuiteTest {
+
+    @TestFactory
+    Stream<DynamicNode> listContractTest() {
+        return Stream.of(toDynamicNode(suite("ArrayList", elements -> {
+            ArrayList<String> list = new ArrayList<>(1);
+            Collections.addAll(list, elements);
+            return list;
+        })));
+    }
+
+    @TestFactory
+    Stream<DynamicNode> subListContractTest() {
+        return Stream.of(toDynamicNode(suite("ArrayList.subList", elements -> {
+            ArrayList<String> list = new ArrayList<>();
+            list.add("prefix");
+            Collections.addAll(list, elements);
+            list.add("suffix");
+            return list.subList(1, list.size() - 1);
+        })));
+    }
+
+    private static TestSuite suite(String name, Function<String[], List<String>> factory) {
+        return ListTestSuiteBuilder.using(new TestStringListGenerator() {
+                    @Override
+                    protected List<String> create(String[] elements) {
+                        return factory.apply(elements);
+                    }
+                })
+                .named(name)
+                .withFeatures(
+                        ListFeature.GENERAL_PURPOSE,
+                        CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
+                        CollectionFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+                        CollectionSize.ANY)
+                .createTestSuite();
+    }
+
+    private static DynamicNode toDynamicNode(Test test) {
+        if (test instanceof TestSuite suite) {
+            return DynamicContainer.dynamicContainer(suite.getName(),
+                    Collections.list(suite.tests()).stream().map(ArrayListCollectionSuiteTest::toDynamicNode));
+        }
+        TestCase testCase = (TestCase) test;
+        return DynamicTest.dynamicTest(testCase.getName(), () -> {
+            TestResult result = new TestResult();
+            testCase.run(result);
+            assertThat(Collections.list(result.errors())).isEmpty();
+            assertThat(Collections.list(result.failures())).isEmpty();
+        });
+    }
+}
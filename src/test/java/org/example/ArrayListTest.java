@@ -0,0 +1,790 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ArrayListTest {
+
+    @Test
+    void toStringTest(){
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        assertTrue("[]".equals(arrayList.toString()));
+        for (int i = 0; i < 5; i++) {
+            arrayList.add(i);
+        }
+        assertTrue("[0, 1, 2, 3, 4]".equals(arrayList.toString()));
+        arrayList.add(null);
+        assertTrue("[0, 1, 2, 3, 4, null]".equals(arrayList.toString()));
+    }
+
+    @Test
+    void toArrayTest() {
+        Integer[] verify = {1,2,3,4,5};
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            arrayList.add(i);
+        }
+        Object[] given = arrayList.toArray();
+        assertThat(given).isEqualTo(verify);
+    }
+
+    @ParameterizedTest(name = "{arguments} test")
+    @MethodSource("argumentsForSortMethodTest")
+    @DisplayName("ArrayList.sort(Comparator<T>)")
+    void sortTest(ArrayList given, ArrayList verify, Comparator comparator) {
+        given.sort(comparator);
+        assertThat(given).isEqualTo(verify);
+    }
+
+    Stream<Arguments> argumentsForSortMethodTest() {
+        Comparator<String> stringComparator = String::compareTo;
+        ArrayList<String> stringArrayList = new ArrayList<>();
+        ArrayList<String> varifyStringArrayList = new ArrayList<>();
+        Comparator<Integer> integerComparator = Integer::compareTo;
+        ArrayList<Integer> integerArrayList = new ArrayList<>();
+        ArrayList<Integer> varifyIntegerArrayList = new ArrayList<>();
+        Comparator<Double> doubleComparator = Double::compareTo;
+        ArrayList<Double> doubleArrayList = new ArrayList<>();
+        ArrayList<Double> varifyDoubleArrayList = new ArrayList<>();
+        for (int i = 9, j = 0; i >= 0; i--, j++) {
+            integerArrayList.add(i);
+            varifyIntegerArrayList.add(j);
+            doubleArrayList.add(i + 0.00001d);
+            varifyDoubleArrayList.add(j + 0.00001d);
+            stringArrayList.add(String.valueOf(i));
+            varifyStringArrayList.add(String.valueOf(j));
+        }
+        return Stream.of(
+                Arguments.of(integerArrayList, varifyIntegerArrayList, integerComparator),
+                Arguments.of(doubleArrayList, varifyDoubleArrayList, doubleComparator),
+                Arguments.of(stringArrayList, varifyStringArrayList, stringComparator)
+        );
+    }
+
+    @Test
+    void sortLargeOrderedDataTest() {
+        int size = 300_000;
+        Integer[] verify = new Integer[size];
+        ArrayList<Integer> sortedList = new ArrayList<>(size);
+        ArrayList<Integer> reversedList = new ArrayList<>(size);
+        ArrayList<Integer> duplicatesList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            verify[i] = i;
+            sortedList.add(i);
+            reversedList.add(size - 1 - i);
+            duplicatesList.add(i % 3);
+        }
+        sortedList.sort(Integer::compareTo);
+        reversedList.sort(Integer::compareTo);
+        duplicatesList.sort(Integer::compareTo);
+        assertThat(sortedList.toArray()).isEqualTo(verify);
+        assertThat(reversedList.toArray()).isEqualTo(verify);
+        assertThat(duplicatesList.get(0)).isEqualTo(0);
+        assertThat(duplicatesList.get(size / 3)).isEqualTo(1);
+        assertThat(duplicatesList.get(size - 1)).isEqualTo(2);
+    }
+
+    @Test
+    void stableSortTest() {
+        String[] strings = {"b1", "a1", "c1", "a2", "b2", "c2", "a3", "b3"};
+        ArrayList<String> arrayList = new ArrayList<>(strings);
+        arrayList.stableSort(Comparator.comparing(x -> x.charAt(0)));
+        assertThat(arrayList.toString()).isEqualTo("[a1, a2, a3, b1, b2, b3, c1, c2]");
+        ArrayList<Integer> reversedList = new ArrayList<>();
+        for (int i = 100_000; i > 0; i--) {
+            reversedList.add(i / 2);
+        }
+        reversedList.stableSort(Integer::compareTo);
+        for (int i = 1; i < reversedList.length(); i++) {
+            assertTrue(reversedList.get(i - 1) <= reversedList.get(i));
+        }
+    }
+
+    @Test
+    void parallelSortTest() {
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        Integer[] verify = new Integer[50_000];
+        for (int i = 0; i < verify.length; i++) {
+            arrayList.add(verify.length - 1 - i);
+            verify[i] = i;
+        }
+        arrayList.parallelSort(Integer::compareTo, 1_000);
+        assertThat(arrayList.toArray()).isEqualTo(verify);
+        assertThrows(IllegalArgumentException.class, () -> arrayList.parallelSort(Integer::compareTo, 0));
+    }
+
+    @Test
+    void addMethodsTest() {
+        ArrayList<Integer> arrayList = new ArrayList();
+        assertAll(
+                () -> {
+                    for (int i = 0; i < 20; i++) {
+                        arrayList.add(i);
+                    }
+                    assertThat(arrayList.length()).isEqualTo(20);
+                    assertThat(arrayList.get(15)).isEqualTo(15);
+                    assertThat(arrayList.get(0)).isEqualTo(0);
+                    arrayList.clear();
+                },
+                () -> {
+                    for (int i = 0; i < 20; i++) {
+                        arrayList.add(i);
+                    }
+                    arrayList.add(0, 100);
+                    arrayList.add(10, 200);
+                    for (int i = 0; i < 100; i++) {
+                        arrayList.add(i);
+                    }
+                    arrayList.add(arrayList.length(), 300);
+                    assertThat(arrayList.get(0)).isEqualTo(100);
+                    assertThat(arrayList.get(10)).isEqualTo(200);
+                    assertThat(arrayList.get(arrayList.length() - 1)).isEqualTo(300);
+                    arrayList.clear();
+                },
+                () -> {
+                    ArrayList<Integer> secondList = new ArrayList();
+                    for (int i = 0; i < 5; i++) {
+                        arrayList.add(i);
+                        secondList.add(i);
+                    }
+                    arrayList.addAll(secondList);
+                    assertThat(arrayList.length()).isEqualTo(10);
+                    assertThat(arrayList.toString()).isEqualTo("[0, 1, 2, 3, 4, 0, 1, 2, 3, 4]");
+                }
+        );
+    }
+
+    @Test
+    void rangeMethodsTest() {
+        Integer[] integers = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        ArrayList<Integer> arrayList = new ArrayList<>(integers.clone());
+        ArrayList<Integer> secondList = new ArrayList<>();
+        secondList.add(0, 100);
+        secondList.add(200);
+        arrayList.addAll(3, secondList);
+        assertThat(arrayList.toString()).isEqualTo("[0, 1, 2, 100, 200, 3, 4, 5, 6, 7, 8, 9]");
+        arrayList.addAll(arrayList.length(), secondList);
+        arrayList.addAll(0, arrayList);
+        assertThat(arrayList.length()).isEqualTo(28);
+        assertThat(arrayList.get(14)).isEqualTo(0);
+        arrayList.removeRange(0, 14);
+        arrayList.removeRange(3, 5);
+        arrayList.removeRange(10, 12);
+        arrayList.removeRange(5, 5);
+        assertThat(arrayList.toArray()).isEqualTo(integers);
+        assertThat(arrayList.subList(2, 5).toString()).isEqualTo("[2, 3, 4]");
+        assertThat(arrayList.subList(4, 4).size()).isEqualTo(0);
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.removeRange(5, 11));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.subList(6, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.addAll(11, secondList));
+        arrayList.setCapacity(4);
+        assertThat(arrayList.toString()).isEqualTo("[0, 1, 2, 3]");
+        arrayList.trimToSize();
+        arrayList.add(4);
+        assertThat(arrayList.length()).isEqualTo(5);
+    }
+
+    @Test
+    void constructorsTest() {
+        Integer[] integerArray = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        ArrayList<Integer> arrayConstructorArrayList = new ArrayList<>(integerArray);
+        ArrayList<Integer> arrayListConstructorArrayList = new ArrayList<>(arrayConstructorArrayList);
+        ArrayList<Integer> noArgsConstructorArrayList = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            noArgsConstructorArrayList.add(i);
+        }
+        int initialCapacity = 5;
+        ArrayList<Integer> initcapacityConstructorArrayList = new ArrayList<>(initialCapacity);
+        for (int i = 0; i < 5; i++) {
+            initcapacityConstructorArrayList.add(i);
+        }
+        assertThat(arrayConstructorArrayList.toArray()).isEqualTo(integerArray);
+        assertThat(arrayListConstructorArrayList.toArray()).isEqualTo(integerArray);
+        assertThat(noArgsConstructorArrayList.toArray()).isEqualTo(integerArray);
+        assertFalse(initcapacityConstructorArrayList.ensureCapacity());
+        initcapacityConstructorArrayList.add(5);
+        assertTrue(initcapacityConstructorArrayList.ensureCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new ArrayList<>(0));
+    }
+
+    @Test
+    void capacityPlanningTest() {
+        ArrayList<Integer> arrayList = new ArrayList<>(4, GrowthPolicy.additive(4));
+        for (int i = 0; i < 9; i++) {
+            arrayList.add(i);
+        }
+        assertThat(arrayList.capacity()).isEqualTo(12);
+        assertThat(arrayList.resizeCount()).isEqualTo(2);
+        assertThat(arrayList.copiedElementCount()).isEqualTo(4 + 8);
+
+        ArrayList<Integer> reserved = new ArrayList<>();
+        reserved.ensureCapacity(1000);
+        assertThat(reserved.capacity()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            reserved.add(i);
+        }
+        reserved.ensureCapacity(10);
+        assertThat(reserved.resizeCount()).isEqualTo(1);
+        assertThat(reserved.copiedElementCount()).isZero();
+        assertThat(reserved.get(999)).isEqualTo(999);
+        assertThrows(OutOfMemoryError.class, () -> reserved.ensureCapacity(Integer.MAX_VALUE));
+
+        ArrayList<Integer> lazy = new ArrayList<>();
+        ArrayList<Integer> lazyCopy = new ArrayList<>(lazy);
+        assertThat(lazy.capacity()).isZero();
+        lazy.clear();
+        lazy.add(1);
+        assertThat(lazy.capacity()).isEqualTo(16);
+        assertThat(lazy.resizeCount()).isZero();
+        assertThat(lazyCopy).isEmpty();
+        assertThat(lazyCopy.capacity()).isZero();
+
+        ArrayList<Integer> broken = new ArrayList<>(1, (capacity, minCapacity) -> capacity);
+        broken.add(0);
+        assertThrows(IllegalStateException.class, () -> broken.add(1));
+        assertThrows(NullPointerException.class, () -> new ArrayList<>(1, null));
+    }
+
+    @Test
+    void setTest() {
+        int initialCapacity = 5;
+        ArrayList<Integer> arrayList = new ArrayList<>(initialCapacity);
+        for (int i = 0; i < 5; i++) {
+            arrayList.add(i);
+            arrayList.set(i, 0);
+            assertThat(arrayList.get(i)).isEqualTo(0);
+        }
+        assertThat(arrayList.length()).isEqualTo(initialCapacity);
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.set(6, 0));
+        arrayList.add(0);
+        assertThat(arrayList.length()).isNotEqualTo(initialCapacity);
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.set(7, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.set(-1, 0));
+    }
+
+    @Test
+    void removeMethodsTest() {
+        String[] strings = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"};
+        ArrayList<String> arrayList = new ArrayList<>(strings);
+        assertThat(arrayList.remove(5)).isEqualTo("5");
+        assertThat(arrayList.toString()).isEqualTo("[0, 1, 2, 3, 4, 6, 7, 8, 9, 10]");
+        assertTrue(arrayList.remove("4"));
+        assertThat(arrayList.toString()).isEqualTo("[0, 1, 2, 3, 6, 7, 8, 9, 10]");
+        assertFalse(arrayList.remove("11"));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.remove(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.remove(-1));
+        arrayList.clear();
+        for (int i = 0; i < 10; i++) {
+            if (i % 2 == 1) {
+                arrayList.add("1");
+            } else {
+                arrayList.add("0");
+            }
+        }
+        Predicate<String> predicate = (x) -> {
+            return x.equals("1");
+        };
+        arrayList.removeIf(predicate);
+        assertThat(arrayList.toString()).isEqualTo("[0, 0, 0, 0, 0]");
+    }
+
+    @Test
+    void bulkRemoveMethodsTest() {
+        int size = 1_000_000;
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+        }
+        assertTrue(arrayList.removeIf(x -> x % 2 == 1));
+        assertFalse(arrayList.removeIf(x -> x % 2 == 1));
+        assertThat(arrayList.length()).isEqualTo(size / 2);
+        assertThat(arrayList.get(size / 2 - 1)).isEqualTo(size - 2);
+        arrayList.retainAll(Set.of(0, 2, 4, 6, 8, 10));
+        assertThat(arrayList.toString()).isEqualTo("[0, 2, 4, 6, 8, 10]");
+        assertTrue(arrayList.removeAll(Set.of(4, 8, 12)));
+        assertFalse(arrayList.removeAll(Set.of(12)));
+        assertThat(arrayList.toString()).isEqualTo("[0, 2, 6, 10]");
+        assertTrue(arrayList.removeIfAllOrNothing(x -> x > 5));
+        assertThat(arrayList.toString()).isEqualTo("[0, 2]");
+        assertThrows(NullPointerException.class, () -> arrayList.removeAll(null));
+    }
+
+    @Test
+    void removeIfThrowingFilterTest() {
+        Integer[] integers = {1, 2, 3, 4, 5, 6};
+        Predicate<Integer> throwingFilter = x -> {
+            if (x == 4) {
+                throw new IllegalStateException();
+            }
+            return x % 2 == 0;
+        };
+        ArrayList<Integer> allOrNothingList = new ArrayList<>(integers.clone());
+        assertThrows(IllegalStateException.class, () -> allOrNothingList.removeIfAllOrNothing(throwingFilter));
+        assertThat(allOrNothingList.toString()).isEqualTo("[1, 2, 3, 4, 5, 6]");
+        ArrayList<Integer> singlePassList = new ArrayList<>(integers.clone());
+        assertThrows(IllegalStateException.class, () -> singlePassList.removeIf(throwingFilter));
+        assertThat(singlePassList.toString()).isEqualTo("[1, 3, 4, 5, 6]");
+        ArrayList<Integer> empty = new ArrayList<>();
+        assertThrows(NullPointerException.class, () -> empty.removeIf(null));
+        assertThrows(NullPointerException.class, () -> empty.removeIfAllOrNothing(null));
+    }
+
+    @Test
+    void indexOfMethodsTest() {
+        Integer[] integers = {1, 2, 3, 3, 5, 6, 7, 3, 3, 10};
+        ArrayList<Integer> arrayList = new ArrayList<>(integers);
+        assertThat(arrayList.indexOf(3)).isEqualTo(2);
+        assertThat(arrayList.lastIndexOf(3)).isEqualTo(8);
+        assertThat(arrayList.indexOf(4)).isEqualTo(-1);
+        assertThat(arrayList.lastIndexOf(4)).isEqualTo(-1);
+    }
+
+    @Test
+    void snapshotTest() {
+        Integer[] integers = {5, 4, 3, 2, 1, 0};
+        ArrayList<Integer> original = new ArrayList<>(integers.clone());
+        ArrayList<Integer> snapshot = original.snapshot();
+        ArrayList<Integer> copy = new ArrayList<>(original);
+        original.set(0, 100);
+        original.add(6);
+        original.sort(Integer::compareTo);
+        assertThat(snapshot.toArray()).isEqualTo(integers);
+        assertThat(copy.toArray()).isEqualTo(integers);
+        assertThat(original.toString()).isEqualTo("[0, 1, 2, 3, 4, 6, 100]");
+
+        snapshot.remove(0);
+        snapshot.removeIf(x -> x == 2);
+        assertThat(snapshot.toString()).isEqualTo("[4, 3, 1, 0]");
+        assertThat(copy.toArray()).isEqualTo(integers);
+
+        ArrayList<Integer> second = copy.snapshot();
+        copy.clear();
+        assertThat(second.toArray()).isEqualTo(integers);
+        second.removeRange(1, 5);
+        second.add(1, 7);
+        ArrayList<Integer> third = second.snapshot();
+        second.addAll(third);
+        second.addAll(0, third);
+        assertThat(third.toString()).isEqualTo("[5, 7, 0]");
+        assertThat(second.toString()).isEqualTo("[5, 7, 0, 5, 7, 0, 5, 7, 0]");
+        assertThat(copy.length()).isZero();
+    }
+
+    @Test
+    void snapshotOwnershipTest() {
+        ArrayList<Integer> original = new ArrayList<>(new Integer[]{1, 2, 3, 4});
+        ArrayList<Integer> snapshot = original.snapshot();
+        original.set(0, 10);
+        snapshot.set(0, 20);
+        assertThat(original.copiedElementCount()).isEqualTo(4);
+        assertThat(snapshot.copiedElementCount()).isZero();
+        assertThat(original).containsExactly(10, 2, 3, 4);
+        assertThat(snapshot).containsExactly(20, 2, 3, 4);
+
+        ArrayList<Integer> first = snapshot.snapshot();
+        ArrayList<Integer> second = snapshot.snapshot();
+        first.add(5);
+        second.clear();
+        snapshot.set(1, 30);
+        assertThat(snapshot.copiedElementCount()).isZero();
+        assertThat(first).containsExactly(20, 2, 3, 4, 5);
+        assertThat(snapshot).containsExactly(20, 30, 3, 4);
+    }
+
+    @Test
+    void iterationTest() {
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            arrayList.add(i);
+        }
+        int sum = 0;
+        for (Integer element : arrayList) {
+            sum += element;
+        }
+        assertThat(sum).isEqualTo(45);
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        arrayList.forEach(visited::add);
+        assertThat(visited.toArray()).isEqualTo(arrayList.toArray());
+
+        Iterator<Integer> iterator = arrayList.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertThat(arrayList.toString()).isEqualTo("[1, 3, 5, 7, 9]");
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        Iterator<Integer> stale = arrayList.iterator();
+        arrayList.add(11);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+        assertThrows(ConcurrentModificationException.class, () -> arrayList.forEach(x -> arrayList.add(x)));
+        arrayList.removeRange(6, arrayList.length());
+        assertThrows(ConcurrentModificationException.class,
+                () -> arrayList.stream().forEach(x -> arrayList.remove(0)));
+    }
+
+    @Test
+    void streamTest() {
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            arrayList.add(i);
+        }
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.estimateSize()).isEqualTo(50_000);
+        assertThat(spliterator.estimateSize()).isEqualTo(50_000);
+        assertThat(arrayList.stream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(arrayList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(arrayList.parallelStream().filter(x -> x % 1000 == 0).toList())
+                .hasSize(100).startsWith(0, 1000).endsWith(99_000);
+        assertThat(new ArrayList<Integer>().stream().count()).isZero();
+    }
+
+    @Test
+    void indexedModeTest() {
+        Random random = new Random(3);
+        ArrayList<Integer> indexed = new ArrayList<>();
+        java.util.ArrayList<Integer> verify = new java.util.ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            indexed.add(i % 30);
+            verify.add(i % 30);
+        }
+        indexed.enableIndex();
+        assertTrue(indexed.isIndexed());
+        for (int step = 0; step < 5_000; step++) {
+            int value = random.nextInt(40);
+            int position = verify.isEmpty() ? 0 : random.nextInt(verify.size());
+            switch (random.nextInt(12)) {
+                case 0 -> {
+                    indexed.add(value);
+                    verify.add(value);
+                }
+                case 1 -> {
+                    indexed.add(position, value);
+                    verify.add(position, value);
+                }
+                case 2 -> {
+                    if (!verify.isEmpty()) {
+                        indexed.set(position, value);
+                        verify.set(position, value);
+                    }
+                }
+                case 3 -> {
+                    if (!verify.isEmpty()) {
+                        assertThat(indexed.remove(position)).isEqualTo(verify.remove(position));
+                    }
+                }
+                case 4 -> assertThat(indexed.remove(Integer.valueOf(value))).isEqualTo(verify.remove(Integer.valueOf(value)));
+                case 5 -> {
+                    Predicate<Integer> filter = x -> x % 17 == value % 17;
+                    assertThat(indexed.removeIf(filter)).isEqualTo(verify.removeIf(filter));
+                }
+                case 6 -> {
+                    indexed.sort(Comparator.reverseOrder());
+                    verify.sort(Comparator.reverseOrder());
+                }
+                case 7 -> {
+                    int to = Math.min(verify.size(), position + random.nextInt(5));
+                    indexed.removeRange(position, to);
+                    verify.subList(position, to).clear();
+                }
+                case 8 -> {
+                    ArrayList<Integer> batch = new ArrayList<>(new Integer[]{value, value + 1, value});
+                    indexed.addAll(position, batch);
+                    verify.addAll(position, List.of(value, value + 1, value));
+                }
+                case 9 -> {
+                    indexed.addAll(new ArrayList<>(new Integer[]{value, value}));
+                    verify.addAll(List.of(value, value));
+                }
+                case 10 -> {
+                    indexed.retainAll(Set.of(value, value + 1, value + 2, value + 3, value + 4, value + 5));
+                    verify.retainAll(Set.of(value, value + 1, value + 2, value + 3, value + 4, value + 5));
+                }
+                default -> {
+                    if (verify.size() > 200) {
+                        indexed.clear();
+                        verify.clear();
+                    }
+                }
+            }
+            assertThat(indexed.indexOf(value)).isEqualTo(verify.indexOf(value));
+            assertThat(indexed.lastIndexOf(value)).isEqualTo(verify.lastIndexOf(value));
+            assertThat(indexed.contains(value)).isEqualTo(verify.contains(value));
+        }
+        assertThat(indexed.toArray()).isEqualTo(verify.toArray());
+        indexed.disableIndex();
+        assertFalse(indexed.isIndexed());
+        assertThat(indexed.indexOf(5)).isEqualTo(verify.indexOf(5));
+    }
+
+    @Test
+    void batchIngestTest() {
+        Integer[] integers = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        ArrayList<Integer> copied = new ArrayList<>(integers);
+        integers[0] = -1;
+        assertThat(copied.get(0)).isEqualTo(0);
+        copied.add(10);
+        assertThat(integers).hasSize(10);
+
+        ArrayList<Integer> arrayList = new ArrayList<>(2);
+        arrayList.enableIndex();
+        arrayList.addAll(integers, 2, 5);
+        arrayList.addAll(integers);
+        arrayList.addAll(integers, 10, 0);
+        assertThat(arrayList.toArray()).isEqualTo(new Integer[]{2, 3, 4, 5, 6, -1, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+        assertThat(arrayList.resizeCount()).isEqualTo(2);
+        assertThat(arrayList.lastIndexOf(6)).isEqualTo(11);
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.addAll(integers, 8, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.addAll(integers, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> arrayList.addAll(integers, 1, Integer.MAX_VALUE));
+        assertThrows(NullPointerException.class, () -> arrayList.addAll((Integer[]) null));
+
+        ArrayList<Integer> iterated = new ArrayList<>(1);
+        ArrayList<Integer> snapshot = iterated.snapshot();
+        iterated.addAll(List.of(1, 2, 3, 4, 5).iterator());
+        iterated.addAll(Collections.<Integer>emptyIterator());
+        assertThat(iterated.toArray()).isEqualTo(new Integer[]{1, 2, 3, 4, 5});
+        assertThat(snapshot.length()).isZero();
+        Iterator<Integer> failing = Stream.iterate(0, x -> {
+            if (x == 2) {
+                throw new IllegalStateException();
+            }
+            return x + 1;
+        }).iterator();
+        assertThrows(IllegalStateException.class, () -> iterated.addAll(failing));
+        assertThat(iterated.toArray()).isEqualTo(new Integer[]{1, 2, 3, 4, 5, 0, 1, 2});
+
+        ArrayList<Integer> collected = Stream.iterate(0, x -> x + 1).limit(100_000).parallel()
+                .collect(ArrayList.collector());
+        assertThat(collected.length()).isEqualTo(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(collected.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void sortedModeTest() {
+        ArrayList<Integer> list = new ArrayList<>(new Integer[]{5, 1, 9, 3, 7});
+        assertThrows(IllegalStateException.class, () -> list.binarySearch(1));
+        list.enableSorted(null);
+        assertTrue(list.isSorted());
+        assertThat(list).containsExactly(1, 3, 5, 7, 9);
+
+        list.add(4);
+        list.add(10);
+        list.add(0);
+        assertThat(list).containsExactly(0, 1, 3, 4, 5, 7, 9, 10);
+        assertEquals(3, list.binarySearch(4));
+        assertEquals(-3, list.binarySearch(2));
+        assertEquals(-9, list.binarySearch(11));
+        assertEquals(3, list.floor(3));
+        assertEquals(5, list.floor(6));
+        assertNull(list.floor(-1));
+        assertEquals(7, list.ceiling(6));
+        assertNull(list.ceiling(11));
+        assertThat(list.range(3, 7)).containsExactly(3, 4, 5);
+        assertThat(list.range(11, 20)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> list.range(7, 3));
+
+        list.addAll(List.of(8, 2, 6, 2));
+        assertThat(list).containsExactly(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        list.addAll(new Integer[]{-5, 11, 12});
+        list.addAll(List.of(20, 30).iterator());
+        assertThat(list).containsExactly(-5, 0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 20, 30);
+        assertEquals(3, list.binarySearch(2));
+
+        list.add(1, -1);
+        list.set(0, -6);
+        list.addAll(3, List.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> list.add(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> list.set(1, 100));
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(2, List.of(1, 0)));
+        assertThrows(IllegalArgumentException.class, () -> list.subList(0, 2).add(50));
+        assertThrows(IllegalStateException.class, () -> list.sort(Comparator.reverseOrder()));
+        list.sort(null);
+        list.range(0, 10).clear();
+        assertThat(list).containsExactly(-6, -1, 10, 11, 12, 20, 30);
+        list.replaceAll(x -> -x);
+        assertThat(list).containsExactly(-30, -20, -12, -11, -10, 1, 6);
+
+        ArrayList<Integer> snapshot = list.snapshot();
+        snapshot.add(0);
+        assertThat(snapshot).containsExactly(-30, -20, -12, -11, -10, 0, 1, 6);
+
+        ArrayList<String> strings = new ArrayList<>(new String[]{"bb", "a", "ccc", "dd"});
+        strings.enableSorted(Comparator.comparingInt(String::length));
+        strings.add("ee");
+        assertThat(strings).containsExactly("a", "bb", "dd", "ee", "ccc");
+        assertEquals(1, strings.binarySearch("xx"));
+        strings.disableSorted();
+        strings.add(0, "zzzz");
+        assertEquals("zzzz", strings.get(0));
+
+        Random random = new Random(21);
+        ArrayList<Integer> sorted = new ArrayList<>();
+        sorted.enableSorted(null);
+        java.util.ArrayList<Integer> verify = new java.util.ArrayList<>();
+        for (int step = 0; step < 2_000; step++) {
+            if (random.nextInt(10) == 0) {
+                Integer[] batch = new Integer[random.nextInt(20)];
+                for (int i = 0; i < batch.length; i++) {
+                    batch[i] = random.nextInt(500);
+                }
+                sorted.addAll(batch);
+                Collections.addAll(verify, batch);
+            } else {
+                int value = random.nextInt(500);
+                sorted.add(value);
+                verify.add(value);
+            }
+            int key = random.nextInt(520) - 10;
+            Collections.sort(verify);
+            int expected = Collections.binarySearch(verify, key);
+            assertEquals(expected >= 0, sorted.binarySearch(key) >= 0);
+            if (expected >= 0) {
+                assertEquals(verify.indexOf(key), sorted.binarySearch(key));
+            } else {
+                assertEquals(expected, sorted.binarySearch(key));
+            }
+        }
+        assertEquals(verify, sorted);
+    }
+
+    @Test
+    void parallelBulkTest() {
+        Integer[] integers = new Integer[100_000];
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = i;
+        }
+        ArrayList<Integer> list = new ArrayList<>(integers);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayList<Integer> even = pool.submit(() -> list.parallelFilter(x -> (x & 1) == 0)).join();
+            assertEquals(50_000, even.length());
+            assertEquals(99_998, even.get(49_999));
+            even.add(-1);
+            assertEquals(-1, even.get(50_000));
+
+            ArrayList<String> strings = pool.submit(() -> list.parallelMap(String::valueOf)).join();
+            assertEquals("77777", strings.get(77_777));
+            assertEquals(100_000, strings.length());
+
+            long sum = pool.submit(() -> list.parallelReduce(0L, (total, x) -> total + x, Long::sum)).join();
+            assertEquals(99_999L * 100_000 / 2, sum);
+            assertEquals(99_999, pool.submit(() -> list.parallelReduce(Integer.MIN_VALUE, Math::max)).join());
+
+            LongAdder visited = new LongAdder();
+            pool.submit(() -> list.parallelForEach(visited::add)).join();
+            assertEquals(sum, visited.sum());
+
+            ArrayList<Integer> snapshot = list.snapshot();
+            pool.submit(() -> list.parallelReplaceAll(x -> x * 2)).join();
+            assertEquals(199_998, list.get(99_999));
+            assertEquals(99_999, snapshot.get(99_999));
+        } finally {
+            pool.shutdown();
+        }
+
+        ArrayList<Integer> empty = new ArrayList<>();
+        assertEquals(0, empty.parallelFilter(x -> true).length());
+        assertEquals(7, empty.parallelReduce(7, Integer::sum));
+        ArrayList<Integer> sorted = new ArrayList<>(new Integer[]{3, 1, 2});
+        sorted.enableSorted(null);
+        sorted.parallelReplaceAll(x -> -x);
+        assertThat(sorted).containsExactly(-3, -2, -1);
+        assertTrue(sorted.parallelFilter(x -> x > -3).isSorted());
+        assertThrows(NullPointerException.class, () -> sorted.parallelForEach(null));
+        assertThrows(ConcurrentModificationException.class, () -> sorted.parallelForEach(x -> sorted.add(0)));
+    }
+
+    @Test
+    void hashCodeCacheTest() {
+        ArrayList<String> list = new ArrayList<>(new String[]{"a", null, "c"});
+        assertEquals(Arrays.asList("a", null, "c").hashCode(), list.hashCode());
+        assertEquals(new ArrayList<>().hashCode(), new ArrayList<>(64).hashCode());
+
+        ArrayList<String> snapshot = list.snapshot();
+        list.set(1, "b");
+        assertEquals(List.of("a", "b", "c").hashCode(), list.hashCode());
+        assertEquals(Arrays.asList("a", null, "c").hashCode(), snapshot.hashCode());
+        list.add("d");
+        list.remove(0);
+        assertEquals(List.of("b", "c", "d").hashCode(), list.hashCode());
+        list.replaceAll(String::toUpperCase);
+        assertEquals(List.of("B", "C", "D").hashCode(), list.hashCode());
+        list.sort(Comparator.reverseOrder());
+        assertEquals(List.of("D", "C", "B").hashCode(), list.hashCode());
+        list.subList(0, 1).clear();
+        assertEquals(List.of("C", "B").hashCode(), list.hashCode());
+        list.removeIf("C"::equals);
+        assertEquals(List.of("B").hashCode(), list.hashCode());
+        list.clear();
+        assertEquals(1, list.hashCode());
+
+        ArrayList<Integer> zeroHash = new ArrayList<>();
+        zeroHash.add(-31);
+        assertEquals(0, zeroHash.hashCode());
+        assertEquals(0, zeroHash.hashCode());
+        zeroHash.add(1);
+        assertEquals(List.of(-31, 1).hashCode(), zeroHash.hashCode());
+
+        Map<ArrayList<String>, Integer> map = new HashMap<>();
+        map.put(new ArrayList<>(new String[]{"k"}), 1);
+        assertEquals(1, map.get(new ArrayList<>(new String[]{"k"})));
+    }
+
+    @Test
+    void equalsTest() {
+        Integer[] integers = {1,2,3,4,5,6,7,8,9,10};
+        ArrayList<Integer> arrayConstructorArrayList = new ArrayList<>(integers);
+        ArrayList<Integer> initCapacityConstructorArrayList = new ArrayList<>(10);
+        Object object = new Object();
+        for (int i = 1; i < 11; i++) {
+            initCapacityConstructorArrayList.add(i);
+        }
+        assertTrue(arrayConstructorArrayList.equals(initCapacityConstructorArrayList));
+        arrayConstructorArrayList.setCapacity(11);
+        arrayConstructorArrayList.add(11);
+        assertFalse(arrayConstructorArrayList.equals(initCapacityConstructorArrayList));
+        initCapacityConstructorArrayList.add(11);
+        assertTrue(arrayConstructorArrayList.equals(initCapacityConstructorArrayList));
+        assertEquals(arrayConstructorArrayList.hashCode(), initCapacityConstructorArrayList.hashCode());
+        List<Integer> jdkList = new java.util.ArrayList<>(initCapacityConstructorArrayList);
+        assertTrue(arrayConstructorArrayList.equals(jdkList));
+        assertTrue(jdkList.equals(arrayConstructorArrayList));
+        assertEquals(jdkList.hashCode(), arrayConstructorArrayList.hashCode());
+        assertFalse(arrayConstructorArrayList.equals(object));
+        initCapacityConstructorArrayList = null;
+        assertFalse(arrayConstructorArrayList.equals(initCapacityConstructorArrayList));
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircularArrayListTest {
+
+    @Test
+    void queueMethodsTest() {
+        CircularArrayList<Integer> queue = new CircularArrayList<>(4);
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+            queue.addFirst(-i);
+        }
+        assertThat(queue.length()).isEqualTo(20);
+        assertThat(queue.toString()).isEqualTo("[-9, -8, -7, -6, -5, -4, -3, -2, -1, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9]");
+        assertThat(queue.removeFirst()).isEqualTo(-9);
+        assertThat(queue.removeLast()).isEqualTo(9);
+        assertThat(queue.get(0)).isEqualTo(-8);
+        queue.clear();
+        assertThrows(NoSuchElementException.class, queue::removeFirst);
+        assertThrows(NoSuchElementException.class, queue::removeLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new CircularArrayList<>(0));
+    }
+
+    @Test
+    void randomOperationsTest() {
+        Random random = new Random(5);
+        CircularArrayList<Integer> given = new CircularArrayList<>(3);
+        java.util.ArrayList<Integer> verify = new java.util.ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(50);
+            int position = verify.isEmpty() ? 0 : random.nextInt(verify.size());
+            switch (random.nextInt(10)) {
+                case 0, 1 -> {
+                    given.add(value);
+                    verify.add(value);
+                }
+                case 2, 3 -> {
+                    given.addFirst(value);
+                    verify.add(0, value);
+                }
+                case 4 -> {
+                    int index = random.nextInt(verify.size() + 1);
+                    given.add(index, value);
+                    verify.add(index, value);
+                }
+                case 5, 6 -> {
+                    if (!verify.isEmpty()) {
+                        assertThat(given.remove(position)).isEqualTo(verify.remove(position));
+                    }
+                }
+                case 7 -> {
+                    if (!verify.isEmpty()) {
+                        given.set(position, value);
+                        verify.set(position, value);
+                    }
+                }
+                case 8 -> assertThat(given.remove(Integer.valueOf(value))).isEqualTo(verify.remove(Integer.valueOf(value)));
+                default -> {
+                    if (random.nextInt(20) == 0) {
+                        assertThat(given.removeIf(x -> x % 7 == value % 7)).isEqualTo(verify.removeIf(x -> x % 7 == value % 7));
+                    }
+                }
+            }
+            assertThat(given.length()).isEqualTo(verify.size());
+        }
+        assertThat(given.toArray()).isEqualTo(verify.toArray());
+        assertThat(given.indexOf(10)).isEqualTo(verify.indexOf(10));
+        assertThat(given.lastIndexOf(10)).isEqualTo(verify.lastIndexOf(10));
+        given.sort(Integer::compareTo);
+        verify.sort(Integer::compareTo);
+        assertThat(given.toArrayList().toArray()).isEqualTo(verify.toArray());
+    }
+
+    @Test
+    void iterationTest() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            list.removeFirst();
+            list.add(i + 6);
+        }
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        list.forEach(visited::add);
+        assertThat(visited).containsExactly(4, 5, 6, 7, 8, 9);
+        int sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        assertThat(sum).isEqualTo(39);
+        Iterator<Integer> iterator = list.iterator();
+        list.addFirst(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        list.ensureCapacity(100);
+        assertThat(list.capacity()).isEqualTo(100);
+        assertThat(list.toString()).isEqualTo("[3, 4, 5, 6, 7, 8, 9]");
+
+        CircularArrayList<Integer> broken = new CircularArrayList<>(1, (capacity, minCapacity) -> capacity);
+        broken.add(0);
+        assertThrows(IllegalStateException.class, () -> broken.add(1));
+        assertThat(broken.toString()).isEqualTo("[0]");
+    }
+
+    @Test
+    void arrayListApiTest() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            list.removeFirst();
+        }
+        assertTrue(list.addAll(java.util.List.of(6, 7, 8, 9, 10)));
+        assertFalse(list.addAll(new ArrayList<>()));
+        assertThat(list.toString()).isEqualTo("[4, 5, 6, 7, 8, 9, 10]");
+        assertTrue(list.addAll(new ArrayList<>(new Integer[]{11, 12, 13})));
+        assertThat(list.toString()).isEqualTo("[4, 5, 6, 7, 8, 9, 10, 11, 12, 13]");
+        assertThrows(NullPointerException.class, () -> list.addAll(null));
+        assertThrows(NullPointerException.class, () -> new CircularArrayList<Integer>().removeIf(null));
+
+        CircularArrayList<Integer> same = new CircularArrayList<>();
+        same.addAll(java.util.List.of(4, 5, 6, 7, 8, 9, 10, 11, 12, 13));
+        assertThat(list).isEqualTo(same);
+        assertThat(list.hashCode()).isEqualTo(java.util.List.of(4, 5, 6, 7, 8, 9, 10, 11, 12, 13).hashCode());
+        same.set(0, null);
+        assertThat(list).isNotEqualTo(same);
+        assertThat(same.hashCode()).isEqualTo(java.util.Arrays.asList(null, 5, 6, 7, 8, 9, 10, 11, 12, 13).hashCode());
+
+        list.trimToSize();
+        assertThat(list.capacity()).isEqualTo(10);
+        assertFalse(list.ensureCapacity());
+        list.setCapacity(4);
+        assertThat(list.toString()).isEqualTo("[4, 5, 6, 7]");
+        list.setCapacity(6);
+        assertTrue(list.ensureCapacity());
+        assertThrows(IllegalArgumentException.class, () -> list.setCapacity(0));
+        Comparator<Object> byString = Comparator.comparing(Object::toString);
+        list.addFirst(10);
+        list.sort(byString);
+        assertThat(list.toString()).isEqualTo("[10, 4, 5, 6, 7]");
+    }
+}
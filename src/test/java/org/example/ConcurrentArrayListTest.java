@@ -0,0 +1,129 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentArrayListTest {
+
+    @Test
+    void singleThreadOperationsTest() {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.set(1, 100);
+        assertThat(list.length()).isEqualTo(101);
+        assertThat(list.get(0)).isEqualTo(-1);
+        assertThat(list.get(1)).isEqualTo(100);
+        assertThat(list.indexOf(99)).isEqualTo(100);
+        assertThat(list.remove(0)).isEqualTo(-1);
+        assertTrue(list.remove(Integer.valueOf(100)));
+        assertTrue(list.removeIf(x -> x % 2 == 0));
+        list.sort(Comparator.reverseOrder());
+        assertThat(list.get(0)).isEqualTo(99);
+        int sum = 0;
+        for (int x : list) {
+            sum += x;
+        }
+        assertThat(sum).isEqualTo(2500);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(50));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(50));
+        assertThat(list.length()).isEqualTo(50);
+        list.clear();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void concurrentAppendsTest() throws Exception {
+        int threads = 4;
+        int perThread = 50_000;
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] writers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                writers[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        list.add(base + i);
+                    }
+                    return null;
+                });
+            }
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 20; i++) {
+                    int length = list.length();
+                    for (int j = 0; j < length; j += 997) {
+                        assertNotNull(list.get(j));
+                    }
+                    list.sort(Integer::compareTo);
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Object[] elements = list.toArray();
+        Arrays.sort(elements);
+        assertThat(elements.length).isEqualTo(threads * perThread);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(elements[i]).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void failedWriteTest() {
+        boolean[] failNext = new boolean[1];
+        boolean[] appendBeforeFailure = new boolean[1];
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>() {
+            @Override
+            void store(Object[] bucket, int offset, Object value) {
+                if (failNext[0]) {
+                    failNext[0] = false;
+                    if (appendBeforeFailure[0]) {
+                        add(-1);
+                    }
+                    throw new OutOfMemoryError("store failed");
+                }
+                super.store(bucket, offset, value);
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        failNext[0] = true;
+        assertThrows(OutOfMemoryError.class, () -> list.add(10));
+        list.add(null);
+        assertThat(list.length()).isEqualTo(11);
+        assertThat(list.get(10)).isNull();
+
+        failNext[0] = true;
+        appendBeforeFailure[0] = true;
+        assertThrows(OutOfMemoryError.class, () -> list.add(11));
+        assertThat(list.length()).isEqualTo(12);
+        assertThat(list.get(11)).isEqualTo(-1);
+        list.add(12);
+        assertThat(list.remove(0)).isEqualTo(0);
+        assertTrue(list.remove(null));
+        assertThat(list.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, -1, 12);
+    }
+}
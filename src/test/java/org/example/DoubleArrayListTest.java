@@ -0,0 +1,56 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleArrayListTest {
+
+    @Test
+    void addAndRemoveTest() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 0; i < 20; i++) {
+            list.add(i + 0.5d);
+        }
+        list.add(5, -1d);
+        assertThat(list.get(5)).isEqualTo(-1d);
+        assertThat(list.remove(5)).isEqualTo(-1d);
+        assertTrue(list.removeElement(0.5d));
+        assertTrue(list.removeIf(x -> x > 3));
+        assertThrows(NullPointerException.class, () -> new DoubleArrayList().removeIf(null));
+        assertThat(list.toString()).isEqualTo("[1.5, 2.5]");
+    }
+
+    @Test
+    void indexOfFollowsDoubleEqualsTest() {
+        DoubleArrayList list = new DoubleArrayList(new double[]{0.0d, Double.NaN, -0.0d});
+        assertThat(list.indexOf(Double.NaN)).isEqualTo(1);
+        assertThat(list.indexOf(-0.0d)).isEqualTo(2);
+        assertThat(list.lastIndexOf(0.0d)).isEqualTo(0);
+        list.sort();
+        assertThat(list.toArray()).isEqualTo(new double[]{-0.0d, 0.0d, Double.NaN});
+    }
+
+    @Test
+    void aggregatesTest() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 0; i < 1_001; i++) {
+            list.add(i - 500.0d);
+        }
+        assertThat(list.sum()).isEqualTo(0.0d);
+        assertThat(list.min()).isEqualTo(-500.0d);
+        assertThat(list.max()).isEqualTo(500.0d);
+        assertThat(list.indexOf(499.0d)).isEqualTo(999);
+        assertThat(list.countBetween(-0.5d, 2.0d)).isEqualTo(3);
+        assertThat(list.filterBetween(-1.0d, 1.0d).toArray()).isEqualTo(new double[]{-1.0d, 0.0d, 1.0d});
+        list.set(700, Double.NaN);
+        assertThat(list.indexOf(Double.NaN)).isEqualTo(700);
+        assertThat(list.min()).isNaN();
+        assertThat(list.max()).isNaN();
+        assertThat(list.countBetween(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY)).isEqualTo(1_000);
+        assertThrows(NoSuchElementException.class, () -> new DoubleArrayList().min());
+    }
+}
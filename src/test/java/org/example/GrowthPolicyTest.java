@@ -0,0 +1,44 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GrowthPolicyTest {
+
+    @Test
+    void defaultPolicyTest() {
+        assertThat(GrowthPolicy.DEFAULT.newCapacity(16, 17)).isEqualTo(25);
+        assertThat(GrowthPolicy.DEFAULT.newCapacity(10, 100)).isEqualTo(100);
+        assertThat(GrowthPolicy.DEFAULT.newCapacity(GrowthPolicy.MAX_CAPACITY - 1, GrowthPolicy.MAX_CAPACITY))
+                .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+        assertThrows(OutOfMemoryError.class, () -> GrowthPolicy.DEFAULT.newCapacity(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void geometricPolicyTest() {
+        GrowthPolicy policy = GrowthPolicy.geometric(2);
+        assertThat(policy.newCapacity(16, 17)).isEqualTo(33);
+        assertThat(policy.newCapacity(1, 2)).isEqualTo(3);
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(Double.NaN));
+    }
+
+    @Test
+    void additivePolicyTest() {
+        GrowthPolicy policy = GrowthPolicy.additive(100);
+        assertThat(policy.newCapacity(16, 17)).isEqualTo(116);
+        assertThat(policy.newCapacity(16, 500)).isEqualTo(500);
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.additive(0));
+    }
+
+    @Test
+    void boundedPolicyTest() {
+        GrowthPolicy policy = GrowthPolicy.bounded(2, 1000);
+        assertThat(policy.newCapacity(16, 17)).isEqualTo(33);
+        assertThat(policy.newCapacity(10_000, 10_001)).isEqualTo(11_000);
+        assertThat(policy.newCapacity(10_000, 20_000)).isEqualTo(20_000);
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.bounded(2, 0));
+    }
+}
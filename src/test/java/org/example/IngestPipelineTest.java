@@ -0,0 +1,46 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IngestPipelineTest {
+
+    @Test
+    void pipelineTest() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.add(-1);
+        try (IngestPipeline<Integer> pipeline = list.pipeline(64, 2)) {
+            for (int i = 0; i < 10_000; i++) {
+                pipeline.accept(Integer.parseInt(Integer.toString(i)));
+            }
+        }
+        assertThat(list.length()).isEqualTo(10_001);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(list.get(i + 1)).isEqualTo(i);
+        }
+
+        IngestPipeline<Integer> empty = list.pipeline(16, 1);
+        empty.close();
+        empty.close();
+        assertThat(list.length()).isEqualTo(10_001);
+        assertThrows(IllegalStateException.class, () -> empty.accept(1));
+        assertThrows(IllegalArgumentException.class, () -> list.pipeline(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> list.pipeline(1, 0));
+    }
+
+    @Test
+    void appenderFailureTest() {
+        ArrayList<Integer> list = new ArrayList<>(1, (capacity, minCapacity) -> capacity);
+        IngestPipeline<Integer> pipeline = list.pipeline(4, 1);
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> {
+            for (int i = 0; i < 1_000; i++) {
+                pipeline.accept(i);
+            }
+        });
+        assertThat(failure.getCause()).isInstanceOf(IllegalStateException.class);
+        assertThrows(IllegalStateException.class, pipeline::close);
+        assertThat(list.length()).isZero();
+    }
+}
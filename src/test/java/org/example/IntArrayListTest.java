@@ -0,0 +1,112 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntArrayListTest {
+
+    @Test
+    void addMethodsTest() {
+        IntArrayList list = new IntArrayList(2);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        list.add(0, 100);
+        list.add(10, 200);
+        list.add(list.length(), 300);
+        assertThat(list.length()).isEqualTo(23);
+        assertThat(list.get(0)).isEqualTo(100);
+        assertThat(list.get(10)).isEqualTo(200);
+        assertThat(list.get(22)).isEqualTo(300);
+        IntArrayList empty = new IntArrayList();
+        empty.add(0, 7);
+        empty.addAll(list);
+        assertThat(empty.length()).isEqualTo(24);
+        assertThat(empty.get(1)).isEqualTo(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(24, 0));
+        assertThrows(NullPointerException.class, () -> list.addAll(null));
+    }
+
+    @Test
+    void getSetTest() {
+        IntArrayList list = new IntArrayList(new int[]{1, 2, 3});
+        assertThat(list.set(1, 5)).isEqualTo(2);
+        assertThat(list.get(1)).isEqualTo(5);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+    }
+
+    @Test
+    void removeMethodsTest() {
+        IntArrayList list = new IntArrayList(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        assertThat(list.remove(5)).isEqualTo(5);
+        assertThat(list.toString()).isEqualTo("[0, 1, 2, 3, 4, 6, 7, 8, 9, 10]");
+        assertTrue(list.removeElement(4));
+        assertFalse(list.removeElement(11));
+        assertThat(list.toString()).isEqualTo("[0, 1, 2, 3, 6, 7, 8, 9, 10]");
+        assertTrue(list.removeIf(x -> x % 2 == 1));
+        assertThrows(NullPointerException.class, () -> new IntArrayList().removeIf(null));
+        assertFalse(list.removeIf(x -> x > 100));
+        assertThat(list.toArray()).isEqualTo(new int[]{0, 2, 6, 8, 10});
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(5));
+    }
+
+    @Test
+    void indexOfAndSortTest() {
+        IntArrayList list = new IntArrayList(new int[]{3, 1, 3, 2});
+        assertThat(list.indexOf(3)).isEqualTo(0);
+        assertThat(list.lastIndexOf(3)).isEqualTo(2);
+        assertThat(list.indexOf(4)).isEqualTo(-1);
+        assertTrue(list.contains(2));
+        list.sort();
+        assertThat(list.toArray()).isEqualTo(new int[]{1, 2, 3, 3});
+    }
+
+    @Test
+    void equalsAndHashCodeTest() {
+        IntArrayList first = new IntArrayList(new int[]{1, 2, 3});
+        IntArrayList second = new IntArrayList(100);
+        second.add(1);
+        second.add(2);
+        second.add(3);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        IntArrayList copy = new IntArrayList(first);
+        copy.set(0, 9);
+        assertNotEquals(first, copy);
+        assertThat(first.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    void aggregatesTest() {
+        IntArrayList list = new IntArrayList();
+        long sum = 0;
+        for (int i = 0; i < 1_003; i++) {
+            int element = (i * 7_919) % 2_000 - 1_000;
+            list.add(element);
+            sum += element;
+        }
+        list.add(Integer.MAX_VALUE);
+        list.add(Integer.MAX_VALUE);
+        assertThat(list.sum()).isEqualTo(sum + 2L * Integer.MAX_VALUE);
+        assertThat(list.min()).isEqualTo(-1_000);
+        assertThat(list.max()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(list.indexOf(Integer.MAX_VALUE)).isEqualTo(1_003);
+        IntArrayList filtered = list.filterBetween(-10, 10);
+        assertThat(filtered.length()).isEqualTo(list.countBetween(-10, 10)).isPositive();
+        int previous = -1;
+        for (int i = 0; i < filtered.length(); i++) {
+            int position = list.indexOf(filtered.get(i));
+            assertThat(filtered.get(i)).isBetween(-10, 10);
+            assertThat(position).isGreaterThan(previous);
+            previous = position;
+        }
+        assertThat(list.countBetween(10, -10)).isZero();
+        assertThat(list.filterBetween(5_000, 6_000).length()).isZero();
+        assertThrows(NoSuchElementException.class, () -> new IntArrayList().min());
+    }
+}
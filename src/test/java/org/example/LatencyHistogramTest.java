@@ -0,0 +1,45 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void bucketsTest() {
+        long previous = -1;
+        for (int bucket = 0; bucket < 488; bucket++) {
+            long highest = LatencyHistogram.highestValue(bucket);
+            assertThat(highest).isGreaterThan(previous);
+            assertThat(LatencyHistogram.bucket(previous + 1)).isEqualTo(bucket);
+            assertThat(LatencyHistogram.bucket(highest)).isEqualTo(bucket);
+            assertThat(highest - previous - 1).isLessThanOrEqualTo((previous + 1) / 8);
+            previous = highest;
+        }
+        assertThat(previous).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.valueAtPercentile(99)).isZero();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        histogram.record(-5);
+        assertThat(histogram.count()).isEqualTo(1_001);
+        assertThat(histogram.max()).isEqualTo(1_000_000);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000);
+        assertThat(histogram.valueAtPercentile(0)).isZero();
+        assertThat(histogram.valueAtPercentile(50)).isBetween(500_000L, 500_000L + 500_000L / 8);
+        assertThat(histogram.valueAtPercentile(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(histogram.mean()).isCloseTo(500_500_000.0 / 1_001, within(1e-6));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+        histogram.reset();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.valueAtPercentile(50)).isZero();
+    }
+}
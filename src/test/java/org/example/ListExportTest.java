@@ -0,0 +1,168 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListExportTest {
+
+    @Test
+    void textFormatTest() {
+        StringBuilder json = new StringBuilder();
+        for (Object element : new Object[]{null, true, 7, -3L, 1.5, Double.NaN, "a\"b\\c\n\u0001", 'x'}) {
+            TextFormat.JSON.append(element, json);
+            json.append(' ');
+        }
+        assertThat(json.toString()).isEqualTo("null true 7 -3 1.5 \"NaN\" \"a\\\"b\\\\c\\n\\u0001\" \"x\" ");
+
+        StringBuilder csv = new StringBuilder();
+        TextFormat.CSV.append(null, csv);
+        TextFormat.CSV.append("plain", csv);
+        TextFormat.CSV.append("a,\"b\"", csv);
+        assertThat(csv.toString()).isEqualTo("\r\nplain\r\n\"a,\"\"b\"\"\"\r\n");
+
+        TextFormat<int[]> pairs = TextFormat.csv(pair -> new Object[]{pair[0], pair[1]}, "x", "y, z");
+        assertThat(pairs.prefix()).isEqualTo("x,\"y, z\"\r\n");
+        StringBuilder record = new StringBuilder();
+        pairs.append(new int[]{1, 2}, record);
+        assertThat(record.toString()).isEqualTo("1,2\r\n");
+    }
+
+    @Test
+    void textExportTest() throws IOException {
+        for (int size : new int[]{0, 1, ListExport.CHUNK_ELEMENTS, 3 * ListExport.CHUNK_ELEMENTS + 5, 70_000}) {
+            ArrayList<String> given = new ArrayList<>();
+            StringBuilder verify = new StringBuilder("[");
+            for (int i = 0; i < size; i++) {
+                String element = i % 1000 == 7 ? null : "эл😀" + i;
+                given.add(element);
+                verify.append(i > 0 ? "," : "").append(element == null ? "null" : "\"" + element + "\"");
+            }
+            verify.append(']');
+
+            StringBuilder builder = new StringBuilder();
+            given.exportTo(builder, TextFormat.JSON);
+            assertThat(builder.toString()).isEqualTo(verify.toString());
+
+            StringWriter writer = new StringWriter();
+            given.exportTo(writer, TextFormat.JSON);
+            assertThat(writer.toString()).isEqualTo(verify.toString());
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            given.exportTo(Channels.newChannel(bytes), TextFormat.JSON);
+            assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo(verify.toString());
+        }
+    }
+
+    @Test
+    void bufferBoundTest() throws IOException {
+        ArrayList<String> given = new ArrayList<>();
+        String element = "x".repeat(1000);
+        for (int i = 0; i < 2 * ListExport.CHUNK_ELEMENTS; i++) {
+            given.add(element);
+        }
+        int[] largestWrite = new int[1];
+        StringBuilder written = new StringBuilder();
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                largestWrite[0] = Math.max(largestWrite[0], length);
+                written.append(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        given.exportTo(writer, TextFormat.CSV);
+        assertThat(largestWrite[0]).isLessThan(ListExport.BUFFER_SIZE + element.length() + 16);
+        assertThat(written.length()).isEqualTo(given.size() * (element.length() + 2));
+
+        ArrayList<Integer> modified = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            modified.add(i);
+        }
+        TextFormat<Integer> growing = (value, target) -> {
+            if (value == 5) {
+                modified.add(value);
+            }
+            target.append(value);
+        };
+        assertThrows(ConcurrentModificationException.class, () -> modified.exportTo(new StringBuilder(), growing));
+        assertThrows(ConcurrentModificationException.class,
+                () -> modified.parallelExportTo(Channels.newChannel(new ByteArrayOutputStream()), growing));
+    }
+
+    @Test
+    void binaryExportTest() throws IOException {
+        ArrayList<String> given = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            given.add(i % 100 == 0 ? null : "строка " + i);
+        }
+        given.add("x".repeat(100_000));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        given.exportTo(Channels.newChannel(bytes), ElementCodec.STRING);
+
+        ByteBuffer source = ByteBuffer.wrap(bytes.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(source.getInt()).isEqualTo(given.size());
+        for (String element : given) {
+            int length = source.getInt();
+            if (element == null) {
+                assertThat(length).isEqualTo(-1);
+                continue;
+            }
+            assertThat(ElementCodec.STRING.decode(source, source.position(), length)).isEqualTo(element);
+            source.position(source.position() + length);
+        }
+        assertThat(source.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void parallelExportTest() throws IOException {
+        ArrayList<Integer> given = new ArrayList<>();
+        for (int i = 0; i < 100_003; i++) {
+            given.add(i % 777 == 0 ? null : i);
+        }
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        given.exportTo(Channels.newChannel(text), TextFormat.CSV);
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        given.exportTo(Channels.newChannel(binary), ElementCodec.INT);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ByteArrayOutputStream parallelText = new ByteArrayOutputStream();
+            ByteArrayOutputStream parallelBinary = new ByteArrayOutputStream();
+            pool.submit(() -> {
+                given.parallelExportTo(Channels.newChannel(parallelText), TextFormat.CSV);
+                given.parallelExportTo(Channels.newChannel(parallelBinary), ElementCodec.INT);
+                return null;
+            }).join();
+            assertThat(parallelText.toByteArray()).isEqualTo(text.toByteArray());
+            assertThat(parallelBinary.toByteArray()).isEqualTo(binary.toByteArray());
+        } finally {
+            pool.shutdown();
+        }
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        given.parallelExportTo(Channels.newChannel(sequential), TextFormat.CSV);
+        assertThat(sequential.toByteArray()).isEqualTo(text.toByteArray());
+
+        assertThrows(NullPointerException.class, () -> given.exportTo((Appendable) null, TextFormat.JSON));
+        assertThrows(NullPointerException.class, () -> given.exportTo(new StringBuilder(), null));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListMetricsTest {
+
+    @Test
+    void countersTest() {
+        ArrayList<Integer> list = new ArrayList<>(4);
+        ListMetrics metrics = list.enableMetrics("countersTest");
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.remove(1);
+        list.remove(Integer.valueOf(9));
+        assertThat(list.indexOf(5)).isEqualTo(5);
+        assertThat(list.lastIndexOf(42)).isEqualTo(-1);
+        list.removeRange(0, 2);
+
+        assertThat(metrics.getAddCount()).isEqualTo(10);
+        assertThat(metrics.getInsertCount()).isEqualTo(1);
+        assertThat(metrics.getRemoveCount()).isEqualTo(3);
+        assertThat(metrics.getShiftedElements()).isEqualTo(10 + 9 + 0 + 7);
+        assertThat(metrics.getSearchCount()).isEqualTo(3);
+        assertThat(metrics.getScannedElements()).isEqualTo(10 + 6 + 9);
+        assertThat(metrics.getResizeCount()).isEqualTo(list.resizeCount());
+        assertThat(metrics.getCopiedElements()).isEqualTo(list.copiedElementCount());
+        assertThat(metrics.shiftLatency().count()).isEqualTo(4);
+        assertThat(metrics.searchLatency().count()).isEqualTo(3);
+        assertThat(metrics.resizeLatency().count()).isEqualTo(list.resizeCount());
+
+        metrics.reset();
+        assertThat(metrics.getAddCount()).isZero();
+        assertThat(list.snapshot().metrics()).isNull();
+        list.disableMetrics();
+        list.add(1);
+        assertThat(metrics.getAddCount()).isZero();
+        assertThat(list.metrics()).isNull();
+    }
+
+    @Test
+    void jmxTest() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ArrayList<String> list = new ArrayList<>();
+        ListMetrics metrics = list.enableMetrics("jmx \"test\"");
+        list.add("a");
+        list.add(0, "b");
+        assertThat(server.isRegistered(metrics.objectName())).isTrue();
+        assertThat(server.getAttribute(metrics.objectName(), "InsertCount")).isEqualTo(1L);
+        assertThat(server.getAttribute(metrics.objectName(), "ShiftedElements")).isEqualTo(1L);
+        assertThrows(IllegalArgumentException.class, () -> new ArrayList<String>().enableMetrics("jmx \"test\""));
+        server.invoke(metrics.objectName(), "reset", null, null);
+        assertThat(metrics.getInsertCount()).isZero();
+        list.disableMetrics();
+        assertThat(server.isRegistered(metrics.objectName())).isFalse();
+        assertThrows(NullPointerException.class, () -> list.enableMetrics(null));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListPoolTest {
+
+    @Test
+    void leaseReuseTest() {
+        ListPool pool = new ListPool(2, 1 << 10, 0);
+        ArrayList<Integer> first;
+        try (ListPool.Lease<Integer> lease = pool.acquire()) {
+            first = lease.list();
+            for (int i = 0; i < 100; i++) {
+                first.add(i);
+            }
+            first.enableSorted(Comparator.naturalOrder());
+            first.enableIndex();
+            lease.close();
+            assertThrows(IllegalStateException.class, lease::list);
+        }
+        assertThat(pool.pooledCount()).isEqualTo(1);
+        assertThat(first).isEmpty();
+        assertThat(first.isSorted()).isFalse();
+        assertThat(first.isIndexed()).isFalse();
+
+        try (ListPool.Lease<String> small = pool.acquire(10); ListPool.Lease<String> large = pool.acquire(100)) {
+            assertThat(small.list()).isNotSameAs(first);
+            assertThat((Object) large.list()).isSameAs(first);
+            assertThat(large.list().capacity()).isGreaterThanOrEqualTo(100);
+            assertThat(small.list().capacity()).isGreaterThanOrEqualTo(10);
+        }
+        assertThat(pool.reuseCount()).isEqualTo(1);
+        assertThat(pool.pooledCount()).isEqualTo(2);
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ListPool(0, 16, 0));
+    }
+
+    @Test
+    void sizeClassTrimTest() {
+        ListPool pool = new ListPool(1, 1 << 10, 0);
+        try (ListPool.Lease<Integer> huge = pool.acquire(1 << 11);
+             ListPool.Lease<Integer> first = pool.acquire(200);
+             ListPool.Lease<Integer> second = pool.acquire(200)) {
+            huge.list().add(1);
+            first.list().add(1);
+            second.list().add(1);
+        }
+        assertThat(pool.pooledCount()).isEqualTo(1);
+        assertThat(pool.discardCount()).isEqualTo(2);
+
+        try (ListPool.Lease<Integer> tiny = pool.acquire(1)) {
+            assertThat(pool.reuseCount()).isZero();
+            assertThat(tiny.list().capacity()).isLessThan(200);
+        }
+        ListPool retained = new ListPool(1, Integer.MAX_VALUE, 0);
+        try (ListPool.Lease<Integer> large = retained.acquire(1 << 12)) {
+            large.list().add(1);
+        }
+        try (ListPool.Lease<Integer> any = retained.acquire()) {
+            assertThat(any.list().capacity()).isEqualTo(1 << 12);
+        }
+        try (ListPool.Lease<Integer> medium = pool.acquire(100)) {
+            assertThat(pool.reuseCount()).isEqualTo(1);
+            assertThat(medium.list().capacity()).isEqualTo(200);
+        }
+        pool.trim();
+        assertThat(pool.pooledCount()).isZero();
+    }
+
+    @Test
+    void arenaTest() {
+        ListPool pool = new ListPool(4, 1 << 10, 0);
+        ArrayList<String> names;
+        try (ListPool.Arena arena = pool.arena()) {
+            names = arena.list();
+            ArrayList<Integer> ids = arena.list(50);
+            names.add("a");
+            ids.add(1);
+            assertThat(ids.capacity()).isGreaterThanOrEqualTo(50);
+        }
+        assertThat(names).isEmpty();
+        assertThat(pool.pooledCount()).isEqualTo(3);
+
+        ListPool.Arena closed = pool.arena();
+        closed.close();
+        closed.close();
+        assertThrows(IllegalStateException.class, closed::list);
+        assertThat(ListPool.local()).isSameAs(ListPool.local());
+    }
+
+    @Test
+    void leakDetectionTest() throws InterruptedException {
+        ListPool pool = new ListPool(4, 1 << 10, 1);
+        try (ListPool.Lease<Integer> closed = pool.acquire()) {
+            closed.list().add(1);
+        }
+        leak(pool);
+        for (int i = 0; i < 100 && pool.leakCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(pool.leakCount()).isEqualTo(1);
+        assertThat(pool.lastLeak().getStackTrace()).anyMatch(frame -> frame.getMethodName().equals("leak"));
+    }
+
+    private static void leak(ListPool pool) {
+        pool.acquire().list().add(1);
+    }
+}
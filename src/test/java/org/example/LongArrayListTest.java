@@ -0,0 +1,56 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongArrayListTest {
+
+    @Test
+    void addAndRemoveTest() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 0; i < 20; i++) {
+            list.add(i * 10_000_000_000L);
+        }
+        list.add(0, -1L);
+        assertThat(list.length()).isEqualTo(21);
+        assertThat(list.get(20)).isEqualTo(190_000_000_000L);
+        assertThat(list.remove(0)).isEqualTo(-1L);
+        assertTrue(list.removeElement(10_000_000_000L));
+        assertTrue(list.removeIf(x -> x >= 100_000_000_000L));
+        assertThrows(NullPointerException.class, () -> new LongArrayList().removeIf(null));
+        assertThat(list.toString()).isEqualTo("[0, 20000000000, 30000000000, 40000000000, 50000000000, "
+                + "60000000000, 70000000000, 80000000000, 90000000000]");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(9));
+    }
+
+    @Test
+    void indexOfAndSortTest() {
+        LongArrayList list = new LongArrayList(new long[]{Long.MAX_VALUE, 1L, Long.MIN_VALUE, 1L});
+        assertThat(list.indexOf(1L)).isEqualTo(1);
+        assertThat(list.lastIndexOf(1L)).isEqualTo(3);
+        list.sort();
+        assertThat(list.toArray()).isEqualTo(new long[]{Long.MIN_VALUE, 1L, 1L, Long.MAX_VALUE});
+        assertEquals(list, new LongArrayList(list));
+    }
+
+    @Test
+    void aggregatesTest() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 0; i < 1_001; i++) {
+            list.add(i * 10_000_000_000L);
+        }
+        list.set(500, Long.MIN_VALUE);
+        assertThat(list.sum()).isEqualTo(500_500L * 10_000_000_000L - 5_000_000_000_000L + Long.MIN_VALUE);
+        assertThat(list.min()).isEqualTo(Long.MIN_VALUE);
+        assertThat(list.max()).isEqualTo(10_000_000_000_000L);
+        assertThat(list.indexOf(Long.MIN_VALUE)).isEqualTo(500);
+        assertThat(list.countBetween(0L, 99 * 10_000_000_000L)).isEqualTo(100);
+        assertThat(list.filterBetween(9_990_000_000_000L, Long.MAX_VALUE).toArray())
+                .isEqualTo(new long[]{9_990_000_000_000L, 10_000_000_000_000L});
+        assertThrows(NoSuchElementException.class, () -> new LongArrayList().max());
+    }
+}
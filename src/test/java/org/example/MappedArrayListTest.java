@@ -0,0 +1,138 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedArrayListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fixedWidthRoundTripTest() throws IOException {
+        Path file = directory.resolve("longs.bin");
+        ArrayList<Long> arrayList = new ArrayList<>();
+        for (long i = 0; i < 100_000; i++) {
+            arrayList.add(i * i);
+        }
+        arrayList.writeTo(file, ElementCodec.LONG);
+        MappedArrayList<Long> mapped = MappedArrayList.open(file, ElementCodec.LONG);
+        assertThat(mapped.length()).isEqualTo(100_000);
+        assertThat(mapped.get(99_999)).isEqualTo(99_999L * 99_999L);
+        assertThat(mapped.toArrayList().toArray()).isEqualTo(arrayList.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(100_000));
+        assertThrows(IOException.class, () -> MappedArrayList.open(file, ElementCodec.INT));
+    }
+
+    @Test
+    void stringRoundTripTest() throws IOException {
+        Path file = directory.resolve("strings.bin");
+        String[] strings = {"", "ascii", "кириллица", null, "😀 emoji", "x".repeat(100_000)};
+        new ArrayList<>(strings).writeTo(file, ElementCodec.STRING);
+        MappedArrayList<String> mapped = MappedArrayList.open(file, ElementCodec.STRING);
+        for (int i = 0; i < strings.length; i++) {
+            assertThat(mapped.get(i)).isEqualTo(strings[i]);
+        }
+    }
+
+    @Test
+    void userTypeRoundTripTest() throws IOException {
+        record Point(int x, int y) {
+        }
+        ElementCodec<Point> codec = new ElementCodec.FixedWidth<>(2 * Integer.BYTES) {
+            @Override
+            public void encode(Point element, ByteBuffer target) {
+                target.putInt(element.x()).putInt(element.y());
+            }
+
+            @Override
+            public Point decode(ByteBuffer source, int offset, int length) {
+                return new Point(source.getInt(offset), source.getInt(offset + Integer.BYTES));
+            }
+        };
+        Path file = directory.resolve("points.bin");
+        ArrayList<Point> arrayList = new ArrayList<>();
+        arrayList.add(new Point(1, 2));
+        arrayList.add(new Point(-3, 4));
+        arrayList.writeTo(file, codec);
+        assertThat(MappedArrayList.open(file, codec).get(1)).isEqualTo(new Point(-3, 4));
+        arrayList.add(null);
+        assertThrows(NullPointerException.class, () -> arrayList.writeTo(file, codec));
+    }
+
+    @Test
+    void corruptedFileTest() throws IOException {
+        Path file = directory.resolve("corrupted.bin");
+        new ArrayList<>(new String[]{"a", null, "bc"}).writeTo(file, ElementCodec.STRING);
+        byte[] valid = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(valid, valid.length - 1));
+        assertThrows(IOException.class, () -> MappedArrayList.open(file, ElementCodec.STRING));
+        for (int[] field : new int[][]{{12, -1}, {12, 1000}, {16, 8}, {16, valid.length + 1}, {24, 0}, {24, valid.length}}) {
+            byte[] corrupted = valid.clone();
+            ByteBuffer header = ByteBuffer.wrap(corrupted).order(ByteOrder.LITTLE_ENDIAN);
+            if (field[0] == 12) {
+                header.putInt(field[0], field[1]);
+            } else {
+                header.putLong(field[0], field[1]);
+            }
+            Files.write(file, corrupted);
+            assertThrows(IOException.class, () -> MappedArrayList.open(file, ElementCodec.STRING));
+        }
+
+        ArrayList<Long> longs = new ArrayList<>();
+        longs.add(1L);
+        longs.add(2L);
+        longs.writeTo(file, ElementCodec.LONG);
+        byte[] truncated = Arrays.copyOf(Files.readAllBytes(file), MappedArrayList.HEADER_SIZE + Long.BYTES);
+        Files.write(file, truncated);
+        assertThrows(IOException.class, () -> MappedArrayList.open(file, ElementCodec.LONG));
+    }
+
+    @Test
+    void fileSizeLimitTest() throws IOException {
+        ElementCodec<byte[]> huge = new ElementCodec<>() {
+            @Override
+            public int fixedWidth() {
+                return -1;
+            }
+
+            @Override
+            public int encodedSize(byte[] element) {
+                return Integer.MAX_VALUE - 8;
+            }
+
+            @Override
+            public void encode(byte[] element, ByteBuffer target) {
+                throw new AssertionError("The element has to be rejected before encoding");
+            }
+
+            @Override
+            public byte[] decode(ByteBuffer source, int offset, int length) {
+                throw new AssertionError();
+            }
+        };
+        Path file = directory.resolve("huge.bin");
+        ArrayList<byte[]> arrayList = new ArrayList<>();
+        arrayList.add(new byte[0]);
+        assertThrows(IOException.class, () -> arrayList.writeTo(file, huge));
+        assertThat(Files.size(file)).isLessThan(MappedArrayList.HEADER_SIZE + 1);
+
+        ArrayList<Long> longs = new ArrayList<>(new Long[]{1L});
+        Path fixed = directory.resolve("fixed.bin");
+        assertThrows(IOException.class, () -> MappedArrayList.write(new Object[]{1L}, Integer.MAX_VALUE / 4, fixed, ElementCodec.LONG));
+        assertThat(Files.exists(fixed)).isFalse();
+        longs.writeTo(fixed, ElementCodec.LONG);
+        assertThat(MappedArrayList.open(fixed, ElementCodec.LONG).get(0)).isEqualTo(1L);
+    }
+}
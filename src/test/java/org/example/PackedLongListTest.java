@@ -0,0 +1,98 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PackedLongListTest {
+
+    private static long[] generate(int size, IntToLongFunction generator) {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = generator.applyAsLong(i);
+        }
+        return values;
+    }
+
+    @Test
+    void roundTripTest() {
+        Random random = new Random(24);
+        long[] jitter = {0};
+        IntToLongFunction[] generators = {
+                i -> 5,
+                i -> 1_000_000L + 3L * i,
+                i -> 1_700_000_000_000L + 10L * i + random.nextInt(7) - 3,
+                i -> random.nextLong(),
+                i -> i % 2 == 0 ? Long.MIN_VALUE : Long.MAX_VALUE,
+                i -> jitter[0] += random.nextInt(1 << 20) - 1000,
+        };
+        for (IntToLongFunction generator : generators) {
+            for (int size : new int[]{0, 1, 2, 127, 128, 129, 10_000}) {
+                long[] values = generate(size, generator);
+                PackedLongList packed = PackedLongList.pack(values);
+                assertThat(packed.length()).isEqualTo(size);
+                assertThat(packed.toArray()).isEqualTo(values);
+                for (int i = 0; i < size; i += 1 + i / 10) {
+                    assertThat(packed.get(i)).isEqualTo(values[i]);
+                }
+                LongArrayList verify = new LongArrayList(values);
+                assertThat(packed.sum()).isEqualTo(verify.sum());
+                assertThat(packed.toLongArrayList()).isEqualTo(verify);
+                assertThat(packed.hashCode()).isEqualTo(verify.hashCode());
+                assertThat(packed.toString()).isEqualTo(verify.toString());
+                assertThat(packed).isEqualTo(PackedLongList.pack(verify));
+                if (size > 0) {
+                    assertThat(packed.min()).isEqualTo(verify.min());
+                    assertThat(packed.max()).isEqualTo(verify.max());
+                    long from = values[size / 3];
+                    long to = values[size / 2];
+                    assertThat(packed.countBetween(Math.min(from, to), Math.max(from, to)))
+                            .isEqualTo(verify.countBetween(Math.min(from, to), Math.max(from, to)));
+                    assertThat(packed.indexOf(values[size - 1])).isEqualTo(verify.indexOf(values[size - 1]));
+                }
+            }
+        }
+    }
+
+    @Test
+    void compressionTest() {
+        PackedLongList ids = PackedLongList.pack(generate(100_000, i -> 1_000_000L + 2L * i + (i % 3)));
+        assertThat(ids.sizeInBytes()).isLessThan(100_000L);
+        PackedLongList constant = PackedLongList.pack(generate(100_000, i -> 42));
+        assertThat(constant.sizeInBytes()).isLessThan(100_000L / 2);
+        assertThat(constant.countBetween(42, 42)).isEqualTo(100_000);
+        assertThat(constant.indexOf(41)).isEqualTo(-1);
+        assertThat(constant.contains(42)).isTrue();
+    }
+
+    @Test
+    void arrayListConversionTest() {
+        ArrayList<Integer> given = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            given.add(i * i);
+        }
+        PackedLongList packed = PackedLongList.pack(given);
+        assertThat(packed.get(999)).isEqualTo(998_001L);
+        assertThat(packed.toArrayList(value -> (int) value)).isEqualTo(given);
+        assertThat(packed.toArrayList().get(10)).isEqualTo(100L);
+
+        ArrayList<Number> invalid = new ArrayList<>();
+        invalid.add(1);
+        invalid.add(1.5);
+        assertThrows(IllegalArgumentException.class, () -> PackedLongList.pack(invalid));
+        invalid.set(1, null);
+        assertThrows(NullPointerException.class, () -> PackedLongList.pack(invalid));
+        assertThrows(NullPointerException.class, () -> PackedLongList.pack((ArrayList<Long>) null));
+
+        PackedLongList empty = PackedLongList.pack(new long[0]);
+        assertThrows(NoSuchElementException.class, empty::min);
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> packed.get(-1));
+        assertThat(empty.toString()).isEqualTo("[]");
+    }
+}
@@ -0,0 +1,73 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelBulkTest {
+
+    @Test
+    void filterTest() {
+        Random random = new Random(22);
+        Predicate<Integer> filter = x -> x % 3 == 0;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int size : new int[]{0, 1, 63, 64, 65, 1_000, 100_003}) {
+                Integer[] given = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    given[i] = random.nextInt(1_000);
+                }
+                Object[] verify = Arrays.stream(given).filter(filter).toArray();
+                for (int threshold : new int[]{1, 100, 1 << 12}) {
+                    Object[] actual = pool.submit(() -> ParallelBulk.filter(given, size, filter, threshold)).join();
+                    assertThat(actual).isEqualTo(verify);
+                }
+                assertThat(ParallelBulk.filter(given, size, filter, 1)).isEqualTo(verify);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void mapReduceForEachTest() {
+        Integer[] given = new Integer[50_001];
+        for (int i = 0; i < given.length; i++) {
+            given[i] = i;
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Object[] mapped = new Object[given.length];
+            pool.submit(() -> ParallelBulk.map(given, mapped, given.length, (Function<Integer, String>) String::valueOf, 100)).join();
+            assertThat(mapped[12_345]).isEqualTo("12345");
+
+            long sum = pool.submit(() -> ParallelBulk.<Integer, Long>reduce(given, given.length, 0L,
+                    (total, x) -> total + x, Long::sum, 100)).join();
+            assertThat(sum).isEqualTo(50_000L * 50_001 / 2);
+
+            LongAdder visited = new LongAdder();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            pool.submit(() -> ParallelBulk.<Integer>forEach(given, given.length, x -> {
+                visited.add(x);
+                threads.add(Thread.currentThread());
+            }, 100)).join();
+            assertThat(visited.sum()).isEqualTo(sum);
+            assertThat(threads).allMatch(thread -> thread.getName().startsWith("ForkJoinPool"));
+
+            pool.submit(() -> ParallelBulk.replaceAll(given, given.length, (Integer x) -> -x, 100)).join();
+            assertThat(given[50_000]).isEqualTo(-50_000);
+            assertThat(given[0]).isEqualTo(0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
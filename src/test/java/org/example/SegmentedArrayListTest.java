@@ -0,0 +1,111 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SegmentedArrayListTest {
+
+    private static final int CHUNK = SegmentedArrayList.CHUNK_SIZE;
+
+    @Test
+    void growthTest() {
+        SegmentedArrayList<Integer> list = new SegmentedArrayList<>();
+        for (int i = 0; i < 20 * CHUNK + 5; i++) {
+            list.add(i);
+        }
+        assertThat(list.length()).isEqualTo(20 * CHUNK + 5);
+        assertThat(list.capacity()).isEqualTo(21 * CHUNK);
+        assertThat(list.get(CHUNK - 1)).isEqualTo(CHUNK - 1);
+        assertThat(list.get(CHUNK)).isEqualTo(CHUNK);
+        assertThat(list.indexOf(7 * CHUNK + 3)).isEqualTo(7 * CHUNK + 3);
+        assertThat(list.contains(-1)).isFalse();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(20 * CHUNK + 5));
+        list.clear();
+        assertThat(list.length()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void shiftingMethodsTest() {
+        Random random = new Random(9);
+        SegmentedArrayList<Integer> given = new SegmentedArrayList<>();
+        java.util.ArrayList<Integer> verify = new java.util.ArrayList<>();
+        for (int i = 0; i < 3 * CHUNK; i++) {
+            given.add(i);
+            verify.add(i);
+        }
+        for (int step = 0; step < 2_000; step++) {
+            int index = random.nextInt(verify.size() + 1);
+            if (random.nextBoolean() || verify.isEmpty()) {
+                given.add(index, -step);
+                verify.add(index, -step);
+            } else {
+                index = Math.min(index, verify.size() - 1);
+                assertThat(given.remove(index)).isEqualTo(verify.remove(index));
+            }
+        }
+        for (int index : new int[]{0, CHUNK - 1, CHUNK, verify.size() - 1, verify.size()}) {
+            given.add(index, 42);
+            verify.add(index, 42);
+        }
+        assertThat(given.toArray()).isEqualTo(verify.toArray());
+        given.sort(Integer::compareTo);
+        verify.sort(Integer::compareTo);
+        assertThat(given.toArray()).isEqualTo(verify.toArray());
+    }
+
+    @Test
+    void snapshotTest() {
+        SegmentedArrayList<Integer> original = new SegmentedArrayList<>();
+        for (int i = 0; i < 4 * CHUNK; i++) {
+            original.add(i);
+        }
+        SegmentedArrayList<Integer> snapshot = original.snapshot();
+        original.set(0, -1);
+        original.add(-2);
+        original.remove(CHUNK);
+        snapshot.set(3 * CHUNK, -3);
+        assertThat(snapshot.length()).isEqualTo(4 * CHUNK);
+        assertThat(snapshot.get(0)).isEqualTo(0);
+        assertThat(snapshot.get(CHUNK)).isEqualTo(CHUNK);
+        assertThat(snapshot.get(3 * CHUNK)).isEqualTo(-3);
+        assertThat(original.get(0)).isEqualTo(-1);
+        assertThat(original.get(CHUNK)).isEqualTo(CHUNK + 1);
+        assertThat(original.get(3 * CHUNK - 1)).isEqualTo(3 * CHUNK);
+        assertThat(original.get(4 * CHUNK - 1)).isEqualTo(-2);
+
+        SegmentedArrayList<Integer> second = snapshot.snapshot();
+        snapshot.clear();
+        assertThat(second.get(3 * CHUNK)).isEqualTo(-3);
+        second.add(0, 5);
+        assertThat(second.get(0)).isEqualTo(5);
+        assertThat(original.get(0)).isEqualTo(-1);
+    }
+
+    @Test
+    void iterationTest() {
+        SegmentedArrayList<Integer> list = new SegmentedArrayList<>();
+        long verify = 0;
+        for (int i = 0; i < 2 * CHUNK + 1; i++) {
+            list.add(i);
+            verify += i;
+        }
+        long[] sum = {0};
+        list.forEach(x -> sum[0] += x);
+        assertThat(sum[0]).isEqualTo(verify);
+        long iterated = 0;
+        for (Integer element : list) {
+            iterated += element;
+        }
+        assertThat(iterated).isEqualTo(verify);
+        Iterator<Integer> iterator = list.iterator();
+        list.add(0);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SorterTest {
+
+    private final Comparator<Integer> comparator = Integer::compareTo;
+
+    @Test
+    void introSortRandomDataTest() {
+        Random random = new Random(7);
+        for (int size : new int[]{0, 1, 2, 24, 25, 129, 10_000}) {
+            Integer[] given = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                given[i] = random.nextInt(size / 4 + 1);
+            }
+            Integer[] verify = given.clone();
+            Arrays.sort(verify);
+            Sorter.introSort(given, 0, size, comparator);
+            assertThat(given).isEqualTo(verify);
+        }
+    }
+
+    @Test
+    void heapSortTest() {
+        Integer[] given = {5, 3, 9, 1, 1, 7, 0, 8, 2, 6, 4};
+        Sorter.heapSort(given, 2, given.length, comparator);
+        assertThat(given).isEqualTo(new Integer[]{5, 3, 0, 1, 1, 2, 4, 6, 7, 8, 9});
+    }
+
+    @Test
+    void mergeSortRangeTest() {
+        Random random = new Random(11);
+        Integer[] given = new Integer[5_000];
+        for (int i = 0; i < given.length; i++) {
+            given[i] = random.nextInt(100);
+        }
+        Integer[] verify = given.clone();
+        Arrays.sort(verify, 100, 4_900);
+        Sorter.mergeSort(given, 100, 4_900, comparator);
+        assertThat(given).isEqualTo(verify);
+    }
+
+    @Test
+    void parallelSortTest() {
+        Random random = new Random(13);
+        Integer[] given = new Integer[100_000];
+        for (int i = 0; i < given.length; i++) {
+            given[i] = random.nextInt(1_000);
+        }
+        Integer[] verify = given.clone();
+        Arrays.sort(verify, 10, 99_990);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> Sorter.parallelSort(given, 10, 99_990, comparator, 1)).join();
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(given).isEqualTo(verify);
+    }
+}
@@ -0,0 +1,276 @@
+package org.example;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация {@link PrimitiveKernels} на Vector API. Ширина вектора берется из предпочтительной формы платформы
+ * ({@code SPECIES_PREFERRED}) и ограничивается ключом JVM {@code -XX:MaxVectorSize}. Основной цикл обрабатывает
+ * {@code loopBound(size)} элементов целыми векторами, хвост дорабатывает {@link ScalarKernels}.
+ * <p>
+ * Сумма {@code double} складывается по линиям, поэтому может отличаться от последовательной в младших разрядах
+ */
+final class VectorKernels implements PrimitiveKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * {@code null}, если платформа не поддерживает векторы хотя бы в 128 бит: программная эмуляция
+     * Vector API медленнее скалярного цикла
+     */
+    static final VectorKernels INSTANCE =
+            VectorShape.preferredShape().vectorBitSize() >= 128 ? new VectorKernels() : null;
+
+    private VectorKernels() {
+    }
+
+    /**
+     * @return количество линий {@code int} в векторе
+     */
+    static int intLanes() {
+        return INTS.length();
+    }
+
+    @Override
+    public int indexOf(int[] array, int size, int value) {
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INTS, array, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarKernels.indexOf(array, i, size, value);
+    }
+
+    @Override
+    public int indexOf(long[] array, int size, long value) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            VectorMask<Long> found = LongVector.fromArray(LONGS, array, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarKernels.indexOf(array, i, size, value);
+    }
+
+    @Override
+    public int indexOf(double[] array, int size, double value) {
+        if (Double.isNaN(value)) {
+            // NaN с разными битами равны друг другу, побитовое сравнение здесь не подходит
+            return ScalarKernels.indexOf(array, 0, size, value);
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            VectorMask<Long> found = DoubleVector.fromArray(DOUBLES, array, i).reinterpretAsLongs().eq(bits);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarKernels.indexOf(array, i, size, value);
+    }
+
+    @Override
+    public long sum(int[] array, int size) {
+        // C2 сам векторизует скалярный цикл с расширением до long, явное преобразование I2L по частям медленнее
+        return ScalarKernels.INSTANCE.sum(array, size);
+    }
+
+    @Override
+    public long sum(long[] array, int size) {
+        LongVector sum = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            sum = sum.add(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    @Override
+    public double sum(double[] array, int size) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    @Override
+    public int min(int[] array, int size) {
+        IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            min = min.min(IntVector.fromArray(INTS, array, i));
+        }
+        int result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long min(long[] array, int size) {
+        LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double min(double[] array, int size) {
+        // MIN над double повторяет Math.min: NaN поглощает остальные значения, -0.0 меньше 0.0
+        DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int max(int[] array, int size) {
+        IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, array, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long max(long[] array, int size) {
+        LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] array, int size) {
+        DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int countBetween(int[] array, int size, int from, int to) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, array, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LE, to)).trueCount();
+        }
+        return count + ScalarKernels.countBetween(array, i, size, from, to);
+    }
+
+    @Override
+    public int countBetween(long[] array, int size, long from, long to) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            LongVector vector = LongVector.fromArray(LONGS, array, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LE, to)).trueCount();
+        }
+        return count + ScalarKernels.countBetween(array, i, size, from, to);
+    }
+
+    @Override
+    public int countBetween(double[] array, int size, double from, double to) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, array, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LE, to)).trueCount();
+        }
+        return count + ScalarKernels.countBetween(array, i, size, from, to);
+    }
+
+    @Override
+    public int filterBetween(int[] array, int size, int from, int to, int[] target) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, array, i);
+            VectorMask<Integer> matches = vector.compare(VectorOperators.GE, from)
+                    .and(vector.compare(VectorOperators.LE, to));
+            // подходящие элементы сдвигаются в начало вектора, остаток перезапишется следующей записью.
+            // count <= i, поэтому запись целого вектора не выходит за size
+            vector.compress(matches).intoArray(target, count);
+            count += matches.trueCount();
+        }
+        return ScalarKernels.filterBetween(array, i, size, from, to, target, count);
+    }
+
+    @Override
+    public int filterBetween(long[] array, int size, long from, long to, long[] target) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            LongVector vector = LongVector.fromArray(LONGS, array, i);
+            VectorMask<Long> matches = vector.compare(VectorOperators.GE, from)
+                    .and(vector.compare(VectorOperators.LE, to));
+            vector.compress(matches).intoArray(target, count);
+            count += matches.trueCount();
+        }
+        return ScalarKernels.filterBetween(array, i, size, from, to, target, count);
+    }
+
+    @Override
+    public int filterBetween(double[] array, int size, double from, double to, double[] target) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, array, i);
+            VectorMask<Double> matches = vector.compare(VectorOperators.GE, from)
+                    .and(vector.compare(VectorOperators.LE, to));
+            vector.compress(matches).intoArray(target, count);
+            count += matches.trueCount();
+        }
+        return ScalarKernels.filterBetween(array, i, size, from, to, target, count);
+    }
+}
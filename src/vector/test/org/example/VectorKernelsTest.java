@@ -0,0 +1,96 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VectorKernelsTest {
+
+    private final PrimitiveKernels scalar = ScalarKernels.INSTANCE;
+    private final PrimitiveKernels vector = VectorKernels.INSTANCE;
+
+    @Test
+    void activeKernelsTest() {
+        assertThat(vector).isNotNull();
+        assertThat(PrimitiveKernels.ACTIVE).isSameAs(vector);
+    }
+
+    @Test
+    void intKernelsTest() {
+        Random random = new Random(16);
+        for (int size = 1; size <= 4 * VectorKernels.intLanes() + 3; size++) {
+            int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(64) - 32 + (random.nextInt(8) == 0 ? Integer.MAX_VALUE : 0);
+            }
+            int value = array[random.nextInt(size)];
+            assertThat(vector.indexOf(array, size, value)).isEqualTo(scalar.indexOf(array, size, value));
+            assertThat(vector.indexOf(array, size, 1_000)).isEqualTo(-1);
+            assertThat(vector.sum(array, size)).isEqualTo(scalar.sum(array, size));
+            assertThat(vector.min(array, size)).isEqualTo(scalar.min(array, size));
+            assertThat(vector.max(array, size)).isEqualTo(scalar.max(array, size));
+            assertThat(vector.countBetween(array, size, -8, 8)).isEqualTo(scalar.countBetween(array, size, -8, 8));
+            int[] expected = new int[size];
+            int[] actual = new int[size];
+            int count = scalar.filterBetween(array, size, -8, 8, expected);
+            assertThat(vector.filterBetween(array, size, -8, 8, actual)).isEqualTo(count);
+            assertThat(Arrays.copyOf(actual, count)).isEqualTo(Arrays.copyOf(expected, count));
+        }
+    }
+
+    @Test
+    void longKernelsTest() {
+        Random random = new Random(17);
+        for (int size = 1; size <= 4 * VectorKernels.intLanes() + 3; size++) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextLong();
+            }
+            long value = array[random.nextInt(size)];
+            assertThat(vector.indexOf(array, size, value)).isEqualTo(scalar.indexOf(array, size, value));
+            assertThat(vector.sum(array, size)).isEqualTo(scalar.sum(array, size));
+            assertThat(vector.min(array, size)).isEqualTo(scalar.min(array, size));
+            assertThat(vector.max(array, size)).isEqualTo(scalar.max(array, size));
+            assertThat(vector.countBetween(array, size, 0L, Long.MAX_VALUE))
+                    .isEqualTo(scalar.countBetween(array, size, 0L, Long.MAX_VALUE));
+            long[] expected = new long[size];
+            long[] actual = new long[size];
+            int count = scalar.filterBetween(array, size, 0L, Long.MAX_VALUE, expected);
+            assertThat(vector.filterBetween(array, size, 0L, Long.MAX_VALUE, actual)).isEqualTo(count);
+            assertThat(Arrays.copyOf(actual, count)).isEqualTo(Arrays.copyOf(expected, count));
+        }
+    }
+
+    @Test
+    void doubleKernelsTest() {
+        Random random = new Random(18);
+        for (int size = 1; size <= 4 * VectorKernels.intLanes() + 3; size++) {
+            double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(16) - 8;
+            }
+            array[random.nextInt(size)] = -0.0d;
+            double value = array[random.nextInt(size)];
+            assertThat(vector.indexOf(array, size, value)).isEqualTo(scalar.indexOf(array, size, value));
+            assertThat(vector.indexOf(array, size, 0.0d)).isEqualTo(scalar.indexOf(array, size, 0.0d));
+            assertThat(vector.sum(array, size)).isEqualTo(scalar.sum(array, size));
+            assertThat(Double.doubleToLongBits(vector.min(array, size)))
+                    .isEqualTo(Double.doubleToLongBits(scalar.min(array, size)));
+            assertThat(vector.max(array, size)).isEqualTo(scalar.max(array, size));
+            assertThat(vector.countBetween(array, size, -2.5d, 2.5d)).isEqualTo(scalar.countBetween(array, size, -2.5d, 2.5d));
+            double[] expected = new double[size];
+            double[] actual = new double[size];
+            int count = scalar.filterBetween(array, size, -2.5d, 2.5d, expected);
+            assertThat(vector.filterBetween(array, size, -2.5d, 2.5d, actual)).isEqualTo(count);
+            assertThat(Arrays.copyOf(actual, count)).isEqualTo(Arrays.copyOf(expected, count));
+
+            array[size - 1] = Double.longBitsToDouble(0x7ff8_0000_0000_0001L);
+            assertThat(vector.indexOf(array, size, Double.NaN)).isEqualTo(size - 1);
+            assertThat(vector.min(array, size)).isNaN();
+            assertThat(vector.max(array, size)).isNaN();
+        }
+    }
+}